@@ -3,10 +3,16 @@ package com.example.tyfserver.admin.controller;
 import com.example.tyfserver.admin.dto.*;
 import com.example.tyfserver.admin.service.AdminService;
 import com.example.tyfserver.auth.dto.TokenResponse;
+import com.example.tyfserver.donation.dto.BulkDonationRequest;
+import com.example.tyfserver.donation.dto.BulkDonationResponse;
+import com.example.tyfserver.donation.exception.DonationRequestException;
+import com.example.tyfserver.donation.service.BulkDonationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import javax.validation.Valid;
 import java.util.List;
 
 @RestController
@@ -15,6 +21,7 @@ import java.util.List;
 public class AdminController {
 
     private final AdminService adminService;
+    private final BulkDonationService bulkDonationService;
 
     @GetMapping("/list/exchange")
     public ResponseEntity<List<ExchangeResponse>> exchangeList() {
@@ -51,6 +58,21 @@ public class AdminController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/donations/bulk")
+    public ResponseEntity<BulkDonationResponse> bulkDonations(@Valid @RequestBody BulkDonationRequest request,
+                                                              BindingResult result) {
+        if (result.hasErrors()) {
+            throw new DonationRequestException();
+        }
+        return ResponseEntity.ok(bulkDonationService.createDonations(request));
+    }
+
+    @PostMapping("/tokens/revoke")
+    public ResponseEntity<Void> revokeToken(@RequestBody TokenRevocationRequest request) {
+        adminService.revokeToken(request.getToken());
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping("/login")
     public ResponseEntity<TokenResponse> login(@RequestBody AdminLoginRequest adminLoginRequest) {
         return ResponseEntity.ok(adminService.login(adminLoginRequest));
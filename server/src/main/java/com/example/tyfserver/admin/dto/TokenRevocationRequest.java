@@ -0,0 +1,16 @@
+package com.example.tyfserver.admin.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TokenRevocationRequest {
+
+    private String token;
+
+    public TokenRevocationRequest(String token) {
+        this.token = token;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.tyfserver.admin.exception;
+
+import com.example.tyfserver.common.exception.BaseException;
+
+public class NotAdminException extends BaseException {
+
+    public static final String ERROR_CODE = "admin-004";
+    private static final String MESSAGE = "관리자 토큰이 필요한 요청입니다.";
+
+    public NotAdminException() {
+        super(ERROR_CODE, MESSAGE);
+    }
+}
@@ -13,6 +13,7 @@ import com.example.tyfserver.common.util.Aes256Util;
 import com.example.tyfserver.common.util.SmtpMailConnector;
 import com.example.tyfserver.donation.domain.Donation;
 import com.example.tyfserver.donation.repository.DonationRepository;
+import com.example.tyfserver.donation.service.CreatorPointSummaryService;
 import com.example.tyfserver.member.domain.Account;
 import com.example.tyfserver.member.domain.Exchange;
 import com.example.tyfserver.member.domain.ExchangeStatus;
@@ -21,6 +22,7 @@ import com.example.tyfserver.member.dto.ExchangeAmountDto;
 import com.example.tyfserver.member.exception.MemberNotFoundException;
 import com.example.tyfserver.member.repository.ExchangeRepository;
 import com.example.tyfserver.member.repository.MemberRepository;
+import com.example.tyfserver.member.service.CurationLeaderboard;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -45,10 +47,13 @@ public class AdminService {
     private final AdminAccount adminAccount;
     private final AuthenticationService authenticationService;
     private final Aes256Util aes256Util;
+    private final CreatorPointSummaryService creatorPointSummaryService;
+    private final CurationLeaderboard curationLeaderboard;
 
     public void approveAccount(Long memberId) {
         Member member = findMember(memberId);
         member.approveAccount();
+        curationLeaderboard.register(member.getId());
         smtpMailConnector.sendAccountApprove(member.getEmail());
     }
 
@@ -102,6 +107,7 @@ public class AdminService {
 
         exchange.toApproved();
         donations.forEach(Donation::toExchanged);
+        creatorPointSummaryService.exchange(member.getId(), exchange.getExchangeAmount());
 
         mailConnector.sendExchangeApprove(member.getEmail());
     }
@@ -154,6 +160,10 @@ public class AdminService {
         return new TokenResponse(token);
     }
 
+    public void revokeToken(String token) {
+        authenticationService.revokeToken(token);
+    }
+
     @Scheduled(cron = "0 0 0 1 * *")
     public void updateExchangeAmount() {
         List<ExchangeAmountDto> exchangeAmountDtos = exchangeRepository.calculateExchangeAmountFromDonation(YearMonth.now());
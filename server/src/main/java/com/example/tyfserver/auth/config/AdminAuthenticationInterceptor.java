@@ -0,0 +1,37 @@
+package com.example.tyfserver.auth.config;
+
+import com.example.tyfserver.admin.domain.AdminAccount;
+import com.example.tyfserver.admin.exception.NotAdminException;
+import com.example.tyfserver.auth.dto.TokenClaims;
+import com.example.tyfserver.auth.service.AuthenticationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Objects;
+
+/**
+ * 다른 회원의 포인트나 토큰을 다루는 관리자 요청은 회원 토큰으로는 실행하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminAuthenticationInterceptor implements HandlerInterceptor {
+
+    private final AuthenticationService authenticationService;
+    private final AdminAccount adminAccount;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if ("OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+
+        TokenClaims claims = VerifiedTokenClaims.resolve(request, authenticationService);
+        if (!Objects.equals(adminAccount.getId(), claims.getAdminId())) {
+            throw new NotAdminException();
+        }
+        return true;
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.tyfserver.auth.config;
 
 import com.example.tyfserver.auth.service.AuthenticationService;
-import com.example.tyfserver.auth.util.AuthorizationExtractor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -21,8 +20,7 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
             return true;
         }
 
-        String token = AuthorizationExtractor.extract(request);
-        authenticationService.validateToken(token);
+        VerifiedTokenClaims.resolve(request, authenticationService);
         return true;
     }
 }
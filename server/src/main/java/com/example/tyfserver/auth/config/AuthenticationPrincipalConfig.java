@@ -16,17 +16,21 @@ public class AuthenticationPrincipalConfig implements WebMvcConfigurer {
     private final AuthenticationArgumentResolver authenticationArgumentResolver;
     private final RefundAuthenticationArgumentResolver refundAuthenticationArgumentResolver;
     private final AuthenticationInterceptor authenticationInterceptor;
+    private final AdminAuthenticationInterceptor adminAuthenticationInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(authenticationInterceptor)
-                .excludePathPatterns("/admin/login")
+                .excludePathPatterns("/admin/login", "/payments/webhook")
                 .addPathPatterns("/members/me", "/members/me/point", "/members/profile", "/members/me/bio",
                         "/members/me/nickname", "/members/me/detailedPoint", "/members/me/account", "/members/me/exchange")
                 .addPathPatterns("payments/**")
-                .addPathPatterns("donations/", "donations/*/messages", "/donations/me")
+                .addPathPatterns("donations/", "donations/*/messages", "/donations/me", "/donations/me/cursor")
                 .addPathPatterns("/banners", "/banners/me")
                 .addPathPatterns("/admin", "/admin/**");
+        registry.addInterceptor(adminAuthenticationInterceptor)
+                .excludePathPatterns("/admin/login")
+                .addPathPatterns("/admin", "/admin/**");
     }
 
     @Override
@@ -0,0 +1,24 @@
+package com.example.tyfserver.auth.config;
+
+import com.example.tyfserver.auth.domain.Oauth2Type;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConstructorBinding
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties("oauth2-client")
+public class Oauth2ClientProperties {
+
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    // 응답을 받은 뒤 회원 조회와 토큰 발급을 이어서 처리하는 스레드 수
+    private final int threads;
+    // 제공자마다 동시에 진행할 수 있는 로그인 수. 넘치면 기다리지 않고 바로 거절한다.
+    private final Map<Oauth2Type, Integer> maxConcurrentCalls;
+}
@@ -5,19 +5,27 @@ import com.example.tyfserver.auth.domain.KakaoOauth2;
 import com.example.tyfserver.auth.domain.NaverOauth2;
 import com.example.tyfserver.auth.domain.Oauth2Type;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import javax.annotation.PostConstruct;
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @RequiredArgsConstructor
-@EnableConfigurationProperties(value = {GoogleOauth2.class, KakaoOauth2.class, NaverOauth2.class})
+@EnableConfigurationProperties(value = {GoogleOauth2.class, KakaoOauth2.class, NaverOauth2.class,
+        Oauth2ClientProperties.class})
 public class Oauth2Config {
 
     private final GoogleOauth2 googleOauth2;
     private final KakaoOauth2 kakaoOauth2;
     private final NaverOauth2 naverOauth2;
+    private final Oauth2ClientProperties oauth2ClientProperties;
 
     @PostConstruct
     public void inject() {
@@ -33,4 +41,19 @@ public class Oauth2Config {
             }
         }
     }
+
+    @Bean(name = "oauth2ClientExecutor")
+    public ThreadPoolExecutor oauth2ClientExecutor() {
+        return (ThreadPoolExecutor) Executors.newFixedThreadPool(oauth2ClientProperties.getThreads(),
+                new CustomizableThreadFactory("oauth2-client-executor"));
+    }
+
+    // 요청을 보내고 기다리는 동안 스레드를 잡지 않는 비동기 클라이언트. 응답 처리만 oauth2ClientExecutor 에서 한다.
+    @Bean(name = "oauth2HttpClient")
+    public HttpClient oauth2HttpClient(@Qualifier("oauth2ClientExecutor") ThreadPoolExecutor oauth2ClientExecutor) {
+        return HttpClient.newBuilder()
+                .connectTimeout(oauth2ClientProperties.getConnectTimeout())
+                .executor(oauth2ClientExecutor)
+                .build();
+    }
 }
@@ -2,7 +2,6 @@ package com.example.tyfserver.auth.config;
 
 import com.example.tyfserver.auth.dto.VerifiedRefunder;
 import com.example.tyfserver.auth.service.AuthenticationService;
-import com.example.tyfserver.auth.util.AuthorizationExtractor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
@@ -28,7 +27,6 @@ public class RefundAuthenticationArgumentResolver implements HandlerMethodArgume
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-        String token = AuthorizationExtractor.extract(request);
-        return authenticationService.createVerifiedRefundRequestByToken(token);
+        return authenticationService.createVerifiedRefunder(VerifiedTokenClaims.resolve(request, authenticationService));
     }
 }
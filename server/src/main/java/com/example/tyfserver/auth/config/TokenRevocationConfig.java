@@ -0,0 +1,25 @@
+package com.example.tyfserver.auth.config;
+
+import com.example.tyfserver.auth.service.TokenRevocationService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@EnableConfigurationProperties(TokenRevocationProperties.class)
+public class TokenRevocationConfig {
+
+    // 다른 서버에서 폐기한 토큰 id 를 받아 이 서버의 블룸 필터에 더한다.
+    @Bean
+    public RedisMessageListenerContainer tokenRevocationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                          TokenRevocationService tokenRevocationService,
+                                                                          TokenRevocationProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(tokenRevocationService, new ChannelTopic(properties.getChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.tyfserver.auth.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConstructorBinding
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties("jwt.revocation")
+public class TokenRevocationProperties {
+
+    // 만료되지 않은 폐기 토큰 수가 이보다 많아지면 오탐률이 올라가 Redis 조회가 늘어난다.
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final String channel;
+}
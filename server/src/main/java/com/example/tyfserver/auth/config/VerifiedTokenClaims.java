@@ -0,0 +1,31 @@
+package com.example.tyfserver.auth.config;
+
+import com.example.tyfserver.auth.dto.TokenClaims;
+import com.example.tyfserver.auth.service.AuthenticationService;
+import com.example.tyfserver.auth.util.AuthorizationExtractor;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 요청마다 토큰을 한 번만 검증하도록, 검증한 클레임을 요청 속성에 담아 인터셉터와 ArgumentResolver 가 나눠 쓴다.
+ * 인터셉터가 걸리지 않는 경로에서는 ArgumentResolver 가 처음 검증하고 담는다.
+ */
+final class VerifiedTokenClaims {
+
+    static final String ATTRIBUTE = VerifiedTokenClaims.class.getName();
+
+    private VerifiedTokenClaims() {
+    }
+
+    static TokenClaims resolve(HttpServletRequest request, AuthenticationService authenticationService) {
+        Object verified = request.getAttribute(ATTRIBUTE);
+        if (verified instanceof TokenClaims) {
+            return (TokenClaims) verified;
+        }
+
+        String token = AuthorizationExtractor.extract(request);
+        TokenClaims claims = authenticationService.verifyToken(token);
+        request.setAttribute(ATTRIBUTE, claims);
+        return claims;
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/oauth2")
@@ -22,18 +23,17 @@ public class Oauth2Controller {
     private final Oauth2Service oauth2Service;
 
     @GetMapping("/login/{oauth}")
-    public ResponseEntity<TokenResponse> login(@PathVariable String oauth, @RequestParam String code) {
-        return ResponseEntity.ok(
-                oauth2Service.login(Oauth2Request.generateLoginInfoFrom(oauth), code)
-        );
+    public CompletableFuture<ResponseEntity<TokenResponse>> login(@PathVariable String oauth,
+                                                                  @RequestParam String code) {
+        return oauth2Service.login(Oauth2Request.generateLoginInfoFrom(oauth), code)
+                .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/signup/ready/{oauth}")
-    public ResponseEntity<SignUpReadyResponse> readySignUp(@PathVariable String oauth, @RequestParam String code) {
-
-        return ResponseEntity.ok(
-                oauth2Service.readySignUp(Oauth2Request.generateSignUpInfoFrom(oauth), code)
-        );
+    public CompletableFuture<ResponseEntity<SignUpReadyResponse>> readySignUp(@PathVariable String oauth,
+                                                                              @RequestParam String code) {
+        return oauth2Service.readySignUp(Oauth2Request.generateSignUpInfoFrom(oauth), code)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/signup")
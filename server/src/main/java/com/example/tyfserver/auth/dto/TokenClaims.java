@@ -0,0 +1,27 @@
+package com.example.tyfserver.auth.dto;
+
+import lombok.Getter;
+
+@Getter
+public class TokenClaims {
+
+    private Long id;
+    private String adminId;
+    private String email;
+    private String merchantUid;
+    private String tokenId;
+    private Long expiration;
+
+    public TokenClaims(Long id, String email, String merchantUid, String tokenId, Long expiration) {
+        this(id, null, email, merchantUid, tokenId, expiration);
+    }
+
+    public TokenClaims(Long id, String adminId, String email, String merchantUid, String tokenId, Long expiration) {
+        this.id = id;
+        this.adminId = adminId;
+        this.email = email;
+        this.merchantUid = merchantUid;
+        this.tokenId = tokenId;
+        this.expiration = expiration;
+    }
+}
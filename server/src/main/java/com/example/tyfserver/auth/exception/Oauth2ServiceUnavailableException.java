@@ -0,0 +1,13 @@
+package com.example.tyfserver.auth.exception;
+
+import com.example.tyfserver.common.exception.BaseException;
+
+public class Oauth2ServiceUnavailableException extends BaseException {
+
+    public static final String ERROR_CODE = "auth-008";
+    private static final String MESSAGE = "로그인 요청이 많아 잠시 후 다시 시도해야 합니다.";
+
+    public Oauth2ServiceUnavailableException() {
+        super(ERROR_CODE, MESSAGE);
+    }
+}
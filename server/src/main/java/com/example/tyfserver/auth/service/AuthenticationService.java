@@ -1,8 +1,9 @@
 package com.example.tyfserver.auth.service;
 
-import com.example.tyfserver.auth.dto.IdAndEmail;
 import com.example.tyfserver.auth.dto.LoginMember;
+import com.example.tyfserver.auth.dto.TokenClaims;
 import com.example.tyfserver.auth.dto.VerifiedRefunder;
+import com.example.tyfserver.auth.exception.InvalidTokenException;
 import com.example.tyfserver.auth.util.JwtTokenProvider;
 import com.example.tyfserver.member.domain.Member;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class AuthenticationService {
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     public String createToken(Member member) {
         return jwtTokenProvider.createToken(member.getId(), member.getEmail());
@@ -25,17 +27,31 @@ public class AuthenticationService {
         return jwtTokenProvider.createAdminToken(id);
     }
 
-    public LoginMember createLoginMemberByToken(String token) {
-        IdAndEmail idAndEmail = jwtTokenProvider.findIdAndEmailFromToken(token);
-        return new LoginMember(idAndEmail.getId(), idAndEmail.getEmail());
+    // 관리자 토큰이나 환불 토큰처럼 회원 id 가 없는 토큰으로는 회원 API 를 호출할 수 없다.
+    public LoginMember createLoginMember(TokenClaims claims) {
+        if (claims.getId() == null) {
+            throw new InvalidTokenException();
+        }
+        return new LoginMember(claims.getId(), claims.getEmail());
     }
 
-    public VerifiedRefunder createVerifiedRefundRequestByToken(String token) {
-        String merchantUid = jwtTokenProvider.findMerchantUidFromToken(token);
-        return new VerifiedRefunder(merchantUid);
+    public VerifiedRefunder createVerifiedRefunder(TokenClaims claims) {
+        return new VerifiedRefunder(claims.getMerchantUid());
+    }
+
+    public TokenClaims verifyToken(String token) {
+        TokenClaims claims = jwtTokenProvider.verify(token);
+        if (tokenRevocationService.isRevoked(claims)) {
+            throw new InvalidTokenException();
+        }
+        return claims;
     }
 
     public void validateToken(String token) {
-        jwtTokenProvider.validateToken(token);
+        verifyToken(token);
+    }
+
+    public void revokeToken(String token) {
+        tokenRevocationService.revoke(token);
     }
 }
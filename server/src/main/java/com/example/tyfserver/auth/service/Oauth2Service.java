@@ -8,6 +8,8 @@ import com.example.tyfserver.auth.exception.AlreadyRegisteredException;
 import com.example.tyfserver.auth.exception.AlreadyRegisteredInSameOauth2TypeException;
 import com.example.tyfserver.auth.exception.UnregisteredMemberException;
 import com.example.tyfserver.auth.util.Oauth2ServiceConnector;
+import com.example.tyfserver.donation.domain.CreatorPointSummary;
+import com.example.tyfserver.donation.repository.CreatorPointSummaryRepository;
 import com.example.tyfserver.member.domain.Account;
 import com.example.tyfserver.member.domain.Member;
 import com.example.tyfserver.member.dto.SignUpReadyResponse;
@@ -16,8 +18,11 @@ import com.example.tyfserver.member.repository.AccountRepository;
 import com.example.tyfserver.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -27,29 +32,37 @@ public class Oauth2Service {
     private final MemberRepository memberRepository;
     private final AuthenticationService authenticationService;
     private final Oauth2ServiceConnector oauth2ServiceConnector;
+    private final CreatorPointSummaryRepository creatorPointSummaryRepository;
 
-    public TokenResponse login(final Oauth2Request oauth2Request, final String code) {
-        final String email = oauth2ServiceConnector.getEmailFromOauth2(oauth2Request, code);
-
-        Member findMember = memberRepository.findByEmailAndOauth2Type(email, Oauth2Type.findOauth2Type(oauth2Request.getType()))
-                .orElseThrow(UnregisteredMemberException::new);
+    // 제공자 응답을 기다리는 동안 트랜잭션과 커넥션을 잡지 않도록 여기서는 트랜잭션을 열지 않는다.
+    // 이메일을 받은 뒤의 조회는 응답을 처리한 스레드에서 이어서 한다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CompletableFuture<TokenResponse> login(final Oauth2Request oauth2Request, final String code) {
+        final Oauth2Type oauth2Type = Oauth2Type.findOauth2Type(oauth2Request.getType());
 
-        return new TokenResponse(authenticationService.createToken(findMember));
+        return oauth2ServiceConnector.getEmailFromOauth2(oauth2Request, code)
+                .thenApply(email -> {
+                    Member findMember = memberRepository.findByEmailAndOauth2Type(email, oauth2Type)
+                            .orElseThrow(UnregisteredMemberException::new);
+                    return new TokenResponse(authenticationService.createToken(findMember));
+                });
     }
 
-    public SignUpReadyResponse readySignUp(final Oauth2Request oauth2Request, final String code) {
-        final String email = oauth2ServiceConnector.getEmailFromOauth2(oauth2Request, code);
-
-        memberRepository.findByEmail(email)
-                .ifPresent(member -> validateRegisteredMember(oauth2Request.getType(), member));
-
-        return new SignUpReadyResponse(email, oauth2Request.getType());
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CompletableFuture<SignUpReadyResponse> readySignUp(final Oauth2Request oauth2Request, final String code) {
+        return oauth2ServiceConnector.getEmailFromOauth2(oauth2Request, code)
+                .thenApply(email -> {
+                    memberRepository.findByEmail(email)
+                            .ifPresent(member -> validateRegisteredMember(oauth2Request.getType(), member));
+                    return new SignUpReadyResponse(email, oauth2Request.getType());
+                });
     }
 
     public SignUpResponse signUp(SignUpRequest signUpRequest) {
         Member member = signUpRequest.toMember();
         Member savedMember = memberRepository.save(member);
         savedMember.addInitialAccount(accountRepository.save(new Account()));
+        creatorPointSummaryRepository.save(new CreatorPointSummary(savedMember.getId()));
 
         return new SignUpResponse(authenticationService.createToken(savedMember), savedMember.getPageName());
     }
@@ -0,0 +1,159 @@
+package com.example.tyfserver.auth.service;
+
+import com.example.tyfserver.auth.config.TokenRevocationProperties;
+import com.example.tyfserver.auth.dto.TokenClaims;
+import com.example.tyfserver.auth.util.JwtTokenProvider;
+import com.example.tyfserver.common.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 폐기한 토큰 id 를 토큰이 만료될 때까지 Redis 에 두고, 서버마다 블룸 필터로 먼저 걸러서 의심되는 토큰만 Redis 에 묻는다.
+ * 다른 서버에서 폐기한 토큰은 pub/sub 으로 받아 필터에 더하고, 만료된 id 를 비워내기 위해 주기적으로 Redis 에서 다시 만든다.
+ */
+@Service
+public class TokenRevocationService implements MessageListener {
+
+    private static final String KEY_PREFIX = "revokedToken:";
+    private static final int SCAN_COUNT = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final StringRedisTemplate redisTemplate;
+    private final TokenRevocationProperties properties;
+    private final Clock clock;
+    private final Counter passedCounter;
+    private final Counter revokedCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter errorCounter;
+
+    private volatile BloomFilter filter;
+    // 다시 만드는 중에 들어온 폐기도 새 필터에 빠지지 않도록 함께 더한다.
+    private volatile BloomFilter rebuilding;
+
+    @Autowired
+    public TokenRevocationService(JwtTokenProvider jwtTokenProvider, StringRedisTemplate redisTemplate,
+                                  TokenRevocationProperties properties, MeterRegistry meterRegistry) {
+        this(jwtTokenProvider, redisTemplate, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    TokenRevocationService(JwtTokenProvider jwtTokenProvider, StringRedisTemplate redisTemplate,
+                           TokenRevocationProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.clock = clock;
+        this.passedCounter = meterRegistry.counter("auth.revocation.check", "result", "passed");
+        this.revokedCounter = meterRegistry.counter("auth.revocation.check", "result", "revoked");
+        this.falsePositiveCounter = meterRegistry.counter("auth.revocation.check", "result", "false_positive");
+        this.errorCounter = meterRegistry.counter("auth.revocation.check", "result", "error");
+        this.filter = newFilter();
+    }
+
+    public void revoke(String token) {
+        TokenClaims claims = jwtTokenProvider.verify(token);
+        String tokenId = claims.getTokenId();
+        if (claims.getExpiration() == null) {
+            redisTemplate.opsForValue().set(key(tokenId), "1");
+        } else {
+            long ttlMillis = Math.max(1, claims.getExpiration() * 1000 - clock.millis());
+            redisTemplate.opsForValue().set(key(tokenId), "1", Duration.ofMillis(ttlMillis));
+        }
+        mark(tokenId);
+        redisTemplate.convertAndSend(properties.getChannel(), tokenId);
+    }
+
+    /**
+     * 블룸 필터에 없으면 Redis 에 묻지 않고 통과시킨다.
+     * 필터에 걸렸는데 Redis 장애로 확인할 수 없으면 폐기된 토큰일 수 있으므로 거절하고 오류로 남긴다.
+     * 필터에 걸리는 토큰만 영향을 받으므로 장애 중에도 대부분의 요청은 그대로 통과한다.
+     */
+    public boolean isRevoked(TokenClaims claims) {
+        String tokenId = claims.getTokenId();
+        if (!filter.mightContain(tokenId)) {
+            passedCounter.increment();
+            return false;
+        }
+
+        try {
+            boolean revoked = Boolean.TRUE.equals(redisTemplate.hasKey(key(tokenId)));
+            (revoked ? revokedCounter : falsePositiveCounter).increment();
+            return revoked;
+        } catch (DataAccessException e) {
+            errorCounter.increment();
+            logger.warn("token revocation check failed - tokenId: {}", tokenId, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        mark(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${jwt.revocation.rebuild-cron}")
+    public void rebuild() {
+        BloomFilter next = newFilter();
+        rebuilding = next;
+        try {
+            long revoked = redisTemplate.execute((RedisCallback<Long>) connection -> {
+                long count = 0;
+                ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build();
+                try (Cursor<byte[]> cursor = connection.scan(options)) {
+                    while (cursor.hasNext()) {
+                        String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                        next.put(key.substring(KEY_PREFIX.length()));
+                        count++;
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                return count;
+            });
+            filter = next;
+            logger.info("=== TOKEN REVOCATION === rebuilt bloom filter - revoked: {}", revoked);
+        } catch (DataAccessException e) {
+            logger.warn("token revocation filter rebuild failed", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    // 새 필터를 먼저 읽어야 바꿔 끼우는 순간에 들어온 id 가 옛 필터에만 들어가지 않는다.
+    private void mark(String tokenId) {
+        BloomFilter next = rebuilding;
+        filter.put(tokenId);
+        if (next != null) {
+            next.put(tokenId);
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+    }
+
+    private String key(String tokenId) {
+        return KEY_PREFIX + tokenId;
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.tyfserver.auth.util;
+
+/**
+ * JWT 페이로드에서 우리가 발급하는 클레임(id, email, merchantUid, jti, exp, nbf)만 읽는 최소한의 JSON 파서.
+ * id 가 숫자면 회원 id, 문자열이면 관리자 아이디로 읽는다.
+ * 범용 Map 으로 풀지 않고 필요한 값만 꺼내며, 모르는 클레임은 건너뛴다. 형식이 잘못되면 IllegalArgumentException 을 던진다.
+ */
+final class JwtClaimsReader {
+
+    private final String json;
+    private int position;
+
+    private Long id;
+    private String adminId;
+    private String email;
+    private String merchantUid;
+    private String tokenId;
+    private Long expiration;
+    private Long notBefore;
+
+    private JwtClaimsReader(String json) {
+        this.json = json;
+    }
+
+    static JwtClaimsReader read(String json) {
+        JwtClaimsReader reader = new JwtClaimsReader(json);
+        reader.readClaims();
+        return reader;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    String getAdminId() {
+        return adminId;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    String getMerchantUid() {
+        return merchantUid;
+    }
+
+    String getTokenId() {
+        return tokenId;
+    }
+
+    Long getExpiration() {
+        return expiration;
+    }
+
+    Long getNotBefore() {
+        return notBefore;
+    }
+
+    private void readClaims() {
+        skipWhitespace();
+        expect('{');
+        boolean first = true;
+        while (true) {
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+                break;
+            }
+            if (!first) {
+                expect(',');
+                skipWhitespace();
+            }
+            first = false;
+
+            String name = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            readClaim(name);
+        }
+        skipWhitespace();
+        if (position != json.length()) {
+            throw new IllegalArgumentException("trailing characters in claims");
+        }
+    }
+
+    private void readClaim(String name) {
+        switch (name) {
+            case "id":
+                // 관리자 토큰은 id 에 문자열 아이디를 담으므로 숫자일 때만 회원 id 로 읽는다.
+                if (peek() == '"') {
+                    adminId = readString();
+                } else {
+                    id = readNullableLong();
+                }
+                break;
+            case "email":
+                email = readNullableString();
+                break;
+            case "merchantUid":
+                merchantUid = readNullableString();
+                break;
+            case "jti":
+                tokenId = readNullableString();
+                break;
+            case "exp":
+                expiration = readNullableLong();
+                break;
+            case "nbf":
+                notBefore = readNullableLong();
+                break;
+            default:
+                skipValue();
+        }
+    }
+
+    private String readNullableString() {
+        if (peek() == 'n') {
+            readLiteral("null");
+            return null;
+        }
+        return readString();
+    }
+
+    private Long readNullableLong() {
+        if (peek() == 'n') {
+            readLiteral("null");
+            return null;
+        }
+        return readLong();
+    }
+
+    private String readString() {
+        expect('"');
+        int start = position;
+        // 이스케이프가 없는 흔한 경우에는 substring 한 번으로 끝낸다.
+        while (position < json.length()) {
+            char c = json.charAt(position);
+            if (c == '"') {
+                return json.substring(start, position++);
+            }
+            if (c == '\\') {
+                return readEscapedString(start);
+            }
+            position++;
+        }
+        throw new IllegalArgumentException("unterminated string");
+    }
+
+    private String readEscapedString(int start) {
+        StringBuilder builder = new StringBuilder(json.length() - start);
+        builder.append(json, start, position);
+        while (position < json.length()) {
+            char c = json.charAt(position++);
+            if (c == '"') {
+                return builder.toString();
+            }
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            char escaped = next();
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    builder.append(escaped);
+                    break;
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    if (position + 4 > json.length()) {
+                        throw new IllegalArgumentException("invalid unicode escape");
+                    }
+                    builder.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                    position += 4;
+                    break;
+                default:
+                    throw new IllegalArgumentException("invalid escape: " + escaped);
+            }
+        }
+        throw new IllegalArgumentException("unterminated string");
+    }
+
+    private long readLong() {
+        int start = position;
+        if (peek() == '-') {
+            position++;
+        }
+        boolean fraction = false;
+        while (position < json.length()) {
+            char c = json.charAt(position);
+            if (c >= '0' && c <= '9') {
+                position++;
+            } else if (c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                fraction = true;
+                position++;
+            } else {
+                break;
+            }
+        }
+        if (start == position) {
+            throw new IllegalArgumentException("number expected at " + start);
+        }
+        String number = json.substring(start, position);
+        return fraction ? (long) Double.parseDouble(number) : Long.parseLong(number);
+    }
+
+    private void skipValue() {
+        char c = peek();
+        if (c == '"') {
+            readString();
+        } else if (c == '{' || c == '[') {
+            skipNested();
+        } else if (c == 't') {
+            readLiteral("true");
+        } else if (c == 'f') {
+            readLiteral("false");
+        } else if (c == 'n') {
+            readLiteral("null");
+        } else {
+            readLong();
+        }
+    }
+
+    private void skipNested() {
+        int depth = 0;
+        do {
+            char c = peek();
+            if (c == '"') {
+                readString();
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+            position++;
+        } while (depth > 0);
+    }
+
+    private void readLiteral(String literal) {
+        if (!json.startsWith(literal, position)) {
+            throw new IllegalArgumentException(literal + " expected at " + position);
+        }
+        position += literal.length();
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+            position++;
+        }
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw new IllegalArgumentException(expected + " expected at " + (position - 1));
+        }
+    }
+
+    private char next() {
+        char c = peek();
+        position++;
+        return c;
+    }
+
+    private char peek() {
+        if (position >= json.length()) {
+            throw new IllegalArgumentException("unexpected end of claims");
+        }
+        return json.charAt(position);
+    }
+}
@@ -1,99 +1,179 @@
 package com.example.tyfserver.auth.util;
 
-import com.example.tyfserver.auth.dto.IdAndEmail;
+import com.example.tyfserver.auth.dto.TokenClaims;
 import com.example.tyfserver.auth.exception.InvalidTokenException;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Date;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.UUID;
 
+/**
+ * HS256 JWT 를 발급하고 검증한다. 서명 키는 한 번만 만들고 Mac 은 스레드마다 재사용하며,
+ * 페이로드는 우리가 쓰는 클레임만 JwtClaimsReader 로 읽는다.
+ * 키 디코딩과 헤더, 클레임 형식은 JJWT 0.9 와 같아서 이전에 발급한 토큰도 그대로 검증된다.
+ */
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secreteKey}")
-    private String secreteKey;
-    @Value("${jwt.expire-length}")
-    private long validityInMilliseconds;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = ENCODER.encodeToString(
+            "{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+    private static final long MASTER_TOKEN_VALIDITY = 24 * 60 * 60 * 1000; // 24시간
+
+    private final long validityInMilliseconds;
+    private final Clock clock;
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public JwtTokenProvider(@Value("${jwt.secreteKey}") String secreteKey,
+                            @Value("${jwt.expire-length}") long validityInMilliseconds) {
+        this(secreteKey, validityInMilliseconds, Clock.systemDefaultZone());
+    }
+
+    JwtTokenProvider(String secreteKey, long validityInMilliseconds, Clock clock) {
+        this.validityInMilliseconds = validityInMilliseconds;
+        this.clock = clock;
+        // JJWT 0.9 의 signWith(alg, String) 처럼 키 문자열을 base64 로 디코딩한다.
+        SecretKeySpec key = new SecretKeySpec(TextCodec.BASE64.decode(secreteKey), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> newMac(key));
+    }
 
     public String createToken(long id, String email) {
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + validityInMilliseconds);
-        return Jwts.builder()
-                .claim("id", id)
-                .claim("email", email)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(SignatureAlgorithm.HS256, secreteKey)
-                .compact();
+        StringBuilder claims = new StringBuilder(128)
+                .append("{\"id\":").append(id)
+                .append(",\"email\":");
+        appendString(claims, email);
+        return sign(claims, validityInMilliseconds);
     }
 
     public String createRefundToken(String merchantUid) {
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + validityInMilliseconds);
-        return Jwts.builder()
-                .claim("merchantUid", merchantUid)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(SignatureAlgorithm.HS256, secreteKey)
-                .compact();
+        StringBuilder claims = new StringBuilder(128)
+                .append("{\"merchantUid\":");
+        appendString(claims, merchantUid);
+        return sign(claims, validityInMilliseconds);
     }
 
     public String createAdminToken(String id) {
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + validityInMilliseconds);
-
-        return Jwts.builder()
-                .claim("id", id)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(SignatureAlgorithm.HS256, secreteKey)
-                .compact();
+        StringBuilder claims = new StringBuilder(64)
+                .append("{\"id\":");
+        appendString(claims, id);
+        return sign(claims, validityInMilliseconds);
     }
 
     public String createMasterToken(long id, String email) {
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + 24 * 60 * 60 * 1000); // 24시간
-
-        return Jwts.builder()
-                .claim("id", id)
-                .claim("email", email)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(SignatureAlgorithm.HS256, secreteKey)
-                .compact();
+        StringBuilder claims = new StringBuilder(128)
+                .append("{\"id\":").append(id)
+                .append(",\"email\":");
+        appendString(claims, email);
+        return sign(claims, MASTER_TOKEN_VALIDITY);
     }
 
     public void validateToken(String token) {
+        verify(token);
+    }
+
+    // 서명과 만료를 한 번 검증하고 쓰이는 클레임을 모두 꺼낸다. 같은 요청에서 토큰을 다시 파싱하지 않도록 결과를 재사용한다.
+    public TokenClaims verify(String token) {
         try {
-            Jwts.parser().setSigningKey(secreteKey).parseClaimsJws(token);
-        } catch (JwtException | IllegalArgumentException e) {
+            JwtClaimsReader claims = JwtClaimsReader.read(verifiedPayload(token));
+            validateTime(claims);
+            return new TokenClaims(claims.getId(), claims.getAdminId(), claims.getEmail(), claims.getMerchantUid(),
+                    tokenId(token, claims), claims.getExpiration());
+        } catch (IllegalArgumentException e) {
             throw new InvalidTokenException();
         }
     }
 
-    public IdAndEmail findIdAndEmailFromToken(String token) {
-        Claims claims = claims(token);
-        return new IdAndEmail(
-                claims.get("id", Long.class),
-                claims.get("email", String.class));
+    private String sign(StringBuilder claims, long validity) {
+        long now = clock.millis();
+        claims.append(",\"jti\":\"").append(UUID.randomUUID()).append('"')
+                .append(",\"iat\":").append(now / 1000)
+                .append(",\"exp\":").append((now + validity) / 1000)
+                .append('}');
+
+        String signingInput = HEADER + '.' + ENCODER.encodeToString(
+                claims.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] signature = macs.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + '.' + ENCODER.encodeToString(signature);
+    }
+
+    private String verifiedPayload(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException("token is null");
+        }
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (headerEnd != HEADER.length() || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0
+                || !token.startsWith(HEADER)) {
+            throw new IllegalArgumentException("unsupported token format");
+        }
+
+        Mac mac = macs.get();
+        mac.update(token.getBytes(StandardCharsets.US_ASCII), 0, payloadEnd);
+        byte[] expected = mac.doFinal();
+        byte[] actual = DECODER.decode(token.substring(payloadEnd + 1));
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new IllegalArgumentException("signature mismatch");
+        }
+        return new String(DECODER.decode(token.substring(headerEnd + 1, payloadEnd)), StandardCharsets.UTF_8);
+    }
+
+    // jti 가 없던 시절에 발급한 토큰은 토큰마다 다른 서명으로 구분한다.
+    private String tokenId(String token, JwtClaimsReader claims) {
+        if (claims.getTokenId() != null) {
+            return claims.getTokenId();
+        }
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+
+    // JJWT 와 마찬가지로 허용 오차 없이 exp 가 지났거나 nbf 전이면 거부한다.
+    private void validateTime(JwtClaimsReader claims) {
+        long now = clock.millis();
+        if (claims.getExpiration() != null && now > claims.getExpiration() * 1000) {
+            throw new IllegalArgumentException("token expired");
+        }
+        if (claims.getNotBefore() != null && now < claims.getNotBefore() * 1000) {
+            throw new IllegalArgumentException("token not yet valid");
+        }
     }
 
-    public String findMerchantUidFromToken(String token) {
-        Claims claims = claims(token);
-        return claims.get("merchantUid", String.class);
+    private static void appendString(StringBuilder builder, String value) {
+        if (value == null) {
+            builder.append("null");
+            return;
+        }
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
     }
 
-    private Claims claims(String token) {
+    private static Mac newMac(SecretKeySpec key) {
         try {
-            return Jwts.parser()
-                    .setSigningKey(secreteKey).parseClaimsJws(token)
-                    .getBody();
-        } catch (JwtException e) {
-            throw new InvalidTokenException();
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HS256 Mac 을 만들 수 없습니다.", e);
         }
     }
 }
@@ -1,73 +1,145 @@
 package com.example.tyfserver.auth.util;
 
+import com.example.tyfserver.auth.config.Oauth2ClientProperties;
 import com.example.tyfserver.auth.domain.Oauth2;
 import com.example.tyfserver.auth.domain.Oauth2Type;
 import com.example.tyfserver.auth.dto.Oauth2Request;
-import com.example.tyfserver.common.util.ApiSender;
+import com.example.tyfserver.auth.exception.Oauth2ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.json.JSONObject;
-import org.springframework.http.HttpEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
-
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 제공자의 토큰 발급과 프로필 조회를 논블로킹 클라이언트로 이어서 호출한다. 응답을 기다리는 동안 요청 스레드를 잡지 않는다.
+ * 제공자마다 동시에 진행하는 로그인 수를 벌크헤드로 제한하고, 가득 차면 기다리지 않고 Oauth2ServiceUnavailableException 으로 끝낸다.
+ */
 @Component
 public class Oauth2ServiceConnector {
 
-    public String getEmailFromOauth2(Oauth2Request oauth2Request, String code) {
-        final String accessToken = requestAccessToken(code, oauth2Request);
-        return requestEmail(accessToken, oauth2Request);
+    private static final String CONNECTOR_NAME = "oauth2";
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final MeterRegistry meterRegistry;
+    private final Map<Oauth2Type, Bulkhead> bulkheads = new EnumMap<>(Oauth2Type.class);
+
+    public Oauth2ServiceConnector(@Qualifier("oauth2HttpClient") HttpClient httpClient,
+                                  Oauth2ClientProperties properties, MeterRegistry meterRegistry) {
+        this.httpClient = httpClient;
+        this.readTimeout = properties.getReadTimeout();
+        this.meterRegistry = meterRegistry;
+
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        for (Oauth2Type oauth2Type : Oauth2Type.values()) {
+            BulkheadConfig config = BulkheadConfig.custom()
+                    .maxConcurrentCalls(properties.getMaxConcurrentCalls().get(oauth2Type))
+                    .maxWaitDuration(Duration.ZERO)
+                    .build();
+            bulkheads.put(oauth2Type, bulkheadRegistry.bulkhead(CONNECTOR_NAME + "-" + oauth2Type.name().toLowerCase(), config));
+        }
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
     }
 
-    private String requestAccessToken(String code, Oauth2Request oauth2Request) {
-        String body = ApiSender.send(
-                oauth2Request.getAccessTokenApi(),
-                HttpMethod.POST,
-                generateAccessTokenRequest(code, oauth2Request)
-        );
-
-        return extractAccessToken(body);
+    public CompletableFuture<String> getEmailFromOauth2(Oauth2Request oauth2Request, String code) {
+        Bulkhead bulkhead = bulkheads.get(Oauth2Type.findOauth2Type(oauth2Request.getType()));
+        if (!bulkhead.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(new Oauth2ServiceUnavailableException());
+        }
+
+        try {
+            return requestAccessToken(code, oauth2Request)
+                    .thenCompose(accessToken -> requestEmail(accessToken, oauth2Request))
+                    .whenComplete((email, e) -> bulkhead.onComplete());
+        } catch (RuntimeException e) {
+            bulkhead.onComplete();
+            throw e;
+        }
     }
 
-    private String requestEmail(String accessToken, Oauth2Request oauth2Request) {
-        String body = ApiSender.send(
-                oauth2Request.getProfileApi(),
-                HttpMethod.GET,
-                generateProfileRequest(accessToken)
-        );
+    private CompletableFuture<String> requestAccessToken(String code, Oauth2Request oauth2Request) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(oauth2Request.getAccessTokenApi()))
+                .timeout(readTimeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE + ";charset=UTF-8")
+                .header(HttpHeaders.ACCEPT_CHARSET, StandardCharsets.UTF_8.name().toLowerCase())
+                .POST(HttpRequest.BodyPublishers.ofString(generateAccessTokenRequest(code, oauth2Request)))
+                .build();
 
-        Oauth2 oauth2 = Oauth2Type.findOauth2(oauth2Request.getType());
-        return extractEmail(oauth2, body);
+        return send(request).thenApply(this::extractAccessToken);
     }
 
+    private CompletableFuture<String> requestEmail(String accessToken, Oauth2Request oauth2Request) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(oauth2Request.getProfileApi()))
+                .timeout(readTimeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .header(HttpHeaders.ACCEPT_CHARSET, StandardCharsets.UTF_8.name().toLowerCase())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .GET()
+                .build();
 
-    private HttpEntity<MultiValueMap<String, String>> generateAccessTokenRequest(String code, Oauth2Request oauth2Request) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-        headers.setAcceptCharset(Collections.singletonList(StandardCharsets.UTF_8));
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        params.add("grant_type", "authorization_code");
-        params.add("client_id", oauth2Request.getClientId());
-        params.add("redirect_uri", oauth2Request.getRedirectUrl());
-        params.add("code", code);
-        params.add("client_secret", oauth2Request.getClientSecret());
+        Oauth2 oauth2 = Oauth2Type.findOauth2(oauth2Request.getType());
+        return send(request).thenApply(body -> extractEmail(oauth2, body));
+    }
 
-        return new HttpEntity<>(params, headers);
+    // RestTemplate 을 쓰던 때와 같은 예외와 http.client.connector 타이머를 남긴다.
+    private CompletableFuture<String> send(HttpRequest request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .whenComplete((response, e) -> sample.stop(meterRegistry.timer("http.client.connector",
+                        "connector", CONNECTOR_NAME, "method", request.method(),
+                        "status", response == null ? "IO_ERROR" : String.valueOf(response.statusCode()))))
+                .thenApply(this::bodyOf);
     }
 
-    private HttpEntity<MultiValueMap<String, String>> generateProfileRequest(String accessToken) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-        headers.setAcceptCharset(Collections.singletonList(StandardCharsets.UTF_8));
+    private String bodyOf(HttpResponse<String> response) {
+        HttpStatus status = HttpStatus.valueOf(response.statusCode());
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        if (status.is4xxClientError()) {
+            throw HttpClientErrorException.create(status, status.getReasonPhrase(), HttpHeaders.EMPTY, body,
+                    StandardCharsets.UTF_8);
+        }
+        if (status.is5xxServerError()) {
+            throw HttpServerErrorException.create(status, status.getReasonPhrase(), HttpHeaders.EMPTY, body,
+                    StandardCharsets.UTF_8);
+        }
+        return response.body();
+    }
 
-        headers.setBearerAuth(accessToken);
-        return new HttpEntity<>(headers);
+    private String generateAccessTokenRequest(String code, Oauth2Request oauth2Request) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("grant_type", "authorization_code");
+        params.put("client_id", oauth2Request.getClientId());
+        params.put("redirect_uri", oauth2Request.getRedirectUrl());
+        params.put("code", code);
+        params.put("client_secret", oauth2Request.getClientSecret());
+
+        return params.entrySet().stream()
+                .map(param -> URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(String.valueOf(param.getValue()), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
     }
 
     private String extractEmail(Oauth2 oauth2, String response) {
@@ -5,8 +5,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableAsync
@@ -17,4 +20,30 @@ public class AsyncConfig {
         return (ThreadPoolExecutor) Executors.newFixedThreadPool(5,
                 new CustomizableThreadFactory("mail-executor"));
     }
+
+    // 멈춘 클라이언트에게 보내는 스레드는 전송 제한 시간이 지나면 풀려나므로, 그동안 다른 구독자의 전송이 밀리지 않도록
+    // 큐에 쌓지 않고 스레드를 늘린다. 상한에 닿으면 거절하고 그 구독자를 끊어낸다.
+    @Bean(name = "donationStreamExecutor")
+    public ThreadPoolExecutor donationStreamExecutor() {
+        return new ThreadPoolExecutor(8, 1024, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new CustomizableThreadFactory("donation-stream-executor"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 감사 기록이 실패 순서대로 남도록 한 스레드로 처리한다.
+    @Bean(name = "refundFailureExecutor")
+    public ThreadPoolExecutor refundFailureExecutor() {
+        return (ThreadPoolExecutor) Executors.newFixedThreadPool(1,
+                new CustomizableThreadFactory("refund-failure-executor"));
+    }
+
+    // 큐가 가득 차면 받지 않고 거절해서 아임포트가 나중에 다시 보내도록 한다.
+    @Bean(name = "paymentWebhookExecutor")
+    public ThreadPoolExecutor paymentWebhookExecutor() {
+        return new ThreadPoolExecutor(4, 4, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(200),
+                new CustomizableThreadFactory("payment-webhook-executor"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
 }
@@ -1,9 +1,12 @@
 package com.example.tyfserver.common.config;
 
+import com.example.tyfserver.auth.exception.Oauth2ServiceUnavailableException;
 import com.example.tyfserver.common.dto.ErrorResponse;
 import com.example.tyfserver.common.exception.BaseException;
+import com.example.tyfserver.payment.exception.PaymentServiceUnavailableException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -19,6 +22,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(exception.toResponse());
     }
 
+    @ExceptionHandler(PaymentServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handle(PaymentServiceUnavailableException exception) {
+        logger.warn("=== PAYMENT SERVICE UNAVAILABLE ===");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(exception.toResponse());
+    }
+
+    @ExceptionHandler(Oauth2ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handle(Oauth2ServiceUnavailableException exception) {
+        logger.warn("=== OAUTH2 SERVICE UNAVAILABLE ===");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(exception.toResponse());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleNotDefinedException(Exception exception) {
         logger.error("=== UNDEFINED EXCEPTION ===", exception);
@@ -0,0 +1,30 @@
+package com.example.tyfserver.common.config;
+
+import com.example.tyfserver.common.util.ApiSender;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+
+    private final HttpClientProperties httpClientProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(name = "iamPortApiSender")
+    @Profile("!performance")
+    public ApiSender iamPortApiSender() {
+        return ApiSender.pooled("iamport", httpClientProperties.getIamport(), meterRegistry);
+    }
+
+    @Bean(name = "tyfPayApiSender")
+    @Profile("performance")
+    public ApiSender tyfPayApiSender() {
+        return ApiSender.pooled("tyf-pay", httpClientProperties.getTyfPay(), meterRegistry);
+    }
+}
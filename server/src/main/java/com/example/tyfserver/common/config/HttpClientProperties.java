@@ -0,0 +1,29 @@
+package com.example.tyfserver.common.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import java.time.Duration;
+
+@ConstructorBinding
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties("http-client")
+public class HttpClientProperties {
+
+    private final Connector iamport;
+    private final Connector tyfPay;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Connector {
+
+        private final int maxTotal;
+        private final int maxPerRoute;
+        private final Duration connectTimeout;
+        private final Duration connectionRequestTimeout;
+        private final Duration readTimeout;
+    }
+}
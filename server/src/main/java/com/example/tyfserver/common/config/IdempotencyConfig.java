@@ -0,0 +1,23 @@
+package com.example.tyfserver.common.config;
+
+import com.example.tyfserver.common.filter.IdempotencyFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(StringRedisTemplate redisTemplate,
+                                                                       ObjectMapper objectMapper,
+                                                                       MeterRegistry meterRegistry) {
+        FilterRegistrationBean<IdempotencyFilter> registrationBean =
+                new FilterRegistrationBean<>(new IdempotencyFilter(redisTemplate, objectMapper, meterRegistry));
+        registrationBean.addUrlPatterns("/donations", "/donations/", "/payments/charge/ready", "/payments/refund");
+        return registrationBean;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.tyfserver.common.config;
+
+import com.example.tyfserver.common.filter.RateLimitFilter;
+import com.example.tyfserver.common.util.AttemptLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    private final RateLimitProperties rateLimitProperties;
+    private final AttemptLimiter attemptLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> refundVerificationReadyRateLimitFilter() {
+        FilterRegistrationBean<RateLimitFilter> registrationBean = new FilterRegistrationBean<>(
+                new RateLimitFilter("refundVerificationReady", rateLimitProperties.getRefundVerificationReady(),
+                        attemptLimiter, objectMapper, meterRegistry));
+        registrationBean.addUrlPatterns("/payments/refund/verification/ready");
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> oauth2LoginRateLimitFilter() {
+        FilterRegistrationBean<RateLimitFilter> registrationBean = new FilterRegistrationBean<>(
+                new RateLimitFilter("oauth2Login", rateLimitProperties.getOauth2Login(),
+                        attemptLimiter, objectMapper, meterRegistry));
+        registrationBean.addUrlPatterns("/oauth2/login/*", "/oauth2/signup/ready/*");
+        return registrationBean;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.tyfserver.common.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import java.time.Duration;
+
+@ConstructorBinding
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties("rate-limit")
+public class RateLimitProperties {
+
+    // 주문번호별 환불 인증 실패 횟수. 환불 보장 기간 동안 유지되도록 window 와 block 을 그보다 길게 둔다.
+    private final Policy refundVerification;
+    // 클라이언트 IP 별 인증번호 발송 요청 수
+    private final Policy refundVerificationReady;
+    // 클라이언트 IP 별 Oauth2 로그인과 회원가입 준비 요청 수
+    private final Policy oauth2Login;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Policy {
+
+        // window 안에 허용하는 시도 수. 이만큼 시도하면 block 동안 막는다.
+        private final int limit;
+        private final Duration window;
+        private final Duration block;
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.tyfserver.common.filter;
+
+import com.example.tyfserver.common.dto.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 헤더가 있는 요청의 첫 성공 응답을 Redis 에 저장해 두고, 같은 키로 다시 온 요청에는 저장된 응답을 돌려준다.
+ * 같은 키의 요청이 처리 중이면 병렬로 실행하지 않고 그 결과가 저장될 때까지 기다린다.
+ * 실패 응답은 저장하지 않으므로 클라이언트가 같은 키로 다시 시도할 수 있다.
+ * 같은 키에 다른 본문이 오면 저장된 응답을 돌려주지 않고 422 로 거절한다.
+ * Redis 에 문제가 생기면 결제 요청이 모두 막히지 않도록 멱등 처리 없이 그대로 실행한다.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String ERROR_CODE_IN_PROGRESS = "error-003";
+    public static final String ERROR_CODE_KEY_REUSED = "error-005";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final Duration RESPONSE_TTL = Duration.ofHours(24);
+    private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(30);
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(10);
+    private static final long POLL_INTERVAL_MILLIS = 50L;
+
+    private final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public IdempotencyFilter(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !StringUtils.hasText(idempotencyKey)
+                || idempotencyKey.length() > MAX_KEY_LENGTH;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = redisKey(cachedRequest);
+        String requestHash = DigestUtils.md5DigestAsHex(cachedRequest.getBody());
+        long deadline = System.nanoTime() + WAIT_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            IdempotentResponse stored;
+            try {
+                if (tryAcquire(key, requestHash)) {
+                    execute(key, requestHash, cachedRequest, response, chain);
+                    return;
+                }
+                stored = read(key);
+            } catch (DataAccessException e) {
+                logger.warn("idempotency check failed - key: {}", key, e);
+                count("error");
+                chain.doFilter(cachedRequest, response);
+                return;
+            }
+
+            if (stored != null && !stored.isSameRequest(requestHash)) {
+                count("mismatched");
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, ERROR_CODE_KEY_REUSED,
+                        "같은 Idempotency-Key 로 다른 내용의 요청을 보낼 수 없습니다.");
+                return;
+            }
+            if (stored != null && !stored.isInProgress()) {
+                replay(stored, response);
+                return;
+            }
+            // 먼저 온 요청이 처리 중이거나 실패해서 키가 사라지는 중이므로 잠시 후 다시 확인한다.
+            sleep();
+        }
+
+        count("timeout");
+        writeError(response, HttpStatus.CONFLICT, ERROR_CODE_IN_PROGRESS, "같은 Idempotency-Key 의 요청이 아직 처리 중입니다.");
+    }
+
+    // 같은 키라도 호출자와 API 가 다르면 다른 요청으로 본다.
+    private String redisKey(HttpServletRequest request) {
+        String caller = DigestUtils.md5DigestAsHex(
+                String.valueOf(request.getHeader(HttpHeaders.AUTHORIZATION)).getBytes(StandardCharsets.UTF_8));
+        return KEY_PREFIX + request.getRequestURI() + ":" + caller + ":" + request.getHeader(IDEMPOTENCY_KEY_HEADER);
+    }
+
+    private boolean tryAcquire(String key, String requestHash) throws JsonProcessingException {
+        String inProgress = objectMapper.writeValueAsString(IdempotentResponse.inProgress(requestHash));
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, inProgress, IN_PROGRESS_TTL));
+    }
+
+    // 요청은 이미 처리됐으므로 응답을 저장하지 못해도 클라이언트에게는 처리 결과를 그대로 돌려준다.
+    private void execute(String key, String requestHash, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain chain) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(request, responseWrapper);
+            stored = store(key, requestHash, responseWrapper);
+        } finally {
+            if (!stored) {
+                release(key);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+        count("executed");
+    }
+
+    private boolean store(String key, String requestHash, ContentCachingResponseWrapper responseWrapper)
+            throws JsonProcessingException {
+        if (!HttpStatus.valueOf(responseWrapper.getStatus()).is2xxSuccessful()) {
+            return false;
+        }
+
+        IdempotentResponse idempotentResponse = new IdempotentResponse(requestHash, responseWrapper.getStatus(),
+                responseWrapper.getContentType(),
+                new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(idempotentResponse), RESPONSE_TTL);
+            return true;
+        } catch (DataAccessException e) {
+            logger.warn("idempotent response store failed - key: {}", key, e);
+            count("error");
+            return false;
+        }
+    }
+
+    // 지우지 못한 처리 중 표시는 IN_PROGRESS_TTL 이 지나면 사라진다.
+    private void release(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            logger.warn("idempotency key release failed - key: {}", key, e);
+        }
+    }
+
+    private IdempotentResponse read(String key) throws JsonProcessingException {
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            return null;
+        }
+        return objectMapper.readValue(value, IdempotentResponse.class);
+    }
+
+    private void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.getStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        if (stored.getBody() != null) {
+            byte[] body = stored.getBody().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+        count("replayed");
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String errorCode, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(new ErrorResponse(errorCode, message)));
+    }
+
+    private void sleep() throws IOException {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for idempotent response", e);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("idempotency.request", "result", result).increment();
+    }
+}
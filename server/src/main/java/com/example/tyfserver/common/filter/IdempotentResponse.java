@@ -0,0 +1,38 @@
+package com.example.tyfserver.common.filter;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotentResponse {
+
+    private String requestHash;
+    private int status;
+    private String contentType;
+    private String body;
+
+    public IdempotentResponse(String requestHash, int status, String contentType, String body) {
+        this.requestHash = requestHash;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    public static IdempotentResponse inProgress(String requestHash) {
+        return new IdempotentResponse(requestHash, 0, null, null);
+    }
+
+    @JsonIgnore
+    public boolean isInProgress() {
+        return status == 0;
+    }
+
+    public boolean isSameRequest(String requestHash) {
+        return Objects.equals(this.requestHash, requestHash);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.tyfserver.common.filter;
+
+import com.example.tyfserver.common.config.RateLimitProperties.Policy;
+import com.example.tyfserver.common.dto.ErrorResponse;
+import com.example.tyfserver.common.util.AttemptLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 클라이언트 IP 별로 요청 수를 세고 한도를 넘으면 컨트롤러까지 가지 않고 429 로 응답한다.
+ * Redis 에 문제가 생기면 로그인과 환불 문의가 모두 막히지 않도록 제한 없이 통과시킨다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String ERROR_CODE_TOO_MANY_REQUESTS = "error-004";
+
+    private final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final String name;
+    private final Policy policy;
+    private final AttemptLimiter attemptLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(String name, Policy policy, AttemptLimiter attemptLimiter, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.name = name;
+        this.policy = policy;
+        this.attemptLimiter = attemptLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long remain;
+        try {
+            remain = attemptLimiter.attempt(name + ":" + request.getRemoteAddr(), policy);
+        } catch (DataAccessException e) {
+            logger.warn("rate limit check failed - name: {}", name, e);
+            count("error");
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (remain == AttemptLimiter.BLOCKED) {
+            count("blocked");
+            writeTooManyRequests(response);
+            return;
+        }
+        count("passed");
+        chain.doFilter(request, response);
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(policy.getBlock().getSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(
+                new ErrorResponse(ERROR_CODE_TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.")));
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("rate.limit.request", "name", name, "result", result).increment();
+    }
+}
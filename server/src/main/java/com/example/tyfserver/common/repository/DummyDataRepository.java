@@ -11,11 +11,13 @@ import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.nio.ByteBuffer;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
@@ -162,7 +164,7 @@ public class DummyDataRepository {
                         ps.setString(3, "e1@test.com");
                         ps.setString(4, payments.get(i).getImpUid());
                         ps.setString(5, payments.get(i).getItemName());
-                        ps.setString(6, "123-123");
+                        ps.setBytes(6, toBytes(payments.get(i).getMerchantUid()));
                         ps.setString(7, payments.get(i).getStatus().name());
                         ps.setLong(8, startIdx + i);
                         ps.setLong(9, startIdx + i);
@@ -217,4 +219,11 @@ public class DummyDataRepository {
         batchCount++;
         return batchCount;
     }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
 }
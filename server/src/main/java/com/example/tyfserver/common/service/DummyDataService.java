@@ -9,6 +9,7 @@ import com.example.tyfserver.member.domain.Member;
 import com.example.tyfserver.payment.domain.Payment;
 import com.example.tyfserver.payment.domain.PaymentStatus;
 import com.example.tyfserver.payment.domain.RefundFailure;
+import com.example.tyfserver.payment.util.TimeOrderedUUIDGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -16,7 +17,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 @Transactional
@@ -53,7 +53,7 @@ public class DummyDataService {
         for (int i = 0; i < 100; i++) {
             for (int j = 0; j < batchSize; j++) {
                 refundFailures.add(new RefundFailure());
-                Payment payment = new Payment(10_0000_0000L, "10000포인트 충전", "123-123", UUID.randomUUID());
+                Payment payment = new Payment(10_0000_0000L, "10000포인트 충전", "123-123", TimeOrderedUUIDGenerator.generate());
                 payment.updateStatus(PaymentStatus.PAID);
                 payments.add(payment);
                 idx++;
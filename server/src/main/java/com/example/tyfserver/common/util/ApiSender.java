@@ -1,21 +1,89 @@
 package com.example.tyfserver.common.util;
 
+import com.example.tyfserver.common.config.HttpClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-public class ApiSender {
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
-    private static final RestTemplate REST_TEMPLATE = new RestTemplate();
+public class ApiSender implements AutoCloseable {
 
-    private ApiSender() {
+    private static final long IDLE_CONNECTION_TIMEOUT_SECONDS = 30L;
+
+    private final RestTemplate restTemplate;
+    private final CloseableHttpClient httpClient;
+
+    public ApiSender(RestTemplate restTemplate) {
+        this(restTemplate, null);
+    }
+
+    private ApiSender(RestTemplate restTemplate, CloseableHttpClient httpClient) {
+        this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
     }
 
-    public static <T> String send(String url, HttpMethod method, HttpEntity<T> entity) {
+    /**
+     * 커넥션 풀과 타임아웃을 가진 ApiSender 를 만든다.
+     * 응답 시간은 http.client.connector 타이머로, 풀 사용량은 httpcomponents.httpclient.pool.* 게이지로 남긴다.
+     */
+    public static ApiSender pooled(String name, HttpClientProperties.Connector connector, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(connector.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(connector.getMaxPerRoute());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) connector.getConnectTimeout().toMillis())
+                .setConnectionRequestTimeout((int) connector.getConnectionRequestTimeout().toMillis())
+                .setSocketTimeout((int) connector.getReadTimeout().toMillis())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .build();
+
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String status = "IO_ERROR";
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                status = String.valueOf(response.getRawStatusCode());
+                return response;
+            } finally {
+                sample.stop(meterRegistry.timer("http.client.connector",
+                        "connector", name, "method", request.getMethodValue(), "status", status));
+            }
+        });
+        return new ApiSender(restTemplate, httpClient);
+    }
+
+    public <T> String send(String url, HttpMethod method, HttpEntity<T> entity) {
         return send(url, method, entity, String.class);
     }
 
-    public static <T, U> T send(String url, HttpMethod method, HttpEntity<U> entity, Class<T> returnType) {
-        return REST_TEMPLATE.exchange(url, method, entity, returnType).getBody();
+    public <T, U> T send(String url, HttpMethod method, HttpEntity<U> entity, Class<T> returnType) {
+        return restTemplate.exchange(url, method, entity, returnType).getBody();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
     }
 }
@@ -0,0 +1,73 @@
+package com.example.tyfserver.common.util;
+
+import com.example.tyfserver.common.config.RateLimitProperties.Policy;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 키별 시도 횟수를 Redis 에서 세고, 한도에 닿으면 차단 플래그를 세워 일정 시간 동안 막는다.
+ * 횟수 증가와 차단은 Lua 스크립트 하나로 처리하므로 여러 서버에서 동시에 시도해도 한도를 넘겨 허용하지 않는다.
+ */
+@Component
+public class AttemptLimiter {
+
+    public static final long BLOCKED = -1L;
+
+    private static final String KEY_PREFIX = "attempt:";
+    private static final String COUNT_KEY_SUFFIX = ":count";
+    private static final String BLOCKED_KEY_SUFFIX = ":blocked";
+
+    // 이미 막힌 키는 세지 않고 -1, 아니면 이번 시도를 센 뒤 남은 횟수를 돌려준다. 남은 횟수가 0 이면 차단한다.
+    private static final RedisScript<Long> ATTEMPT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return -1 end\n" +
+                    "local count = redis.call('INCR', KEYS[1])\n" +
+                    "if count == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[2]) end\n" +
+                    "local remain = tonumber(ARGV[1]) - count\n" +
+                    "if remain <= 0 then\n" +
+                    "  redis.call('SET', KEYS[2], 1, 'PX', ARGV[3])\n" +
+                    "  redis.call('DEL', KEYS[1])\n" +
+                    "  return 0\n" +
+                    "end\n" +
+                    "return remain",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public AttemptLimiter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 시도 한 번을 센다. 이미 막힌 키면 BLOCKED 를, 아니면 남은 시도 횟수를 돌려준다.
+     */
+    public long attempt(String key, Policy policy) {
+        Long remain = redisTemplate.execute(ATTEMPT_SCRIPT, Arrays.asList(countKey(key), blockedKey(key)),
+                String.valueOf(policy.getLimit()),
+                String.valueOf(policy.getWindow().toMillis()),
+                String.valueOf(policy.getBlock().toMillis()));
+        return remain == null ? BLOCKED : remain;
+    }
+
+    /**
+     * 아직 세고 있지 않은 키만 이미 attempts 번 시도한 것으로 시작한다. 이미 세고 있는 키는 건드리지 않는다.
+     */
+    public void seedIfAbsent(String key, Policy policy, long attempts) {
+        redisTemplate.opsForValue().setIfAbsent(countKey(key), String.valueOf(attempts), policy.getWindow());
+    }
+
+    public boolean isBlocked(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(blockedKey(key)));
+    }
+
+    private String countKey(String key) {
+        return KEY_PREFIX + key + COUNT_KEY_SUFFIX;
+    }
+
+    private String blockedKey(String key) {
+        return KEY_PREFIX + key + BLOCKED_KEY_SUFFIX;
+    }
+}
@@ -1,21 +1,26 @@
 package com.example.tyfserver.donation.controller;
 
 import com.example.tyfserver.auth.dto.LoginMember;
+import com.example.tyfserver.donation.dto.DonationCursorResponse;
 import com.example.tyfserver.donation.dto.DonationMessageRequest;
 import com.example.tyfserver.donation.dto.DonationRequest;
 import com.example.tyfserver.donation.dto.DonationResponse;
 import com.example.tyfserver.donation.exception.DonationMessageRequestException;
 import com.example.tyfserver.donation.exception.DonationRequestException;
 import com.example.tyfserver.donation.service.DonationService;
+import com.example.tyfserver.donation.service.DonationSubscriber;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -23,6 +28,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DonationController {
 
+    private static final long STREAM_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
     private final DonationService donationService;
 
     @PostMapping
@@ -50,8 +57,33 @@ public class DonationController {
         return ResponseEntity.ok(donationService.findMyDonations(loginMember.getId(), pageable));
     }
 
+    @GetMapping("/me/cursor")
+    public ResponseEntity<DonationCursorResponse> totalDonationsByCursor(LoginMember loginMember,
+                                                                         @RequestParam(required = false) String cursor,
+                                                                         @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(donationService.findMyDonationsByCursor(loginMember.getId(), cursor, size));
+    }
+
     @GetMapping("/public/{pageName}")
     public ResponseEntity<List<DonationResponse>> publicDonations(@PathVariable String pageName) {
         return ResponseEntity.ok(donationService.findPublicDonations(pageName));
     }
+
+    @GetMapping(value = "/public/{pageName}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter publicDonationStream(@PathVariable String pageName) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        DonationSubscriber subscriber = donationService
+                .subscribePublicDonations(pageName, new SseDonationStreamSink(emitter));
+        emitter.onCompletion(subscriber::cancel);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        // 연결 직후 응답 헤더가 바로 나가도록 첫 이벤트를 보낸다.
+        try {
+            emitter.send(SseEmitter.event().name("connect").data(pageName));
+        } catch (IOException e) {
+            subscriber.close();
+        }
+        return emitter;
+    }
 }
@@ -0,0 +1,32 @@
+package com.example.tyfserver.donation.controller;
+
+import com.example.tyfserver.donation.dto.DonationResponse;
+import com.example.tyfserver.donation.service.DonationStreamSink;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+public class SseDonationStreamSink implements DonationStreamSink {
+
+    private static final String EVENT_NAME = "donation";
+
+    private final SseEmitter emitter;
+
+    public SseDonationStreamSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(DonationResponse donation) throws IOException {
+        emitter.send(SseEmitter.event()
+                .name(EVENT_NAME)
+                .id(String.valueOf(donation.getDonationId()))
+                .data(donation, MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
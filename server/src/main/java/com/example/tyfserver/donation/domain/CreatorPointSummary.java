@@ -0,0 +1,41 @@
+package com.example.tyfserver.donation.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CreatorPointSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false)
+    private Long creatorId;
+
+    private long waitingPoint;
+
+    private long exchangedPoint;
+
+    private long donationCount;
+
+    public CreatorPointSummary(Long creatorId, long waitingPoint, long exchangedPoint, long donationCount) {
+        this.creatorId = creatorId;
+        this.waitingPoint = waitingPoint;
+        this.exchangedPoint = exchangedPoint;
+        this.donationCount = donationCount;
+    }
+
+    public CreatorPointSummary(Long creatorId) {
+        this(creatorId, 0L, 0L, 0L);
+    }
+
+    public static CreatorPointSummary empty(Long creatorId) {
+        return new CreatorPointSummary(creatorId);
+    }
+}
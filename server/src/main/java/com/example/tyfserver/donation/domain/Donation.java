@@ -2,6 +2,7 @@ package com.example.tyfserver.donation.domain;
 
 import com.example.tyfserver.common.domain.BaseTimeEntity;
 import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.exception.WrongDonationOwnerException;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,6 +13,11 @@ import java.util.Objects;
 
 @Entity
 @Getter
+@Table(name = "donation", indexes = {
+        @Index(name = "IDX_donation_creator_id_created_at_id", columnList = "creator_id, created_at, id"),
+        @Index(name = "IDX_donation_creator_id_status_created_at", columnList = "creator_id, status, created_at"),
+        @Index(name = "IDX_donation_donator_id", columnList = "donator_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Donation extends BaseTimeEntity {
 
@@ -47,6 +53,12 @@ public class Donation extends BaseTimeEntity {
         this.point = point;
     }
 
+    public Donation(Message message, long point, Member donator, Member creator) {
+        this(message, point);
+        this.donator = donator;
+        this.creator = creator;
+    }
+
     public Donation(Message message, long point, LocalDateTime createdAt) {
         this(message, point, DonationStatus.WAITING_FOR_EXCHANGE, createdAt);
     }
@@ -75,6 +87,12 @@ public class Donation extends BaseTimeEntity {
         this.message = message;
     }
 
+    public void validateDonator(Long memberId) {
+        if (!Objects.equals(donator.getId(), memberId)) {
+            throw new WrongDonationOwnerException();
+        }
+    }
+
     public void toExchanged() {
         status = DonationStatus.EXCHANGED;
     }
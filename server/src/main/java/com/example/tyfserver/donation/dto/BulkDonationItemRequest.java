@@ -0,0 +1,28 @@
+package com.example.tyfserver.donation.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkDonationItemRequest {
+
+    @NotBlank
+    private String donatorPageName;
+    @NotBlank
+    private String pageName;
+    @NotNull
+    @Positive
+    private Long point;
+
+    public BulkDonationItemRequest(String donatorPageName, String pageName, Long point) {
+        this.donatorPageName = donatorPageName;
+        this.pageName = pageName;
+        this.point = point;
+    }
+}
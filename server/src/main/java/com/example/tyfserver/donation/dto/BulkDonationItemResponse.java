@@ -0,0 +1,28 @@
+package com.example.tyfserver.donation.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkDonationItemResponse {
+
+    private int index;
+    private boolean success;
+    private String errorCode;
+
+    public BulkDonationItemResponse(int index, boolean success, String errorCode) {
+        this.index = index;
+        this.success = success;
+        this.errorCode = errorCode;
+    }
+
+    public static BulkDonationItemResponse success(int index) {
+        return new BulkDonationItemResponse(index, true, null);
+    }
+
+    public static BulkDonationItemResponse fail(int index, String errorCode) {
+        return new BulkDonationItemResponse(index, false, errorCode);
+    }
+}
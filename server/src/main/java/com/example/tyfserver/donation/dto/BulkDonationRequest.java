@@ -0,0 +1,26 @@
+package com.example.tyfserver.donation.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkDonationRequest {
+
+    public static final int MAX_SIZE = 1000;
+
+    @Valid
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    private List<BulkDonationItemRequest> donations;
+
+    public BulkDonationRequest(List<BulkDonationItemRequest> donations) {
+        this.donations = donations;
+    }
+}
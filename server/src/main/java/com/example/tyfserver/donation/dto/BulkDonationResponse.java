@@ -0,0 +1,22 @@
+package com.example.tyfserver.donation.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkDonationResponse {
+
+    private int requested;
+    private int succeeded;
+    private List<BulkDonationItemResponse> results;
+
+    public BulkDonationResponse(List<BulkDonationItemResponse> results) {
+        this.requested = results.size();
+        this.succeeded = (int) results.stream().filter(BulkDonationItemResponse::isSuccess).count();
+        this.results = results;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.tyfserver.donation.dto;
+
+import com.example.tyfserver.donation.domain.Message;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BulkDonationRow {
+
+    private final Long donatorId;
+    private final String donatorPageName;
+    private final Long creatorId;
+    private final Message message;
+    private final long point;
+
+    public BulkDonationRow(DonationMemberDto donator, DonationMemberDto creator, long point) {
+        this.donatorId = donator.getId();
+        this.donatorPageName = donator.getPageName();
+        this.creatorId = creator.getId();
+        this.message = new Message(donator.getNickname());
+        this.point = point;
+    }
+
+    public DonationResponse toPublicResponse(Long donationId, LocalDateTime createdAt) {
+        if (message.isSecret()) {
+            return new DonationResponse(donationId, Message.SECRET_NAME, Message.SECRET_MESSAGE, point, createdAt,
+                    Message.SECRET_PAGE_NAME);
+        }
+        return new DonationResponse(donationId, message.getName(), message.getMessage(), point, createdAt,
+                donatorPageName);
+    }
+}
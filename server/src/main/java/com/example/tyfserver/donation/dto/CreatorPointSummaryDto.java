@@ -0,0 +1,29 @@
+package com.example.tyfserver.donation.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CreatorPointSummaryDto {
+    private Long creatorId;
+    private long waitingPoint;
+    private long exchangedPoint;
+    private long donationCount;
+
+    @QueryProjection
+    public CreatorPointSummaryDto(Long creatorId, Long waitingPoint, Long exchangedPoint, Long donationCount) {
+        this.creatorId = creatorId;
+        this.waitingPoint = Objects.requireNonNullElse(waitingPoint, 0L);
+        this.exchangedPoint = Objects.requireNonNullElse(exchangedPoint, 0L);
+        this.donationCount = Objects.requireNonNullElse(donationCount, 0L);
+    }
+
+    public static CreatorPointSummaryDto empty(Long creatorId) {
+        return new CreatorPointSummaryDto(creatorId, 0L, 0L, 0L);
+    }
+}
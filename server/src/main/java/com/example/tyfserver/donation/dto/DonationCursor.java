@@ -0,0 +1,51 @@
+package com.example.tyfserver.donation.dto;
+
+import com.example.tyfserver.donation.domain.Donation;
+import com.example.tyfserver.donation.exception.InvalidDonationCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 기준 키셋 페이지네이션 위치. 클라이언트에게는 인코딩된 문자열로만 노출한다.
+ */
+@Getter
+public class DonationCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long donationId;
+
+    public DonationCursor(LocalDateTime createdAt, Long donationId) {
+        this.createdAt = createdAt;
+        this.donationId = donationId;
+    }
+
+    public static DonationCursor of(Donation donation) {
+        return new DonationCursor(donation.getCreatedAt(), donation.getId());
+    }
+
+    public static DonationCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            return new DonationCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidDonationCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + donationId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.tyfserver.donation.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DonationCursorResponse {
+
+    private List<DonationResponse> donations;
+    private String nextCursor;
+
+    public DonationCursorResponse(List<DonationResponse> donations, String nextCursor) {
+        this.donations = donations;
+        this.nextCursor = nextCursor;
+    }
+}
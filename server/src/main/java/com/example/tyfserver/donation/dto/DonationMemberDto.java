@@ -0,0 +1,19 @@
+package com.example.tyfserver.donation.dto;
+
+import lombok.Getter;
+
+@Getter
+public class DonationMemberDto {
+
+    private final Long id;
+    private final String nickname;
+    private final String pageName;
+    private final long point;
+
+    public DonationMemberDto(Long id, String nickname, String pageName, long point) {
+        this.id = id;
+        this.nickname = nickname;
+        this.pageName = pageName;
+        this.point = point;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.tyfserver.donation.dto;
+
+import lombok.Getter;
+
+@Getter
+public class DonationStreamEvent {
+
+    private final Long creatorId;
+    private final DonationResponse donation;
+
+    public DonationStreamEvent(Long creatorId, DonationResponse donation) {
+        this.creatorId = creatorId;
+        this.donation = donation;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.tyfserver.donation.dto;
+
+import com.example.tyfserver.donation.domain.CreatorPointSummary;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointSummaryDriftResponse {
+
+    private Long creatorId;
+    private long waitingPointDrift;
+    private long exchangedPointDrift;
+    private long donationCountDrift;
+
+    public PointSummaryDriftResponse(Long creatorId, long waitingPointDrift, long exchangedPointDrift,
+                                     long donationCountDrift) {
+        this.creatorId = creatorId;
+        this.waitingPointDrift = waitingPointDrift;
+        this.exchangedPointDrift = exchangedPointDrift;
+        this.donationCountDrift = donationCountDrift;
+    }
+
+    public static PointSummaryDriftResponse of(CreatorPointSummaryDto expected, CreatorPointSummary actual) {
+        return new PointSummaryDriftResponse(expected.getCreatorId(),
+                expected.getWaitingPoint() - actual.getWaitingPoint(),
+                expected.getExchangedPoint() - actual.getExchangedPoint(),
+                expected.getDonationCount() - actual.getDonationCount());
+    }
+
+    public boolean hasDrift() {
+        return waitingPointDrift != 0 || exchangedPointDrift != 0 || donationCountDrift != 0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.tyfserver.donation.exception;
+
+import com.example.tyfserver.common.exception.BaseException;
+
+public class InvalidDonationCursorException extends BaseException {
+
+    public static final String ERROR_CODE = "donation-006";
+    private static final String MESSAGE = "유효하지 않은 후원 목록 커서입니다.";
+
+    public InvalidDonationCursorException() {
+        super(ERROR_CODE, MESSAGE);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.tyfserver.donation.repository;
+
+import com.example.tyfserver.donation.domain.CreatorPointSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CreatorPointSummaryRepository extends JpaRepository<CreatorPointSummary, Long> {
+
+    Optional<CreatorPointSummary> findByCreatorId(Long creatorId);
+
+    // 읽어둔 값이 그대로일 때만 덮어써서, 그 사이 후원이 반영됐거나 다른 서버가 먼저 보정했으면 건드리지 않는다.
+    @Modifying
+    @Query("update CreatorPointSummary s set s.waitingPoint = :waitingPoint, " +
+            "s.exchangedPoint = :exchangedPoint, s.donationCount = :donationCount " +
+            "where s.creatorId = :creatorId and s.waitingPoint = :observedWaitingPoint " +
+            "and s.exchangedPoint = :observedExchangedPoint and s.donationCount = :observedDonationCount")
+    int overwrite(@Param("creatorId") Long creatorId, @Param("waitingPoint") long waitingPoint,
+                  @Param("exchangedPoint") long exchangedPoint, @Param("donationCount") long donationCount,
+                  @Param("observedWaitingPoint") long observedWaitingPoint,
+                  @Param("observedExchangedPoint") long observedExchangedPoint,
+                  @Param("observedDonationCount") long observedDonationCount);
+}
@@ -0,0 +1,87 @@
+package com.example.tyfserver.donation.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 요약 행이 없으면 만들고 있으면 더하는 것을 한 문장으로 처리해서, 같은 창작자의 첫 후원이 동시에 들어와도
+ * 둘 다 insert 하다가 유니크 제약에 걸리지 않게 한다.
+ * 운영 DB 인 MySQL 은 on duplicate key update 를, 로컬과 테스트의 H2 는 표준 merge 를 사용한다.
+ */
+@Repository
+public class CreatorPointSummaryUpsertRepository {
+
+    private static final String MYSQL_ADD = "INSERT INTO creator_point_summary " +
+            "(creator_id, waiting_point, exchanged_point, donation_count) " +
+            "VALUES (:creatorId, :waitingPoint, :exchangedPoint, :donationCount) " +
+            "ON DUPLICATE KEY UPDATE waiting_point = waiting_point + VALUES(waiting_point), " +
+            "exchanged_point = exchanged_point + VALUES(exchanged_point), " +
+            "donation_count = donation_count + VALUES(donation_count)";
+
+    private static final String H2_ADD = "MERGE INTO creator_point_summary s " +
+            "USING (SELECT CAST(:creatorId AS BIGINT) AS creator_id, CAST(:waitingPoint AS BIGINT) AS waiting_point, " +
+            "CAST(:exchangedPoint AS BIGINT) AS exchanged_point, CAST(:donationCount AS BIGINT) AS donation_count) v " +
+            "ON s.creator_id = v.creator_id " +
+            "WHEN MATCHED THEN UPDATE SET waiting_point = s.waiting_point + v.waiting_point, " +
+            "exchanged_point = s.exchanged_point + v.exchanged_point, " +
+            "donation_count = s.donation_count + v.donation_count " +
+            "WHEN NOT MATCHED THEN INSERT (creator_id, waiting_point, exchanged_point, donation_count) " +
+            "VALUES (v.creator_id, v.waiting_point, v.exchanged_point, v.donation_count)";
+
+    private static final String MYSQL_CREATE_IF_ABSENT = "INSERT INTO creator_point_summary " +
+            "(creator_id, waiting_point, exchanged_point, donation_count) " +
+            "VALUES (:creatorId, :waitingPoint, :exchangedPoint, :donationCount) " +
+            "ON DUPLICATE KEY UPDATE creator_id = creator_id";
+
+    private static final String H2_CREATE_IF_ABSENT = "MERGE INTO creator_point_summary s " +
+            "USING (SELECT CAST(:creatorId AS BIGINT) AS creator_id, CAST(:waitingPoint AS BIGINT) AS waiting_point, " +
+            "CAST(:exchangedPoint AS BIGINT) AS exchanged_point, CAST(:donationCount AS BIGINT) AS donation_count) v " +
+            "ON s.creator_id = v.creator_id " +
+            "WHEN NOT MATCHED THEN INSERT (creator_id, waiting_point, exchanged_point, donation_count) " +
+            "VALUES (v.creator_id, v.waiting_point, v.exchanged_point, v.donation_count)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String addSql;
+    private final String createIfAbsentSql;
+
+    public CreatorPointSummaryUpsertRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        boolean mySql = isMySql(jdbcTemplate.getJdbcTemplate().getDataSource());
+        this.addSql = mySql ? MYSQL_ADD : H2_ADD;
+        this.createIfAbsentSql = mySql ? MYSQL_CREATE_IF_ABSENT : H2_CREATE_IF_ABSENT;
+    }
+
+    public void add(Long creatorId, long waitingPoint, long exchangedPoint, long donationCount) {
+        jdbcTemplate.update(addSql, params(creatorId, waitingPoint, exchangedPoint, donationCount));
+    }
+
+    // 이미 행이 있으면 아무것도 바꾸지 않는다.
+    public void createIfAbsent(Long creatorId, long waitingPoint, long exchangedPoint, long donationCount) {
+        jdbcTemplate.update(createIfAbsentSql, params(creatorId, waitingPoint, exchangedPoint, donationCount));
+    }
+
+    private MapSqlParameterSource params(Long creatorId, long waitingPoint, long exchangedPoint,
+                                         long donationCount) {
+        return new MapSqlParameterSource()
+                .addValue("creatorId", creatorId)
+                .addValue("waitingPoint", waitingPoint)
+                .addValue("exchangedPoint", exchangedPoint)
+                .addValue("donationCount", donationCount);
+    }
+
+    private static boolean isMySql(DataSource dataSource) {
+        try {
+            Object productName = JdbcUtils.extractDatabaseMetaData(dataSource,
+                    DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equalsIgnoreCase(String.valueOf(productName));
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("cannot detect database product", e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.tyfserver.donation.repository;
+
+import com.example.tyfserver.donation.domain.DonationStatus;
+import com.example.tyfserver.donation.dto.BulkDonationRow;
+import com.example.tyfserver.donation.dto.DonationMemberDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class DonationBulkRepository {
+
+    private static final String INSERT_DONATION = "INSERT INTO donation (created_at, message, name, secret, point, " +
+            "status, creator_id, donator_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${batch_size}")
+    private int batchSize;
+
+    public List<DonationMemberDto> findMembersByPageNames(Collection<String> pageNames) {
+        List<DonationMemberDto> members = new ArrayList<>();
+        for (List<String> chunk : chunks(new ArrayList<>(pageNames))) {
+            members.addAll(jdbcTemplate.query(
+                    "SELECT id, nickname, page_name, point FROM member WHERE page_name IN (:pageNames)",
+                    new MapSqlParameterSource("pageNames", chunk),
+                    (rs, rowNum) -> new DonationMemberDto(rs.getLong("id"), rs.getString("nickname"),
+                            rs.getString("page_name"), rs.getLong("point"))));
+        }
+        return members;
+    }
+
+    /**
+     * 후원을 batch_size 단위로 나눠 JDBC batch 로 저장하고, 저장한 순서대로 생성된 id 를 반환한다.
+     * MySQL 은 datasource 에 rewriteBatchedStatements=true 를 켜야 batch 가 여러 행을 담은 insert 한 번으로 바뀐다.
+     * 꺼져 있으면 드라이버가 행마다 insert 를 따로 보내므로 일괄 등록의 이점이 사라진다.
+     */
+    public List<Long> saveAll(List<BulkDonationRow> donations, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        List<Long> ids = new ArrayList<>(donations.size());
+        for (List<BulkDonationRow> chunk : chunks(donations)) {
+            ids.addAll(jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<List<Long>>) connection ->
+                    insert(connection, chunk, timestamp)));
+        }
+        return ids;
+    }
+
+    private List<Long> insert(Connection connection, List<BulkDonationRow> chunk, Timestamp createdAt)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_DONATION,
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (BulkDonationRow donation : chunk) {
+                statement.setTimestamp(1, createdAt);
+                statement.setString(2, donation.getMessage().getMessage());
+                statement.setString(3, donation.getMessage().getName());
+                statement.setBoolean(4, donation.getMessage().isSecret());
+                statement.setLong(5, donation.getPoint());
+                statement.setString(6, DonationStatus.WAITING_FOR_EXCHANGE.name());
+                statement.setLong(7, donation.getCreatorId());
+                statement.setLong(8, donation.getDonatorId());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+
+            List<Long> ids = new ArrayList<>(chunk.size());
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                while (keys.next()) {
+                    ids.add(keys.getLong(1));
+                }
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * 후원자별로 합산한 포인트를 조건부로 차감한다. 반환값은 실제로 차감된 후원자 수이다.
+     */
+    public int reducePoints(Map<Long, Long> pointsByDonator) {
+        MapSqlParameterSource[] params = pointsByDonator.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey())
+                        .addValue("amount", entry.getValue()))
+                .toArray(MapSqlParameterSource[]::new);
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE member SET point = point - :amount WHERE id = :id AND point >= :amount", params);
+
+        int count = 0;
+        for (int row : updated) {
+            count += row;
+        }
+        return count;
+    }
+
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += batchSize) {
+            chunks.add(items.subList(i, Math.min(i + batchSize, items.size())));
+        }
+        return chunks;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.tyfserver.donation.repository;
 
 import com.example.tyfserver.donation.domain.Donation;
+import com.example.tyfserver.donation.dto.CreatorPointSummaryDto;
+import com.example.tyfserver.donation.dto.DonationCursor;
 import com.example.tyfserver.member.domain.Member;
 
 import java.time.YearMonth;
@@ -15,4 +17,8 @@ public interface DonationQueryRepository {
     List<Donation> findDonationsToExchange(Member creator, YearMonth exchangeOn);
 
     Long calculateExchangeAmountFromDonation(Member creator, YearMonth exchangeOn);
+
+    List<CreatorPointSummaryDto> calculatePointSummaries();
+
+    List<Donation> findDonationsByCursor(Long creatorId, DonationCursor cursor, int size);
 }
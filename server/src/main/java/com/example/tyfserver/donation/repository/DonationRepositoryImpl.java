@@ -2,8 +2,13 @@ package com.example.tyfserver.donation.repository;
 
 import com.example.tyfserver.donation.domain.Donation;
 import com.example.tyfserver.donation.domain.DonationStatus;
+import com.example.tyfserver.donation.dto.CreatorPointSummaryDto;
+import com.example.tyfserver.donation.dto.DonationCursor;
+import com.example.tyfserver.donation.dto.QCreatorPointSummaryDto;
 import com.example.tyfserver.member.domain.Member;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import javax.persistence.EntityManager;
@@ -78,6 +83,49 @@ public class DonationRepositoryImpl implements DonationQueryRepository {
                 .fetchOne();
     }
 
+    @Override
+    public List<CreatorPointSummaryDto> calculatePointSummaries() {
+        return queryFactory
+                .select(new QCreatorPointSummaryDto(
+                        donation.creator.id,
+                        pointSumOf(waitingForExchangeStatus()),
+                        pointSumOf(exchangedStatus()),
+                        donation.count()))
+                .from(donation)
+                .where(donation.creator.id.isNotNull())
+                .groupBy(donation.creator.id)
+                .fetch();
+    }
+
+    @Override
+    public List<Donation> findDonationsByCursor(Long creatorId, DonationCursor cursor, int size) {
+        return queryFactory
+                .selectFrom(donation)
+                .leftJoin(donation.donator).fetchJoin()
+                .where(
+                        donationOwner(creatorId),
+                        beforeCursor(cursor)
+                )
+                .orderBy(donation.createdAt.desc(), donation.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression beforeCursor(DonationCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return donation.createdAt.lt(cursor.getCreatedAt())
+                .or(donation.createdAt.eq(cursor.getCreatedAt()).and(donation.id.lt(cursor.getDonationId())));
+    }
+
+    private NumberExpression<Long> pointSumOf(BooleanExpression status) {
+        return new CaseBuilder()
+                .when(status).then(donation.point)
+                .otherwise(0L)
+                .sum();
+    }
+
     private BooleanExpression waitingForExchangeStatus() {
         return donation.status.eq(DonationStatus.WAITING_FOR_EXCHANGE);
     }
@@ -0,0 +1,116 @@
+package com.example.tyfserver.donation.service;
+
+import com.example.tyfserver.donation.dto.BulkDonationItemRequest;
+import com.example.tyfserver.donation.dto.BulkDonationItemResponse;
+import com.example.tyfserver.donation.dto.BulkDonationRequest;
+import com.example.tyfserver.donation.dto.BulkDonationResponse;
+import com.example.tyfserver.donation.dto.BulkDonationRow;
+import com.example.tyfserver.donation.dto.DonationMemberDto;
+import com.example.tyfserver.donation.dto.DonationStreamEvent;
+import com.example.tyfserver.donation.repository.DonationBulkRepository;
+import com.example.tyfserver.member.exception.MemberNotFoundException;
+import com.example.tyfserver.member.exception.NotEnoughPointException;
+import com.example.tyfserver.member.service.CurationLeaderboard;
+import com.example.tyfserver.member.service.TrendingCreatorBoard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BulkDonationService {
+
+    private final DonationBulkRepository donationBulkRepository;
+    private final CreatorPointSummaryService creatorPointSummaryService;
+    private final PublicDonationCache publicDonationCache;
+    private final CurationLeaderboard curationLeaderboard;
+    private final TrendingCreatorBoard trendingCreatorBoard;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BulkDonationResponse createDonations(BulkDonationRequest request) {
+        List<BulkDonationItemRequest> items = request.getDonations();
+        Map<String, DonationMemberDto> members = findMembers(items);
+
+        // 후원자별 남은 포인트를 메모리에서 차감해가며 검증하고, 통과한 항목만 모아서 한 번에 반영한다.
+        Map<Long, Long> remainPoints = new HashMap<>();
+        Map<Long, Long> pointsByDonator = new LinkedHashMap<>();
+        Map<Long, Long> pointsByCreator = new LinkedHashMap<>();
+        Map<Long, Long> countsByCreator = new HashMap<>();
+        Set<String> creatorPageNames = new HashSet<>();
+        List<BulkDonationRow> rows = new ArrayList<>();
+        List<BulkDonationItemResponse> results = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            BulkDonationItemRequest item = items.get(i);
+            DonationMemberDto donator = members.get(item.getDonatorPageName());
+            DonationMemberDto creator = members.get(item.getPageName());
+            if (donator == null || creator == null) {
+                results.add(BulkDonationItemResponse.fail(i, MemberNotFoundException.ERROR_CODE));
+                continue;
+            }
+
+            long remainPoint = remainPoints.getOrDefault(donator.getId(), donator.getPoint());
+            if (remainPoint < item.getPoint()) {
+                results.add(BulkDonationItemResponse.fail(i, NotEnoughPointException.ERROR_CODE));
+                continue;
+            }
+
+            remainPoints.put(donator.getId(), remainPoint - item.getPoint());
+            pointsByDonator.merge(donator.getId(), item.getPoint(), Long::sum);
+            pointsByCreator.merge(creator.getId(), item.getPoint(), Long::sum);
+            countsByCreator.merge(creator.getId(), 1L, Long::sum);
+            creatorPageNames.add(creator.getPageName());
+            rows.add(new BulkDonationRow(donator, creator, item.getPoint()));
+            results.add(BulkDonationItemResponse.success(i));
+        }
+
+        if (!rows.isEmpty()) {
+            save(rows, pointsByDonator, pointsByCreator, countsByCreator);
+            creatorPageNames.forEach(publicDonationCache::evict);
+        }
+        return new BulkDonationResponse(results);
+    }
+
+    private Map<String, DonationMemberDto> findMembers(List<BulkDonationItemRequest> items) {
+        Set<String> pageNames = new HashSet<>();
+        for (BulkDonationItemRequest item : items) {
+            pageNames.add(item.getDonatorPageName());
+            pageNames.add(item.getPageName());
+        }
+        return donationBulkRepository.findMembersByPageNames(pageNames).stream()
+                .collect(Collectors.toMap(DonationMemberDto::getPageName, Function.identity()));
+    }
+
+    private void save(List<BulkDonationRow> rows, Map<Long, Long> pointsByDonator, Map<Long, Long> pointsByCreator,
+                      Map<Long, Long> countsByCreator) {
+        // 조회 이후 다른 요청이 포인트를 먼저 써버렸다면 전체를 롤백한다.
+        if (donationBulkRepository.reducePoints(pointsByDonator) != pointsByDonator.size()) {
+            throw new NotEnoughPointException();
+        }
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Long> donationIds = donationBulkRepository.saveAll(rows, createdAt);
+        pointsByCreator.forEach((creatorId, point) ->
+                creatorPointSummaryService.addDonations(creatorId, point, countsByCreator.get(creatorId)));
+        pointsByCreator.forEach(curationLeaderboard::increase);
+        pointsByCreator.forEach(trendingCreatorBoard::record);
+        // 단건 후원과 같이 후원마다 이벤트를 남겨서 커밋된 뒤에 실시간 후원 구독자에게 전달한다.
+        for (int i = 0; i < rows.size(); i++) {
+            BulkDonationRow row = rows.get(i);
+            eventPublisher.publishEvent(new DonationStreamEvent(row.getCreatorId(),
+                    row.toPublicResponse(donationIds.get(i), createdAt)));
+        }
+    }
+}
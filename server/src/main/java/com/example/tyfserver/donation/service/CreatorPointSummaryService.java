@@ -0,0 +1,105 @@
+package com.example.tyfserver.donation.service;
+
+import com.example.tyfserver.donation.domain.CreatorPointSummary;
+import com.example.tyfserver.donation.dto.CreatorPointSummaryDto;
+import com.example.tyfserver.donation.dto.PointSummaryDriftResponse;
+import com.example.tyfserver.donation.repository.CreatorPointSummaryRepository;
+import com.example.tyfserver.donation.repository.CreatorPointSummaryUpsertRepository;
+import com.example.tyfserver.donation.repository.DonationRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CreatorPointSummaryService {
+
+    private final Logger logger = LoggerFactory.getLogger(CreatorPointSummaryService.class);
+
+    private final CreatorPointSummaryRepository creatorPointSummaryRepository;
+    private final CreatorPointSummaryUpsertRepository creatorPointSummaryUpsertRepository;
+    private final DonationRepository donationRepository;
+
+    public void addDonation(Long creatorId, long point) {
+        creatorPointSummaryUpsertRepository.add(creatorId, point, 0L, 1L);
+    }
+
+    // 한 창작자에게 들어온 여러 후원을 합친 포인트와 건수로 한 번에 반영한다.
+    public void addDonations(Long creatorId, long point, long count) {
+        creatorPointSummaryUpsertRepository.add(creatorId, point, 0L, count);
+    }
+
+    public void exchange(Long creatorId, long point) {
+        creatorPointSummaryUpsertRepository.add(creatorId, -point, point, 0L);
+    }
+
+    @Transactional(readOnly = true)
+    public CreatorPointSummary findSummary(Long creatorId) {
+        return creatorPointSummaryRepository.findByCreatorId(creatorId)
+                .orElseGet(() -> CreatorPointSummary.empty(creatorId));
+    }
+
+    // donation 테이블에서 다시 집계한 값으로 요약 테이블을 덮어쓴다.
+    // 여러 서버에서 같은 시각에 돌아도 읽어둔 값이 그대로인 행만 덮어쓰므로 보정이 두 번 적용되지 않는다.
+    @Scheduled(cron = "0 0 4 * * *")
+    public List<PointSummaryDriftResponse> reconcile() {
+        Map<Long, CreatorPointSummary> summaries = creatorPointSummaryRepository.findAll().stream()
+                .collect(Collectors.toMap(CreatorPointSummary::getCreatorId, Function.identity()));
+        List<PointSummaryDriftResponse> drifts = new ArrayList<>();
+
+        for (CreatorPointSummaryDto expected : donationRepository.calculatePointSummaries()) {
+            correct(expected, summaries.remove(expected.getCreatorId()), drifts);
+        }
+        for (CreatorPointSummary orphan : summaries.values()) {
+            correct(CreatorPointSummaryDto.empty(orphan.getCreatorId()), orphan, drifts);
+        }
+
+        logger.info("=== POINT SUMMARY RECONCILED === drift: {}", drifts.size());
+        return drifts;
+    }
+
+    private void correct(CreatorPointSummaryDto expected, CreatorPointSummary observed,
+                         List<PointSummaryDriftResponse> drifts) {
+        if (observed == null) {
+            CreatorPointSummary empty = CreatorPointSummary.empty(expected.getCreatorId());
+            PointSummaryDriftResponse drift = PointSummaryDriftResponse.of(expected, empty);
+            if (drift.hasDrift()) {
+                warnDrift(drift);
+                creatorPointSummaryUpsertRepository.createIfAbsent(expected.getCreatorId(),
+                        expected.getWaitingPoint(), expected.getExchangedPoint(), expected.getDonationCount());
+                drifts.add(drift);
+            }
+            return;
+        }
+
+        PointSummaryDriftResponse drift = PointSummaryDriftResponse.of(expected, observed);
+        if (!drift.hasDrift()) {
+            return;
+        }
+        warnDrift(drift);
+        int updated = creatorPointSummaryRepository.overwrite(expected.getCreatorId(),
+                expected.getWaitingPoint(), expected.getExchangedPoint(), expected.getDonationCount(),
+                observed.getWaitingPoint(), observed.getExchangedPoint(), observed.getDonationCount());
+        if (updated == 0) {
+            logger.info("point summary changed while reconciling, skipped - creatorId: {}", drift.getCreatorId());
+            return;
+        }
+        drifts.add(drift);
+    }
+
+    private void warnDrift(PointSummaryDriftResponse drift) {
+        logger.warn("point summary drift - creatorId: {}, waiting: {}, exchanged: {}, count: {}",
+                drift.getCreatorId(), drift.getWaitingPointDrift(), drift.getExchangedPointDrift(),
+                drift.getDonationCountDrift());
+    }
+}
@@ -2,19 +2,28 @@ package com.example.tyfserver.donation.service;
 
 import com.example.tyfserver.donation.domain.Donation;
 import com.example.tyfserver.donation.domain.Message;
+import com.example.tyfserver.donation.dto.DonationCursor;
+import com.example.tyfserver.donation.dto.DonationCursorResponse;
 import com.example.tyfserver.donation.dto.DonationMessageRequest;
 import com.example.tyfserver.donation.dto.DonationRequest;
 import com.example.tyfserver.donation.dto.DonationResponse;
+import com.example.tyfserver.donation.dto.DonationStreamEvent;
 import com.example.tyfserver.donation.exception.DonationNotFoundException;
 import com.example.tyfserver.donation.repository.DonationRepository;
 import com.example.tyfserver.member.domain.Member;
 import com.example.tyfserver.member.exception.MemberNotFoundException;
+import com.example.tyfserver.member.exception.NotEnoughPointException;
 import com.example.tyfserver.member.repository.MemberRepository;
+import com.example.tyfserver.member.service.CurationLeaderboard;
+import com.example.tyfserver.member.service.TrendingCreatorBoard;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,31 +33,55 @@ import java.util.stream.Collectors;
 @Transactional
 public class DonationService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final DonationRepository donationRepository;
     private final MemberRepository memberRepository;
+    private final CreatorPointSummaryService creatorPointSummaryService;
+    private final PublicDonationCache publicDonationCache;
+    private final DonationStreamHub donationStreamHub;
+    private final CurationLeaderboard curationLeaderboard;
+    private final TrendingCreatorBoard trendingCreatorBoard;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public DonationResponse createDonation(DonationRequest donationRequest, long donatorId) {
         Member donator = findMember(donatorId);
-        Member creator = memberRepository.findByPageName(donationRequest.getPageName())
+        Long creatorId = memberRepository.findIdByPageName(donationRequest.getPageName())
                 .orElseThrow(MemberNotFoundException::new);
 
-        donator.validateEnoughPoint(donationRequest.getPoint());
+        reducePoint(donatorId, donationRequest.getPoint());
 
         Message message = new Message(donator.getNickname());
-        Donation savedDonation = donationRepository.save(new Donation(message, donationRequest.getPoint()));
-        savedDonation.donate(donator, creator);
+        Member creator = memberRepository.getOne(creatorId);
+        Donation savedDonation = donationRepository.save(
+                new Donation(message, donationRequest.getPoint(), donator, creator));
+        creatorPointSummaryService.addDonation(creatorId, donationRequest.getPoint());
+        curationLeaderboard.increase(creatorId, donationRequest.getPoint());
+        trendingCreatorBoard.record(creatorId, donationRequest.getPoint());
+        publicDonationCache.evict(donationRequest.getPageName());
+        eventPublisher.publishEvent(new DonationStreamEvent(creatorId, DonationResponse.forPublic(savedDonation)));
 
         return new DonationResponse(savedDonation);
     }
 
+    // 포인트 차감은 조건부 UPDATE 한 번으로 처리해서 동시 후원 시에도 갱신이 유실되지 않도록 한다.
+    private void reducePoint(Long donatorId, Long point) {
+        if (memberRepository.reducePointIfEnough(donatorId, point) == 0) {
+            throw new NotEnoughPointException();
+        }
+    }
+
     public void addMessageToDonation(final Long requestMemberId,
                                      final Long donationId, final DonationMessageRequest donationMessageRequest) {
         Member requestMember = findMember(requestMemberId);
         Donation donation = donationRepository.findById(donationId)
                 .orElseThrow(DonationNotFoundException::new);
-        requestMember.validateMemberGivenDonation(donation);
+        donation.validateDonator(requestMember.getId());
 
         donation.addMessage(donationMessageRequest.toEntity(requestMember.getNickname()));
+        publicDonationCache.evict(donation.getCreator().getPageName());
+        eventPublisher.publishEvent(new DonationStreamEvent(donation.getCreator().getId(), DonationResponse.forPublic(donation)));
     }
 
     @Transactional(readOnly = true)
@@ -61,13 +94,46 @@ public class DonationService {
     }
 
     @Transactional(readOnly = true)
+    public DonationCursorResponse findMyDonationsByCursor(Long memberId, String cursor, int size) {
+        Member findMember = findMember(memberId);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회한다.
+        List<Donation> donations = donationRepository
+                .findDonationsByCursor(findMember.getId(), DonationCursor.decode(cursor), pageSize + 1);
+        if (donations.size() <= pageSize) {
+            return new DonationCursorResponse(privateDonationResponses(donations), null);
+        }
+
+        List<Donation> page = donations.subList(0, pageSize);
+        String nextCursor = DonationCursor.of(page.get(pageSize - 1)).encode();
+        return new DonationCursorResponse(privateDonationResponses(page), nextCursor);
+    }
+
+    // 캐시에 있으면 커넥션을 잡지 않도록, 캐시를 채울 때만 읽기 전용 트랜잭션을 연다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<DonationResponse> findPublicDonations(String pageName) {
-        Member findMember = memberRepository.findByPageName(pageName)
-                .orElseThrow(MemberNotFoundException::new);
+        return publicDonationCache.get(pageName, () -> readOnlyTransaction().execute(status -> {
+            Member findMember = memberRepository.findByPageName(pageName)
+                    .orElseThrow(MemberNotFoundException::new);
+
+            return publicDonationResponses(
+                    donationRepository.findDonationByCreatorOrderByCreatedAtDesc(findMember, PageRequest.of(0, 5))
+            );
+        }));
+    }
 
-        return publicDonationResponses(
-                donationRepository.findDonationByCreatorOrderByCreatedAtDesc(findMember, PageRequest.of(0, 5))
-        );
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate readOnlyTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTemplate.setReadOnly(true);
+        return readOnlyTemplate;
+    }
+
+    @Transactional(readOnly = true)
+    public DonationSubscriber subscribePublicDonations(String pageName, DonationStreamSink sink) {
+        Long creatorId = memberRepository.findIdByPageName(pageName)
+                .orElseThrow(MemberNotFoundException::new);
+        return donationStreamHub.subscribe(creatorId, sink);
     }
 
     private List<DonationResponse> privateDonationResponses(List<Donation> donations) {
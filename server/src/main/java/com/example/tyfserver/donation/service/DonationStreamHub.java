@@ -0,0 +1,109 @@
+package com.example.tyfserver.donation.service;
+
+import com.example.tyfserver.donation.dto.DonationResponse;
+import com.example.tyfserver.donation.dto.DonationStreamEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 전송이 sendTimeout 을 넘긴 구독자는 주기적으로 찾아 끊어내고 전송 스레드를 돌려받는다.
+ * 전송 스레드가 모두 사용 중이라 실행기가 전송을 받지 않으면, 그 구독자는 기다리게 하지 않고 끊어낸다.
+ */
+@Component
+public class DonationStreamHub {
+
+    private static final int DEFAULT_BUFFER_SIZE = 32;
+    private static final Duration DEFAULT_SEND_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Map<Long, Set<DonationSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final int bufferSize;
+    private final long sendTimeoutNanos;
+    private final Counter droppedCounter;
+    private final Counter timedOutCounter;
+
+    @Autowired
+    public DonationStreamHub(@Qualifier("donationStreamExecutor") Executor executor, MeterRegistry meterRegistry) {
+        this(executor, meterRegistry, DEFAULT_BUFFER_SIZE, DEFAULT_SEND_TIMEOUT);
+    }
+
+    DonationStreamHub(Executor executor, MeterRegistry meterRegistry, int bufferSize, Duration sendTimeout) {
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.droppedCounter = meterRegistry.counter("donation.stream.dropped");
+        this.timedOutCounter = meterRegistry.counter("donation.stream.send.timeout");
+        meterRegistry.gauge("donation.stream.subscribers", subscribers,
+                map -> map.values().stream().mapToInt(Set::size).sum());
+    }
+
+    public DonationSubscriber subscribe(Long creatorId, DonationStreamSink sink) {
+        DonationSubscriber subscriber = new DonationSubscriber(creatorId, sink, bufferSize, this::unsubscribe);
+        subscribers.computeIfAbsent(creatorId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        return subscriber;
+    }
+
+    public void unsubscribe(DonationSubscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.getCreatorId(), (key, creatorSubscribers) -> {
+            creatorSubscribers.remove(subscriber);
+            return creatorSubscribers.isEmpty() ? null : creatorSubscribers;
+        });
+    }
+
+    @TransactionalEventListener
+    public void onDonation(DonationStreamEvent event) {
+        publish(event.getCreatorId(), event.getDonation());
+    }
+
+    public void publish(Long creatorId, DonationResponse donation) {
+        for (DonationSubscriber subscriber : subscribers.getOrDefault(creatorId, Collections.emptySet())) {
+            if (!subscriber.offer(donation)) {
+                droppedCounter.increment();
+                subscriber.close();
+                continue;
+            }
+            if (subscriber.tryStartDrain()) {
+                drain(subscriber);
+            }
+        }
+    }
+
+    private void drain(DonationSubscriber subscriber) {
+        try {
+            executor.execute(subscriber::drain);
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+            subscriber.close();
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void closeStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Set<DonationSubscriber> creatorSubscribers : subscribers.values()) {
+            for (DonationSubscriber subscriber : creatorSubscribers) {
+                if (subscriber.isSendingLongerThan(sendTimeoutNanos, now)) {
+                    timedOutCounter.increment();
+                    subscriber.close();
+                }
+            }
+        }
+    }
+
+    public int subscriberCount(Long creatorId) {
+        return subscribers.getOrDefault(creatorId, Collections.emptySet()).size();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.tyfserver.donation.service;
+
+import com.example.tyfserver.donation.dto.DonationResponse;
+
+import java.io.IOException;
+
+public interface DonationStreamSink {
+
+    void send(DonationResponse donation) throws IOException;
+
+    void close();
+}
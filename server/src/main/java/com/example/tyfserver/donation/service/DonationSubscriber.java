@@ -0,0 +1,134 @@
+package com.example.tyfserver.donation.service;
+
+import com.example.tyfserver.donation.dto.DonationResponse;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 구독자마다 고정 크기의 버퍼를 두고, 버퍼가 가득 찬 구독자는 기다리지 않고 끊어낸다.
+ * 발행하는 쪽은 버퍼에 넣기만 하므로 느린 구독자 때문에 막히지 않는다.
+ * 끊어낼 때 전송 중인 스레드가 있으면 인터럽트해서, 멈춘 클라이언트가 전송 스레드를 계속 붙잡지 못하게 한다.
+ */
+public class DonationSubscriber {
+
+    private static final long NOT_SENDING = 0L;
+
+    private final Long creatorId;
+    private final DonationStreamSink sink;
+    private final ArrayBlockingQueue<DonationResponse> buffer;
+    private final Consumer<DonationSubscriber> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean sinkClosed = new AtomicBoolean();
+
+    // 전송 중인 스레드와 전송 시작 시각. close 의 인터럽트가 다른 구독자의 전송에 닿지 않도록 this 로 잠그고 바꾼다.
+    private Thread sender;
+    private long sendStartedNanos = NOT_SENDING;
+
+    public DonationSubscriber(Long creatorId, DonationStreamSink sink, int bufferSize,
+                              Consumer<DonationSubscriber> onClose) {
+        this.creatorId = creatorId;
+        this.sink = sink;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.onClose = onClose;
+    }
+
+    public Long getCreatorId() {
+        return creatorId;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    boolean offer(DonationResponse donation) {
+        return !closed.get() && buffer.offer(donation);
+    }
+
+    /**
+     * 이미 다른 스레드가 버퍼를 비우고 있다면 false 를 반환해 중복 실행을 막는다.
+     */
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    synchronized boolean isSendingLongerThan(long timeoutNanos, long nowNanos) {
+        return sendStartedNanos != NOT_SENDING && nowNanos - sendStartedNanos > timeoutNanos;
+    }
+
+    void drain() {
+        try {
+            do {
+                DonationResponse donation;
+                while (!closed.get() && (donation = buffer.poll()) != null) {
+                    send(donation);
+                }
+                draining.set(false);
+            } while (!closed.get() && !buffer.isEmpty() && tryStartDrain());
+        } catch (IOException | RuntimeException e) {
+            draining.set(false);
+            close();
+        }
+    }
+
+    private void send(DonationResponse donation) throws IOException {
+        synchronized (this) {
+            if (closed.get()) {
+                return;
+            }
+            sender = Thread.currentThread();
+            sendStartedNanos = System.nanoTime();
+        }
+        try {
+            sink.send(donation);
+        } finally {
+            synchronized (this) {
+                sender = null;
+                sendStartedNanos = NOT_SENDING;
+                // 전송이 끝난 뒤 도착한 인터럽트가 풀의 다음 작업으로 넘어가지 않게 지운다.
+                Thread.interrupted();
+            }
+            if (closed.get()) {
+                closeSink();
+            }
+        }
+    }
+
+    /**
+     * 클라이언트 연결이 이미 끝났을 때 부른다. 끝난 연결은 다시 닫지 않는다.
+     */
+    public void cancel() {
+        sinkClosed.set(true);
+        close();
+    }
+
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        buffer.clear();
+        onClose.accept(this);
+        // SseEmitter 는 전송과 종료가 같은 락을 쓰므로, 전송 중이면 닫는 쪽이 기다리지 않도록 전송 스레드가 끝난 뒤 닫는다.
+        synchronized (this) {
+            if (sender != null) {
+                sender.interrupt();
+                return;
+            }
+        }
+        closeSink();
+    }
+
+    private void closeSink() {
+        if (!sinkClosed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sink.close();
+        } catch (RuntimeException ignored) {
+            // 이미 끊어진 연결은 닫는 도중 예외가 날 수 있다.
+        }
+    }
+}
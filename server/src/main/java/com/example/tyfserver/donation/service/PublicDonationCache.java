@@ -0,0 +1,111 @@
+package com.example.tyfserver.donation.service;
+
+import com.example.tyfserver.donation.dto.DonationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Component
+public class PublicDonationCache {
+
+    private static final String KEY_PREFIX = "publicDonations:";
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final TypeReference<List<DonationResponse>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    private final Logger logger = LoggerFactory.getLogger(PublicDonationCache.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+
+    public PublicDonationCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.hitCounter = meterRegistry.counter("donation.public.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("donation.public.cache", "result", "miss");
+        this.errorCounter = meterRegistry.counter("donation.public.cache", "result", "error");
+    }
+
+    public List<DonationResponse> get(String pageName, Supplier<List<DonationResponse>> loader) {
+        Optional<List<DonationResponse>> cached = read(pageName);
+        if (cached.isPresent()) {
+            hitCounter.increment();
+            return cached.get();
+        }
+
+        missCounter.increment();
+        List<DonationResponse> responses = loader.get();
+        write(pageName, responses);
+        return responses;
+    }
+
+    /**
+     * 바로 지우고, 트랜잭션 커밋 이후 한 번 더 지운다.
+     * 커밋 전에 다른 요청이 이전 데이터로 캐시를 다시 채우는 경우를 막기 위함이다.
+     */
+    public void evict(String pageName) {
+        delete(pageName);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(pageName);
+                }
+            });
+        }
+    }
+
+    private Optional<List<DonationResponse>> read(String pageName) {
+        try {
+            String value = redisTemplate.opsForValue().get(key(pageName));
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value, RESPONSE_TYPE));
+        } catch (DataAccessException | JsonProcessingException e) {
+            errorCounter.increment();
+            logger.warn("public donation cache read failed - pageName: {}", pageName, e);
+            return Optional.empty();
+        }
+    }
+
+    private void write(String pageName, List<DonationResponse> responses) {
+        try {
+            redisTemplate.opsForValue().set(key(pageName), objectMapper.writeValueAsString(responses), TTL);
+        } catch (DataAccessException | JsonProcessingException e) {
+            errorCounter.increment();
+            logger.warn("public donation cache write failed - pageName: {}", pageName, e);
+        }
+    }
+
+    private void delete(String pageName) {
+        try {
+            redisTemplate.delete(key(pageName));
+        } catch (DataAccessException e) {
+            errorCounter.increment();
+            logger.warn("public donation cache evict failed - pageName: {}", pageName, e);
+        }
+    }
+
+    private String key(String pageName) {
+        return KEY_PREFIX + pageName;
+    }
+}
@@ -72,6 +72,11 @@ public class MemberController {
         return ResponseEntity.ok(memberService.findCurations());
     }
 
+    @GetMapping("/curations/{period}")
+    public ResponseEntity<List<CurationsResponse>> trendingCurations(@PathVariable String period) {
+        return ResponseEntity.ok(memberService.findTrendingCurations(period));
+    }
+
     @PutMapping("/profile")
     public ResponseEntity<ProfileResponse> profile(@RequestParam MultipartFile profileImage, LoginMember loginMember) {
         return ResponseEntity.ok((memberService.uploadProfile(profileImage, loginMember)));
@@ -11,6 +11,7 @@ import java.util.Objects;
 
 @Entity
 @Getter
+@Table(name = "exchange", indexes = @Index(name = "IDX_exchange_member_id_status", columnList = "member_id, status"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Exchange extends BaseTimeEntity {
 
@@ -4,7 +4,6 @@ import com.example.tyfserver.auth.domain.Oauth2Type;
 import com.example.tyfserver.common.domain.BaseTimeEntity;
 import com.example.tyfserver.donation.domain.Donation;
 import com.example.tyfserver.member.exception.NotEnoughPointException;
-import com.example.tyfserver.member.exception.WrongDonationOwnerException;
 import com.example.tyfserver.payment.domain.Payment;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -17,6 +16,7 @@ import java.util.Objects;
 
 @Entity
 @Getter
+@Table(name = "member", indexes = @Index(name = "IDX_member_email_oauth2type", columnList = "email, oauth2type"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends BaseTimeEntity {
 
@@ -77,19 +77,17 @@ public class Member extends BaseTimeEntity {
         this(email, nickname, pageName, oauth2Type, null);
     }
 
+    // 연관관계의 주인 쪽만 설정한다. 지연 로딩된 컬렉션에 add 하면 컬렉션 전체를 불러오기 때문이다.
     public void receiveDonation(Donation donation) {
-        this.receivedDonations.add(donation);
         donation.to(this);
     }
 
     public void donateDonation(Donation donation) {
-        this.givenDonations.add(donation);
         donation.from(this);
         reducePoint(donation.getPoint());
     }
 
     public void addPayment(Payment payment) {
-        this.payments.add(payment);
         payment.to(this);
     }
 
@@ -159,13 +157,6 @@ public class Member extends BaseTimeEntity {
         return this.account.getBankbookUrl();
     }
 
-    public void validateMemberGivenDonation(Donation donation) {
-        if (givenDonations.contains(donation)) {
-            return;
-        }
-        throw new WrongDonationOwnerException();
-    }
-
     public boolean isAccountNotRegistered() {
         return account.getStatus() != AccountStatus.REGISTERED;
     }
@@ -0,0 +1,36 @@
+package com.example.tyfserver.member.domain;
+
+import com.example.tyfserver.member.exception.InvalidTrendingPeriodException;
+
+import java.util.Arrays;
+
+public enum TrendingPeriod {
+
+    DAILY(24),
+    WEEKLY(24 * 7),
+    MONTHLY(24 * 30);
+
+    private final int hours;
+
+    TrendingPeriod(int hours) {
+        this.hours = hours;
+    }
+
+    public static TrendingPeriod from(String period) {
+        return Arrays.stream(values())
+                .filter(value -> value.name().equalsIgnoreCase(period))
+                .findAny()
+                .orElseThrow(InvalidTrendingPeriodException::new);
+    }
+
+    public static int maxHours() {
+        return Arrays.stream(values())
+                .mapToInt(TrendingPeriod::getHours)
+                .max()
+                .orElse(0);
+    }
+
+    public int getHours() {
+        return hours;
+    }
+}
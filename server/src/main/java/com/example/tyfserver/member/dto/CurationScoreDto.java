@@ -0,0 +1,19 @@
+package com.example.tyfserver.member.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.util.Objects;
+
+@Getter
+public class CurationScoreDto {
+
+    private final Long memberId;
+    private final long score;
+
+    @QueryProjection
+    public CurationScoreDto(Long memberId, Long score) {
+        this.memberId = memberId;
+        this.score = Objects.requireNonNullElse(score, 0L);
+    }
+}
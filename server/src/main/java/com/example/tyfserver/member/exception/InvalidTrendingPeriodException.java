@@ -0,0 +1,13 @@
+package com.example.tyfserver.member.exception;
+
+import com.example.tyfserver.common.exception.BaseException;
+
+public class InvalidTrendingPeriodException extends BaseException {
+
+    public static final String ERROR_CODE = "member-012";
+    private static final String MESSAGE = "지원하지 않는 큐레이션 기간입니다.";
+
+    public InvalidTrendingPeriodException() {
+        super(ERROR_CODE, MESSAGE);
+    }
+}
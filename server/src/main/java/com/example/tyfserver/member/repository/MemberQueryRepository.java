@@ -1,8 +1,10 @@
 package com.example.tyfserver.member.repository;
 
 import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.dto.CurationScoreDto;
 import com.example.tyfserver.member.dto.CurationsResponse;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MemberQueryRepository {
@@ -10,4 +12,8 @@ public interface MemberQueryRepository {
     List<CurationsResponse> findCurations();
 
     List<Member> findRequestingAccounts();
+
+    List<CurationScoreDto> calculateCurationScores();
+
+    List<Member> findRegisteredMembersByIds(Collection<Long> memberIds);
 }
@@ -3,6 +3,9 @@ package com.example.tyfserver.member.repository;
 import com.example.tyfserver.auth.domain.Oauth2Type;
 import com.example.tyfserver.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -17,4 +20,16 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberQue
     boolean existsByNickname(String nickname);
 
     Optional<Member> findByPageName(String pageName);
+
+    @Query("select m.id from Member m where m.pageName = :pageName")
+    Optional<Long> findIdByPageName(@Param("pageName") String pageName);
+
+    @Modifying
+    @Query("update Member m set m.point.point = m.point.point - :amount " +
+            "where m.id = :id and m.point.point >= :amount")
+    int reducePointIfEnough(@Param("id") Long id, @Param("amount") long amount);
+
+    @Modifying
+    @Query("update Member m set m.point.point = m.point.point + :amount where m.id = :id")
+    int increasePoint(@Param("id") Long id, @Param("amount") long amount);
 }
@@ -2,13 +2,17 @@ package com.example.tyfserver.member.repository;
 
 import com.example.tyfserver.member.domain.AccountStatus;
 import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.dto.CurationScoreDto;
 import com.example.tyfserver.member.dto.CurationsResponse;
+import com.example.tyfserver.member.dto.QCurationScoreDto;
 import com.example.tyfserver.member.dto.QCurationsResponse;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import javax.persistence.EntityManager;
+import java.util.Collection;
 import java.util.List;
 
+import static com.example.tyfserver.donation.domain.QCreatorPointSummary.creatorPointSummary;
 import static com.example.tyfserver.donation.domain.QDonation.donation;
 import static com.example.tyfserver.member.domain.QAccount.account;
 import static com.example.tyfserver.member.domain.QMember.member;
@@ -43,4 +47,28 @@ public class MemberRepositoryImpl implements MemberQueryRepository {
                 .where(account.status.eq(AccountStatus.REQUESTING))
                 .fetch();
     }
+
+    @Override
+    public List<CurationScoreDto> calculateCurationScores() {
+        return queryFactory
+                .select(new QCurationScoreDto(member.id,
+                        creatorPointSummary.waitingPoint.add(creatorPointSummary.exchangedPoint)))
+                .from(member)
+                .join(member.account, account)
+                .leftJoin(creatorPointSummary).on(creatorPointSummary.creatorId.eq(member.id))
+                .where(account.status.eq(AccountStatus.REGISTERED))
+                .fetch();
+    }
+
+    @Override
+    public List<Member> findRegisteredMembersByIds(Collection<Long> memberIds) {
+        return queryFactory
+                .selectFrom(member)
+                .join(member.account, account)
+                .where(
+                        member.id.in(memberIds),
+                        account.status.eq(AccountStatus.REGISTERED)
+                )
+                .fetch();
+    }
 }
@@ -0,0 +1,99 @@
+package com.example.tyfserver.member.service;
+
+import com.example.tyfserver.member.dto.CurationScoreDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 창작자별 누적 후원 포인트를 Redis sorted set 으로 관리한다.
+ * 후원이 커밋될 때마다 점수를 올리고, 어긋난 점수는 주기적인 재구축으로 바로잡는다.
+ */
+@Component
+public class CurationLeaderboard {
+
+    private static final String KEY = "curations:leaderboard";
+    private static final String REBUILD_KEY = KEY + ":rebuild";
+
+    private final Logger logger = LoggerFactory.getLogger(CurationLeaderboard.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public CurationLeaderboard(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void increase(Long creatorId, long point) {
+        afterCommit(() -> redisTemplate.opsForZSet().incrementScore(KEY, String.valueOf(creatorId), point));
+    }
+
+    /**
+     * 계좌가 승인된 창작자는 후원이 없어도 큐레이션 후보가 되므로 0점으로 등록해 둔다.
+     */
+    public void register(Long creatorId) {
+        afterCommit(() -> redisTemplate.opsForZSet().incrementScore(KEY, String.valueOf(creatorId), 0));
+    }
+
+    public List<Long> findTop(int count) {
+        try {
+            Set<String> creatorIds = redisTemplate.opsForZSet().reverseRange(KEY, 0, count - 1);
+            if (creatorIds == null) {
+                return Collections.emptyList();
+            }
+            return creatorIds.stream()
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList());
+        } catch (DataAccessException e) {
+            logger.warn("curation leaderboard read failed", e);
+            return Collections.emptyList();
+        }
+    }
+
+    public void rebuild(List<CurationScoreDto> scores) {
+        redisTemplate.delete(REBUILD_KEY);
+        if (scores.isEmpty()) {
+            redisTemplate.delete(KEY);
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            scores.forEach(score ->
+                    stringConnection.zAdd(REBUILD_KEY, score.getScore(), String.valueOf(score.getMemberId())));
+            return null;
+        });
+        redisTemplate.rename(REBUILD_KEY, KEY);
+    }
+
+    private void afterCommit(Runnable command) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            execute(command);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                execute(command);
+            }
+        });
+    }
+
+    private void execute(Runnable command) {
+        try {
+            command.run();
+        } catch (DataAccessException e) {
+            logger.warn("curation leaderboard update failed", e);
+        }
+    }
+}
@@ -4,11 +4,13 @@ import com.example.tyfserver.admin.exception.NotRegisteredAccountException;
 import com.example.tyfserver.auth.dto.LoginMember;
 import com.example.tyfserver.common.util.Aes256Util;
 import com.example.tyfserver.common.util.S3Connector;
-import com.example.tyfserver.donation.repository.DonationRepository;
+import com.example.tyfserver.donation.domain.CreatorPointSummary;
+import com.example.tyfserver.donation.service.CreatorPointSummaryService;
 import com.example.tyfserver.member.domain.Account;
 import com.example.tyfserver.member.domain.Exchange;
 import com.example.tyfserver.member.domain.ExchangeStatus;
 import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.TrendingPeriod;
 import com.example.tyfserver.member.dto.*;
 import com.example.tyfserver.member.exception.*;
 import com.example.tyfserver.member.repository.ExchangeRepository;
@@ -16,24 +18,38 @@ import com.example.tyfserver.member.repository.MemberRepository;
 import com.example.tyfserver.payment.domain.AccountInfo;
 import com.example.tyfserver.payment.domain.PaymentServiceConnector;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class MemberService {
 
+    private static final int CURATION_SIZE = 10;
+    // 계좌 승인이 취소된 창작자가 섞여 있을 수 있어서 여유 있게 후보를 가져온다.
+    private static final int CURATION_CANDIDATE_SIZE = CURATION_SIZE * 3;
+
     private final MemberRepository memberRepository;
-    private final DonationRepository donationRepository;
+    private final CreatorPointSummaryService creatorPointSummaryService;
     private final ExchangeRepository exchangeRepository;
     private final S3Connector s3Connector;
     private final PaymentServiceConnector paymentServiceConnector;
     private final Aes256Util aes256Util;
+    private final CurationLeaderboard curationLeaderboard;
+    private final TrendingCreatorBoard trendingCreatorBoard;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional(readOnly = true)
     public void validatePageName(PageNameRequest request) {
@@ -65,12 +81,44 @@ public class MemberService {
     @Transactional(readOnly = true)
     public PointResponse findMemberPoint(Long id) {
         Member member = findMember(id);
-        return new PointResponse(donationRepository.waitingTotalPoint(member.getId()));
+        return new PointResponse(creatorPointSummaryService.findSummary(member.getId()).getWaitingPoint());
     }
 
     @Transactional(readOnly = true)
     public List<CurationsResponse> findCurations() {
-        return memberRepository.findCurations();
+        List<Long> candidateIds = curationLeaderboard.findTop(CURATION_CANDIDATE_SIZE);
+        if (candidateIds.isEmpty()) {
+            return memberRepository.findCurations();
+        }
+        return registeredCurations(candidateIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CurationsResponse> findTrendingCurations(String period) {
+        TrendingPeriod trendingPeriod = TrendingPeriod.from(period);
+        List<Long> candidateIds = trendingCreatorBoard.findTop(trendingPeriod, CURATION_CANDIDATE_SIZE);
+        if (candidateIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return registeredCurations(candidateIds);
+    }
+
+    private List<CurationsResponse> registeredCurations(List<Long> candidateIds) {
+        Map<Long, Member> members = memberRepository.findRegisteredMembersByIds(candidateIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        return candidateIds.stream()
+                .filter(members::containsKey)
+                .map(members::get)
+                .limit(CURATION_SIZE)
+                .map(member -> new CurationsResponse(member.getNickname(), member.getPageName(),
+                        member.getProfileImage(), member.getBio()))
+                .collect(Collectors.toList());
+    }
+
+    @Scheduled(cron = "0 */10 * * * *")
+    @Transactional(readOnly = true)
+    public void rebuildCurations() {
+        curationLeaderboard.rebuild(memberRepository.calculateCurationScores());
     }
 
     public ProfileResponse uploadProfile(MultipartFile multipartFile, LoginMember loginMember) {
@@ -108,14 +156,13 @@ public class MemberService {
     // todo 메서드 이름 변경. 한눈에 알아보거나, 어디서 쓰이는지 유추하기 힘듬. 정산관련 포인트 합계? 그런 의미를 담고 있으면 좋을 듯.
     @Transactional(readOnly = true)
     public DetailedPointResponse detailedPoint(Long id) {
-        Long waitingTotalPoint = donationRepository.waitingTotalPoint(id);
-        Long exchangedTotalPoint = donationRepository.exchangedTotalPoint(id);
-        return new DetailedPointResponse(waitingTotalPoint, exchangedTotalPoint);
+        CreatorPointSummary summary = creatorPointSummaryService.findSummary(id);
+        return new DetailedPointResponse(summary.getWaitingPoint(), summary.getExchangedPoint());
     }
 
+    // 예금주 조회를 기다리는 동안 커넥션을 잡고 있지 않도록 외부 검증이 끝난 뒤에 트랜잭션을 연다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void registerAccount(LoginMember loginMember, AccountRegisterRequest accountRegisterRequest) {
-        Member member = findMember(loginMember.getId());
-
         AccountInfo accountInfo = paymentServiceConnector
                 .requestHolderNameOfAccount(accountRegisterRequest.getBank(), accountRegisterRequest.getAccountNumber());
         String holderName = accountInfo.getResponse().getBank_holder();
@@ -126,9 +173,12 @@ public class MemberService {
         String encryptedAccountNumber = aes256Util.encrypt(accountRegisterRequest.getAccountNumber());
         String encryptedResidentRegistrationNumber = aes256Util.encrypt(accountRegisterRequest.getResidentRegistrationNumber());
 
-        // todo 계좌등록신청API 긴급수정으로 bankBookUrl에 임시로 "temp"넣어놈. 추후 제거 해야함
-        member.registerAccount(accountRegisterRequest.getAccountHolder(),
-                encryptedAccountNumber, encryptedResidentRegistrationNumber, accountRegisterRequest.getBank(), "temp");
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = findMember(loginMember.getId());
+            // todo 계좌등록신청API 긴급수정으로 bankBookUrl에 임시로 "temp"넣어놈. 추후 제거 해야함
+            member.registerAccount(accountRegisterRequest.getAccountHolder(),
+                    encryptedAccountNumber, encryptedResidentRegistrationNumber, accountRegisterRequest.getBank(), "temp");
+        });
     }
 
     public AccountInfoResponse accountInfo(LoginMember loginMember) {
@@ -148,7 +198,7 @@ public class MemberService {
     public void exchange(Long id) {
         Member member = findMember(id);
         validateRegisteredAccount(member);
-        Long waitingTotalPoint = donationRepository.waitingTotalPoint(id);
+        long waitingTotalPoint = creatorPointSummaryService.findSummary(id).getWaitingPoint();
         validateExchangeable(member, waitingTotalPoint);
 
         Exchange exchange = new Exchange(member);
@@ -0,0 +1,171 @@
+package com.example.tyfserver.member.service;
+
+import com.example.tyfserver.member.domain.TrendingPeriod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 창작자별 시간 단위 후원 포인트 버킷과 기간별 합계를 Redis sorted set 으로 관리한다.
+ * 기간 합계는 후원마다 함께 올리고, 한 시간이 지날 때마다 기간을 벗어난 버킷 하나만 빼서 밀어낸다.
+ */
+@Component
+public class TrendingCreatorBoard {
+
+    private static final String BUCKET_KEY_PREFIX = "trending:hour:";
+    private static final String WINDOW_KEY_PREFIX = "trending:window:";
+    private static final String HEAD_KEY_SUFFIX = ":head";
+    private static final long SECONDS_PER_HOUR = 3600;
+    // 서버가 잠시 내려가 밀어내기가 늦어져도 빼야 할 버킷이 남아 있도록 가장 긴 기간의 두 배만큼 보관한다.
+    private static final Duration BUCKET_TTL = Duration.ofHours(TrendingPeriod.maxHours() * 2L);
+
+    // 이미 밀어낸 시간이면 건너뛰므로 여러 서버가 동시에 실행해도 버킷이 두 번 빠지지 않는다.
+    private static final RedisScript<Long> ADVANCE_SCRIPT = new DefaultRedisScript<>(
+            "local head = tonumber(redis.call('GET', KEYS[2]))\n" +
+                    "local hour = tonumber(ARGV[1])\n" +
+                    "if head ~= nil and head ~= hour - 1 then return 0 end\n" +
+                    "if head ~= nil then\n" +
+                    "  redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[3], 'WEIGHTS', 1, -1)\n" +
+                    "  redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', 0)\n" +
+                    "end\n" +
+                    "redis.call('SET', KEYS[2], hour)\n" +
+                    "return 1",
+            Long.class);
+
+    private final Logger logger = LoggerFactory.getLogger(TrendingCreatorBoard.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Clock clock;
+
+    @Autowired
+    public TrendingCreatorBoard(StringRedisTemplate redisTemplate) {
+        this(redisTemplate, Clock.systemDefaultZone());
+    }
+
+    TrendingCreatorBoard(StringRedisTemplate redisTemplate, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+    }
+
+    public void record(Long creatorId, long point) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increase(creatorId, point);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increase(creatorId, point);
+            }
+        });
+    }
+
+    public List<Long> findTop(TrendingPeriod period, int count) {
+        try {
+            advance(period, currentHour());
+            Set<String> creatorIds = redisTemplate.opsForZSet().reverseRange(windowKey(period), 0, count - 1);
+            if (creatorIds == null) {
+                return Collections.emptyList();
+            }
+            return creatorIds.stream()
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList());
+        } catch (DataAccessException e) {
+            logger.warn("trending creator board read failed - period: {}", period, e);
+            return Collections.emptyList();
+        }
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    public void advance() {
+        long hour = currentHour();
+        Arrays.stream(TrendingPeriod.values())
+                .forEach(period -> advance(period, hour));
+    }
+
+    private void increase(Long creatorId, long point) {
+        String bucketKey = bucketKey(currentHour());
+        String member = String.valueOf(creatorId);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.zIncrBy(bucketKey, point, member);
+                stringConnection.expire(bucketKey, BUCKET_TTL.getSeconds());
+                for (TrendingPeriod period : TrendingPeriod.values()) {
+                    stringConnection.zIncrBy(windowKey(period), point, member);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            logger.warn("trending creator board update failed - creatorId: {}", creatorId, e);
+        }
+    }
+
+    private void advance(TrendingPeriod period, long currentHour) {
+        String head = redisTemplate.opsForValue().get(headKey(period));
+        if (head == null) {
+            runAdvanceScript(period, currentHour);
+            return;
+        }
+        if (currentHour - Long.parseLong(head) >= period.getHours()) {
+            rebuild(period, currentHour);
+            return;
+        }
+        for (long hour = Long.parseLong(head) + 1; hour <= currentHour; hour++) {
+            runAdvanceScript(period, hour);
+        }
+    }
+
+    /**
+     * 기간 전체가 지나도록 밀어내지 못했다면 남아 있는 시간 버킷을 합쳐서 다시 만든다.
+     */
+    private void rebuild(TrendingPeriod period, long currentHour) {
+        List<String> bucketKeys = LongStream.rangeClosed(currentHour - period.getHours() + 1, currentHour)
+                .mapToObj(this::bucketKey)
+                .collect(Collectors.toList());
+        redisTemplate.opsForZSet().unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()),
+                windowKey(period));
+        redisTemplate.opsForValue().set(headKey(period), String.valueOf(currentHour));
+    }
+
+    private void runAdvanceScript(TrendingPeriod period, long hour) {
+        redisTemplate.execute(ADVANCE_SCRIPT,
+                Arrays.asList(windowKey(period), headKey(period), bucketKey(hour - period.getHours())),
+                String.valueOf(hour));
+    }
+
+    private long currentHour() {
+        return clock.instant().getEpochSecond() / SECONDS_PER_HOUR;
+    }
+
+    private String bucketKey(long hour) {
+        return BUCKET_KEY_PREFIX + hour;
+    }
+
+    private String windowKey(TrendingPeriod period) {
+        return WINDOW_KEY_PREFIX + period.name().toLowerCase();
+    }
+
+    private String headKey(TrendingPeriod period) {
+        return windowKey(period) + HEAD_KEY_SUFFIX;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.tyfserver.payment.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties({PaymentReconciliationProperties.class, PaymentExpiryProperties.class})
+public class PaymentBatchConfig {
+
+    private final PaymentReconciliationProperties paymentReconciliationProperties;
+
+    // 결제모듈 조회는 실제 결제 요청과 같은 벌크헤드를 나눠 쓰므로 적은 수의 스레드로만 보낸다.
+    @Bean(name = "paymentReconciliationExecutor")
+    public ThreadPoolExecutor paymentReconciliationExecutor() {
+        return (ThreadPoolExecutor) Executors.newFixedThreadPool(paymentReconciliationProperties.getConcurrency(),
+                new CustomizableThreadFactory("payment-reconciliation-executor"));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.tyfserver.payment.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import java.time.Duration;
+
+@ConstructorBinding
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties("payment.expiry")
+public class PaymentExpiryProperties {
+
+    // 대사 작업이 결제모듈에서 승인된 PENDING 결제를 찾아낼 수 있도록 대사 기간보다 짧게 잡지 않는다.
+    private final Duration expireAfter;
+    private final int batchSize;
+    private final int maxBatches;
+}
@@ -0,0 +1,24 @@
+package com.example.tyfserver.payment.config;
+
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConstructorBinding
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties("payment.reconciliation")
+public class PaymentReconciliationProperties {
+
+    private final List<PaymentStatus> statuses;
+    private final Duration lookback;
+    // 막 결제창을 연 결제건은 아직 진행 중일 수 있으므로 이 시간이 지난 것만 대사한다.
+    private final Duration grace;
+    private final int chunkSize;
+    private final int concurrency;
+}
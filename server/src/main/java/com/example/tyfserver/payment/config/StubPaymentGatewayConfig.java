@@ -0,0 +1,23 @@
+package com.example.tyfserver.payment.config;
+
+import com.example.tyfserver.payment.util.StubPaymentGateway;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * performance 프로필과 함께 stub-gateway 프로필을 켜면 외부 결제 서버 없이 한 대에서 부하 테스트를 돌릴 수 있다.
+ */
+@Configuration
+@Profile("stub-gateway")
+@EnableConfigurationProperties(StubPaymentGatewayProperties.class)
+public class StubPaymentGatewayConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public StubPaymentGateway stubPaymentGateway(StubPaymentGatewayProperties properties,
+                                                 ObjectMapper objectMapper) {
+        return new StubPaymentGateway(properties, objectMapper);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.tyfserver.payment.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import java.time.Duration;
+
+@ConstructorBinding
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties("stub-gateway")
+public class StubPaymentGatewayProperties {
+
+    private final int port;
+    private final Endpoint find;
+    private final Endpoint cancel;
+    private final Endpoint holder;
+    private final String holderName;
+    // 잘못된 계좌로 응답할 비율. 오류 응답과 달리 업무 오류(404)로 돌려준다.
+    private final double invalidAccountRate;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Endpoint {
+
+        // 응답 지연은 median 과 p99 를 맞추는 로그 정규 분포를 따른다.
+        private final Duration latencyMedian;
+        private final Duration latencyP99;
+        private final double errorRate;
+    }
+}
@@ -5,9 +5,11 @@ import com.example.tyfserver.auth.dto.VerifiedRefunder;
 import com.example.tyfserver.payment.dto.*;
 import com.example.tyfserver.payment.exception.PaymentCompleteRequestException;
 import com.example.tyfserver.payment.exception.PaymentPendingRequestException;
+import com.example.tyfserver.payment.exception.PaymentWebhookRequestException;
 import com.example.tyfserver.payment.exception.RefundVerificationException;
 import com.example.tyfserver.payment.exception.RefundVerificationReadyException;
 import com.example.tyfserver.payment.service.PaymentService;
+import com.example.tyfserver.payment.service.PaymentWebhookService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +24,7 @@ import javax.validation.Valid;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentWebhookService paymentWebhookService;
 
     @PostMapping("/charge/ready")
     public ResponseEntity<PaymentPendingResponse> readyPayment(@Valid @RequestBody PaymentPendingRequest paymentPendingRequest,
@@ -45,6 +48,16 @@ public class PaymentController {
                 .body(paymentCompleteResponse);
     }
 
+    @PostMapping("/webhook")
+    public ResponseEntity<Void> receiveWebhook(@Valid @RequestBody PaymentWebhookRequest paymentWebhookRequest, BindingResult result) {
+        if (result.hasErrors()) {
+            throw new PaymentWebhookRequestException();
+        }
+
+        paymentWebhookService.receive(paymentWebhookRequest);
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping("/refund/verification/ready")
     public ResponseEntity<RefundVerificationReadyResponse> refundVerificationReady(@Valid @RequestBody RefundVerificationReadyRequest verificationReadyRequest,
                                                                                    BindingResult result) {
@@ -4,8 +4,8 @@ import com.example.tyfserver.common.domain.BaseTimeEntity;
 import com.example.tyfserver.member.domain.Member;
 import com.example.tyfserver.payment.exception.IllegalPaymentInfoException;
 import com.example.tyfserver.payment.exception.PaymentAlreadyCancelledException;
-import com.example.tyfserver.payment.exception.RefundVerificationBlockedException;
 import com.example.tyfserver.payment.util.TaxIncludedCalculator;
+import com.example.tyfserver.payment.util.TimeOrderedUUIDGenerator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,6 +19,10 @@ import static com.example.tyfserver.payment.exception.IllegalPaymentInfoExceptio
 
 @Entity
 @Getter
+@Table(name = "payment", indexes = {
+        @Index(name = "UK_payment_merchant_uid", columnList = "merchant_uid", unique = true),
+        @Index(name = "IDX_payment_status_created_at", columnList = "status, created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment extends BaseTimeEntity {
 
@@ -74,7 +78,7 @@ public class Payment extends BaseTimeEntity {
     }
 
     public Payment(Long amount, String itemName) {
-        this(amount, itemName, UUID.randomUUID());
+        this(amount, itemName, TimeOrderedUUIDGenerator.generate());
     }
 
     public String getMaskedEmail() {
@@ -89,14 +93,7 @@ public class Payment extends BaseTimeEntity {
         this.refundFailure = refundFailure;
     }
 
-    public void complete(PaymentInfo paymentInfo) {
-        validatePaymentComplete(paymentInfo);
-        this.impUid = paymentInfo.getImpUid();
-        this.status = PaymentStatus.PAID;
-        this.member.increasePoint(TaxIncludedCalculator.detachTax(paymentInfo.getAmount()));
-    }
-
-    private void validatePaymentComplete(PaymentInfo paymentInfo) {
+    public void validatePaymentComplete(PaymentInfo paymentInfo) {
         if (paymentInfo.getStatus() != PaymentStatus.PAID) {
             updateStatus(paymentInfo.getStatus());
             throw IllegalPaymentInfoException.from(ERROR_CODE_NOT_PAID, paymentInfo.getModule());
@@ -105,14 +102,7 @@ public class Payment extends BaseTimeEntity {
         validatePaymentInfo(paymentInfo);
     }
 
-    public void refund(PaymentInfo paymentInfo) {
-        validatePaymentCancel(paymentInfo);
-        this.impUid = paymentInfo.getImpUid();
-        this.status = PaymentStatus.CANCELLED;
-        member.reducePoint(TaxIncludedCalculator.detachTax(amount));
-    }
-
-    private void validatePaymentCancel(PaymentInfo paymentInfo) {
+    public void validatePaymentCancel(PaymentInfo paymentInfo) {
         if (paymentInfo.getStatus() != PaymentStatus.CANCELLED) {
             updateStatus(paymentInfo.getStatus());
             throw IllegalPaymentInfoException.from(ERROR_CODE_NOT_CANCELLED, paymentInfo.getModule());
@@ -138,24 +128,10 @@ public class Payment extends BaseTimeEntity {
         }
     }
 
-    public void checkRemainTryCount() {
-        if (refundFailure != null && refundFailure.isBlocked()) {
-            throw new RefundVerificationBlockedException();
-        }
-    }
-
-    public void reduceTryCount() {
-        refundFailure.reduceTryCount();
-    }
-
     public boolean hasNoRefundFailure() {
         return refundFailure == null;
     }
 
-    public int getRemainTryCount() {
-        return refundFailure.getRemainTryCount();
-    }
-
     public void validateIsNotCancelled() {
         if (status == PaymentStatus.CANCELLED) {
             throw new PaymentAlreadyCancelledException();
@@ -170,6 +146,10 @@ public class Payment extends BaseTimeEntity {
         return refundFailure != null && refundFailure.isBlocked();
     }
 
+    public boolean isPaid() {
+        return status == PaymentStatus.PAID;
+    }
+
     public boolean isNotPaid() {
         return status != PaymentStatus.PAID;
     }
@@ -0,0 +1,50 @@
+package com.example.tyfserver.payment.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 만료되어 payment 테이블에서 옮겨진 결제건. 조회 경로에서는 쓰지 않고 기록 보관용으로만 남긴다.
+ */
+@Entity
+@Getter
+@Table(name = "payment_archive")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long paymentId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    private String email;
+
+    private String impUid;
+
+    @Column(nullable = false)
+    private String itemName;
+
+    @Column(nullable = false, columnDefinition = "varbinary")
+    private UUID merchantUid;
+
+    @Enumerated(value = EnumType.STRING)
+    private PaymentStatus status;
+
+    private Long memberId;
+}
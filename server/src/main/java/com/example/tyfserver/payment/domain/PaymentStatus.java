@@ -5,7 +5,7 @@ import lombok.Getter;
 @Getter
 public enum PaymentStatus {
     READY("미결제"), PENDING("결제대기중"), PAID("결제완료"), CANCELLED("결제취소"), FAILED("결제실패"),
-    INVALID("위변조검증실패");
+    INVALID("위변조검증실패"), EXPIRED("결제만료");
 
     private final String information;
 
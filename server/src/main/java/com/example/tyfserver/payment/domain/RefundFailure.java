@@ -34,7 +34,7 @@ public class RefundFailure extends BaseTimeEntity {
         return remainTryCount == 0;
     }
 
-    public void reduceTryCount() {
-        remainTryCount--;
+    public void updateRemainTryCount(int remainTryCount) {
+        this.remainTryCount = remainTryCount;
     }
 }
@@ -0,0 +1,24 @@
+package com.example.tyfserver.payment.dto;
+
+import com.example.tyfserver.payment.domain.Payment;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+public class PaymentPreparedEvent {
+
+    private final UUID merchantUid;
+    private final Long amount;
+    private final String itemName;
+
+    public PaymentPreparedEvent(UUID merchantUid, Long amount, String itemName) {
+        this.merchantUid = merchantUid;
+        this.amount = amount;
+        this.itemName = itemName;
+    }
+
+    public static PaymentPreparedEvent from(Payment payment) {
+        return new PaymentPreparedEvent(payment.getMerchantUid(), payment.getAmount(), payment.getItemName());
+    }
+}
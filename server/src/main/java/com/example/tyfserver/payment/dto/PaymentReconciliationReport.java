@@ -0,0 +1,54 @@
+package com.example.tyfserver.payment.dto;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+public class PaymentReconciliationReport {
+
+    public enum Result {
+        // 결제모듈과 상태가 같다.
+        MATCHED,
+        // 결제모듈에서는 승인됐지만 PENDING 으로 남아 있던 결제를 승인하고 포인트를 적립했다.
+        COMPLETED,
+        // 결제모듈에서 취소되거나 실패한 PENDING 결제의 상태를 맞췄다.
+        CORRECTED,
+        // 금액이나 상품이 결제모듈과 달라 INVALID 로 바꿨다.
+        INVALID,
+        // 보정하는 사이 웹훅이나 사용자 요청이 먼저 상태를 바꿨다.
+        SKIPPED,
+        // 포인트를 되돌려야 하는 등 자동으로 보정하지 않고 사람이 확인해야 한다.
+        UNRESOLVED,
+        // 결제창을 열기만 하고 닫아서 결제모듈에 결제건이 없다.
+        NOT_FOUND,
+        // 결제모듈 조회에 실패했다.
+        FAILED
+    }
+
+    private final Map<Result, Long> counts = new EnumMap<>(Result.class);
+    private long scanned;
+    private boolean aborted;
+
+    public void scan(int count) {
+        scanned += count;
+    }
+
+    public void record(Result result) {
+        counts.merge(result, 1L, Long::sum);
+    }
+
+    public void abort() {
+        aborted = true;
+    }
+
+    public long count(Result result) {
+        return counts.getOrDefault(result, 0L);
+    }
+
+    public Map<Result, Long> getCounts() {
+        return Collections.unmodifiableMap(counts);
+    }
+}
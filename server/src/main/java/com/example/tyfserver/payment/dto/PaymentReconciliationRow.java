@@ -0,0 +1,35 @@
+package com.example.tyfserver.payment.dto;
+
+import com.example.tyfserver.payment.domain.PaymentInfo;
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+public class PaymentReconciliationRow {
+
+    private final Long id;
+    private final Long memberId;
+    private final UUID merchantUid;
+    private final PaymentStatus status;
+    private final long amount;
+    private final String itemName;
+
+    public PaymentReconciliationRow(Long id, Long memberId, UUID merchantUid, PaymentStatus status, long amount,
+                                    String itemName) {
+        this.id = id;
+        this.memberId = memberId;
+        this.merchantUid = merchantUid;
+        this.status = status;
+        this.amount = amount;
+        this.itemName = itemName;
+    }
+
+    public boolean matches(PaymentInfo paymentInfo) {
+        return merchantUid.equals(paymentInfo.getMerchantUid())
+                && Objects.equals(amount, paymentInfo.getAmount())
+                && itemName.equals(paymentInfo.getItemName());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.tyfserver.payment.dto;
+
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import com.example.tyfserver.payment.dto.PaymentReconciliationReport.Result;
+import lombok.Getter;
+
+@Getter
+public class PaymentStatusCorrection {
+
+    private final PaymentReconciliationRow payment;
+    private final PaymentStatus to;
+    private final String impUid;
+    private final Result result;
+
+    public PaymentStatusCorrection(PaymentReconciliationRow payment, PaymentStatus to, String impUid, Result result) {
+        this.payment = payment;
+        this.to = to;
+        this.impUid = impUid;
+        this.result = result;
+    }
+
+    public boolean isCompleted() {
+        return result == Result.COMPLETED;
+    }
+}
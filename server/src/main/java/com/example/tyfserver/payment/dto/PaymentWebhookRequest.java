@@ -0,0 +1,31 @@
+package com.example.tyfserver.payment.dto;
+
+import com.example.tyfserver.payment.util.UUID;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentWebhookRequest {
+
+    @NotBlank
+    @JsonProperty("imp_uid")
+    private String impUid;
+
+    @UUID
+    @JsonProperty("merchant_uid")
+    private String merchantUid;
+
+    @NotBlank
+    private String status;
+
+    public PaymentWebhookRequest(String impUid, String merchantUid, String status) {
+        this.impUid = impUid;
+        this.merchantUid = merchantUid;
+        this.status = status;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.tyfserver.payment.exception;
+
+import com.example.tyfserver.common.exception.BaseException;
+
+public class PaymentServiceUnavailableException extends BaseException {
+
+    public static final String ERROR_CODE = "payment-018";
+    private static final String MESSAGE = "결제모듈이 응답하지 않아 잠시 후 다시 시도해야 합니다.";
+
+    public PaymentServiceUnavailableException() {
+        super(ERROR_CODE, MESSAGE);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.tyfserver.payment.exception;
+
+import com.example.tyfserver.common.exception.BaseException;
+
+public class PaymentWebhookBusyException extends BaseException {
+
+    public static final String ERROR_CODE = "payment-017";
+    private static final String MESSAGE = "처리 대기 중인 웹훅이 많아 잠시 후 다시 시도해야 합니다.";
+
+    public PaymentWebhookBusyException() {
+        super(ERROR_CODE, MESSAGE);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.tyfserver.payment.exception;
+
+import com.example.tyfserver.common.exception.BaseException;
+
+public class PaymentWebhookRequestException extends BaseException {
+
+    public static final String ERROR_CODE = "payment-016";
+    private static final String MESSAGE = "아임포트 웹훅 Request의 값이 유효한 값이 아닙니다.";
+
+    public PaymentWebhookRequestException() {
+        super(ERROR_CODE, MESSAGE);
+    }
+}
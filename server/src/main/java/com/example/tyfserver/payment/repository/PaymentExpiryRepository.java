@@ -0,0 +1,62 @@
+package com.example.tyfserver.payment.repository;
+
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class PaymentExpiryRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // IDX_payment_status_created_at 만 타고 오래된 순서대로 limit 개까지만 읽는다.
+    public List<Long> findPendingIdsCreatedBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM payment WHERE status = :pending AND created_at < :threshold " +
+                        "ORDER BY created_at LIMIT :limit",
+                new MapSqlParameterSource()
+                        .addValue("pending", PaymentStatus.PENDING.name())
+                        .addValue("threshold", Timestamp.valueOf(threshold))
+                        .addValue("limit", limit),
+                Long.class);
+    }
+
+    /**
+     * 읽은 뒤에 승인되거나 취소된 결제건은 건드리지 않도록 아직 PENDING 인 행만 만료시킨다.
+     */
+    public int expire(List<Long> ids) {
+        return jdbcTemplate.update(
+                "UPDATE payment SET status = :expired WHERE id IN (:ids) AND status = :pending",
+                new MapSqlParameterSource()
+                        .addValue("ids", ids)
+                        .addValue("expired", PaymentStatus.EXPIRED.name())
+                        .addValue("pending", PaymentStatus.PENDING.name()));
+    }
+
+    public int archiveExpired(List<Long> ids, LocalDateTime archivedAt) {
+        return jdbcTemplate.update(
+                "INSERT INTO payment_archive (payment_id, created_at, archived_at, amount, email, imp_uid, " +
+                        "item_name, merchant_uid, status, member_id) " +
+                        "SELECT id, created_at, :archivedAt, amount, email, imp_uid, item_name, merchant_uid, " +
+                        "status, member_id FROM payment WHERE id IN (:ids) AND status = :expired",
+                new MapSqlParameterSource()
+                        .addValue("ids", ids)
+                        .addValue("archivedAt", Timestamp.valueOf(archivedAt))
+                        .addValue("expired", PaymentStatus.EXPIRED.name()));
+    }
+
+    public int deleteExpired(List<Long> ids) {
+        return jdbcTemplate.update(
+                "DELETE FROM payment WHERE id IN (:ids) AND status = :expired",
+                new MapSqlParameterSource()
+                        .addValue("ids", ids)
+                        .addValue("expired", PaymentStatus.EXPIRED.name()));
+    }
+}
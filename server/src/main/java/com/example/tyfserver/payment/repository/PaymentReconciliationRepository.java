@@ -0,0 +1,123 @@
+package com.example.tyfserver.payment.repository;
+
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import com.example.tyfserver.payment.dto.PaymentReconciliationRow;
+import com.example.tyfserver.payment.dto.PaymentStatusCorrection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class PaymentReconciliationRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 조건에 맞는 결제건을 커서로 읽으면서 chunkSize 개씩 넘긴다. 전체 결과를 메모리에 올리지 않는다.
+     * MySQL 은 접속 URL 에 useCursorFetch=true 가 있어야 fetch size 만큼씩 서버 커서로 가져온다.
+     */
+    public void streamByStatuses(Collection<PaymentStatus> statuses, LocalDateTime from, LocalDateTime to,
+                                 int chunkSize, Consumer<List<PaymentReconciliationRow>> chunkConsumer) {
+        JdbcTemplate cursorTemplate = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        cursorTemplate.setFetchSize(chunkSize);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("statuses", statuses.stream().map(PaymentStatus::name).collect(Collectors.toList()))
+                .addValue("from", Timestamp.valueOf(from))
+                .addValue("to", Timestamp.valueOf(to));
+
+        ChunkCollector collector = new ChunkCollector(chunkSize, chunkConsumer);
+        new NamedParameterJdbcTemplate(cursorTemplate).query(
+                "SELECT id, member_id, merchant_uid, status, amount, item_name FROM payment " +
+                        "WHERE status IN (:statuses) AND created_at >= :from AND created_at < :to",
+                params, collector);
+        collector.flush();
+    }
+
+    /**
+     * 읽은 뒤로 상태가 바뀌지 않은 결제건만 고친다. 반환값은 각 보정이 실제로 반영된 행 수이다.
+     */
+    public int[] updateStatuses(List<PaymentStatusCorrection> corrections) {
+        MapSqlParameterSource[] params = corrections.stream()
+                .map(correction -> new MapSqlParameterSource()
+                        .addValue("id", correction.getPayment().getId())
+                        .addValue("from", correction.getPayment().getStatus().name())
+                        .addValue("to", correction.getTo().name())
+                        .addValue("impUid", correction.getImpUid()))
+                .toArray(MapSqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate("UPDATE payment SET status = :to, imp_uid = COALESCE(:impUid, imp_uid) " +
+                "WHERE id = :id AND status = :from", params);
+    }
+
+    public void increasePoints(Map<Long, Long> pointsByMember) {
+        MapSqlParameterSource[] params = pointsByMember.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey())
+                        .addValue("amount", entry.getValue()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("UPDATE member SET point = point + :amount WHERE id = :id", params);
+    }
+
+    private PaymentReconciliationRow toRow(ResultSet rs) throws SQLException {
+        long memberId = rs.getLong("member_id");
+        boolean withoutMember = rs.wasNull();
+        return new PaymentReconciliationRow(
+                rs.getLong("id"),
+                withoutMember ? null : memberId,
+                toUUID(rs.getBytes("merchant_uid")),
+                PaymentStatus.valueOf(rs.getString("status")),
+                rs.getLong("amount"),
+                rs.getString("item_name"));
+    }
+
+    private UUID toUUID(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private class ChunkCollector implements RowCallbackHandler {
+
+        private final int chunkSize;
+        private final Consumer<List<PaymentReconciliationRow>> chunkConsumer;
+        private List<PaymentReconciliationRow> chunk;
+
+        ChunkCollector(int chunkSize, Consumer<List<PaymentReconciliationRow>> chunkConsumer) {
+            this.chunkSize = chunkSize;
+            this.chunkConsumer = chunkConsumer;
+            this.chunk = new ArrayList<>(chunkSize);
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            chunk.add(toRow(rs));
+            if (chunk.size() == chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunkConsumer.accept(chunk);
+            chunk = new ArrayList<>(chunkSize);
+        }
+    }
+}
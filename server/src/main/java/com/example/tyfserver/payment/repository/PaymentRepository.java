@@ -1,8 +1,10 @@
 package com.example.tyfserver.payment.repository;
 
 import com.example.tyfserver.payment.domain.Payment;
+import com.example.tyfserver.payment.domain.PaymentStatus;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -18,4 +20,18 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     @Query("select p from Payment p where p.merchantUid =:merchantUid")
     Optional<Payment> findByMerchantUidWithRefundFailure(@Param("merchantUid") UUID merchantUid);
 
+    @Query("select p.status from Payment p where p.merchantUid = :merchantUid")
+    Optional<PaymentStatus> findStatusByMerchantUid(@Param("merchantUid") UUID merchantUid);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.status = :paid, p.impUid = :impUid " +
+            "where p.merchantUid = :merchantUid and p.status = :pending")
+    int updateStatusIfPending(@Param("merchantUid") UUID merchantUid, @Param("impUid") String impUid,
+                              @Param("pending") PaymentStatus pending, @Param("paid") PaymentStatus paid);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.status = :cancelled, p.impUid = :impUid " +
+            "where p.merchantUid = :merchantUid and p.status = :paid")
+    int updateStatusIfPaid(@Param("merchantUid") UUID merchantUid, @Param("impUid") String impUid,
+                           @Param("paid") PaymentStatus paid, @Param("cancelled") PaymentStatus cancelled);
 }
@@ -0,0 +1,85 @@
+package com.example.tyfserver.payment.service;
+
+import com.example.tyfserver.payment.config.PaymentExpiryProperties;
+import com.example.tyfserver.payment.repository.PaymentExpiryRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제창만 열고 끝내지 않은 PENDING 결제를 만료시키고 payment_archive 로 옮긴다.
+ * 한 번에 batchSize 개씩 짧은 트랜잭션으로 나눠 처리해서 잠금이 오래 잡히지 않게 한다.
+ */
+@Service
+public class PaymentExpiryService {
+
+    private final Logger logger = LoggerFactory.getLogger(PaymentExpiryService.class);
+
+    private final PaymentExpiryRepository paymentExpiryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentExpiryProperties properties;
+    private final DistributionSummary sweptPerRun;
+    private final Clock clock;
+
+    @Autowired
+    public PaymentExpiryService(PaymentExpiryRepository paymentExpiryRepository,
+                                TransactionTemplate transactionTemplate,
+                                PaymentExpiryProperties properties,
+                                MeterRegistry meterRegistry) {
+        this(paymentExpiryRepository, transactionTemplate, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    PaymentExpiryService(PaymentExpiryRepository paymentExpiryRepository, TransactionTemplate transactionTemplate,
+                         PaymentExpiryProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.paymentExpiryRepository = paymentExpiryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.sweptPerRun = DistributionSummary.builder("payment.expiry.swept")
+                .description("rows swept per run")
+                .register(meterRegistry);
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${payment.expiry.cron}")
+    public long sweep() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime threshold = now.minus(properties.getExpireAfter());
+
+        long swept = 0;
+        int batches = 0;
+        while (batches < properties.getMaxBatches()) {
+            List<Long> ids = paymentExpiryRepository.findPendingIdsCreatedBefore(threshold, properties.getBatchSize());
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer archived = transactionTemplate.execute(status -> sweep(ids, now));
+            swept += archived;
+            batches++;
+            if (ids.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+
+        sweptPerRun.record(swept);
+        logger.info("=== PAYMENT EXPIRY SWEPT === swept: {}, batches: {}", swept, batches);
+        return swept;
+    }
+
+    private int sweep(List<Long> ids, LocalDateTime archivedAt) {
+        if (paymentExpiryRepository.expire(ids) == 0) {
+            return 0;
+        }
+        int archived = paymentExpiryRepository.archiveExpired(ids, archivedAt);
+        paymentExpiryRepository.deleteExpired(ids);
+        return archived;
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.tyfserver.payment.service;
+
+import com.example.tyfserver.payment.config.PaymentReconciliationProperties;
+import com.example.tyfserver.payment.domain.PaymentInfo;
+import com.example.tyfserver.payment.domain.PaymentServiceConnector;
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import com.example.tyfserver.payment.dto.PaymentReconciliationReport;
+import com.example.tyfserver.payment.dto.PaymentReconciliationReport.Result;
+import com.example.tyfserver.payment.dto.PaymentReconciliationRow;
+import com.example.tyfserver.payment.dto.PaymentStatusCorrection;
+import com.example.tyfserver.payment.exception.PaymentServiceUnavailableException;
+import com.example.tyfserver.payment.repository.PaymentReconciliationRepository;
+import com.example.tyfserver.payment.util.TaxIncludedCalculator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * payment 테이블과 결제모듈의 결제 상태를 맞춰 본다.
+ * 결제건은 커서로 chunk 단위로 읽고, chunk 마다 정해진 수의 스레드로만 결제모듈에 조회한 뒤 보정을 한 번에 반영한다.
+ * 포인트를 되돌려야 하는 경우처럼 자동으로 고치기 위험한 불일치는 UNRESOLVED 로 남겨 둔다.
+ */
+@Service
+public class PaymentReconciliationService {
+
+    private final Logger logger = LoggerFactory.getLogger(PaymentReconciliationService.class);
+
+    private final PaymentReconciliationRepository paymentReconciliationRepository;
+    private final PaymentServiceConnector paymentServiceConnector;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final PaymentReconciliationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Autowired
+    public PaymentReconciliationService(PaymentReconciliationRepository paymentReconciliationRepository,
+                                        PaymentServiceConnector paymentServiceConnector,
+                                        TransactionTemplate transactionTemplate,
+                                        @Qualifier("paymentReconciliationExecutor") Executor executor,
+                                        PaymentReconciliationProperties properties,
+                                        MeterRegistry meterRegistry) {
+        this(paymentReconciliationRepository, paymentServiceConnector, transactionTemplate, executor, properties,
+                meterRegistry, Clock.systemDefaultZone());
+    }
+
+    PaymentReconciliationService(PaymentReconciliationRepository paymentReconciliationRepository,
+                                 PaymentServiceConnector paymentServiceConnector,
+                                 TransactionTemplate transactionTemplate, Executor executor,
+                                 PaymentReconciliationProperties properties, MeterRegistry meterRegistry,
+                                 Clock clock) {
+        this.paymentReconciliationRepository = paymentReconciliationRepository;
+        this.paymentServiceConnector = paymentServiceConnector;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${payment.reconciliation.cron}")
+    public PaymentReconciliationReport reconcile() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime to = now.minus(properties.getGrace());
+        LocalDateTime from = now.minus(properties.getLookback());
+        PaymentReconciliationReport report = new PaymentReconciliationReport();
+
+        try {
+            paymentReconciliationRepository.streamByStatuses(properties.getStatuses(), from, to,
+                    properties.getChunkSize(), chunk -> reconcile(chunk, report));
+        } catch (ReconciliationAbortedException e) {
+            // 결제모듈이 응답하지 못하는 동안 남은 결제건을 계속 보내 봐야 실패만 쌓이므로 다음 실행으로 넘긴다.
+            report.abort();
+            logger.warn("payment reconciliation aborted - payment service unavailable");
+        }
+
+        logger.info("=== PAYMENT RECONCILED === scanned: {}, aborted: {}, results: {}",
+                report.getScanned(), report.isAborted(), report.getCounts());
+        return report;
+    }
+
+    private void reconcile(List<PaymentReconciliationRow> chunk, PaymentReconciliationReport report) {
+        report.scan(chunk.size());
+        List<CompletableFuture<Lookup>> lookups = chunk.stream()
+                .map(payment -> CompletableFuture.supplyAsync(() -> lookup(payment), executor))
+                .collect(Collectors.toList());
+
+        List<PaymentStatusCorrection> corrections = new ArrayList<>();
+        boolean unavailable = false;
+        for (CompletableFuture<Lookup> future : lookups) {
+            Lookup lookup = future.join();
+            if (lookup.unavailable) {
+                unavailable = true;
+            }
+            if (lookup.failure != null) {
+                record(report, lookup.failure);
+                continue;
+            }
+            PaymentStatusCorrection correction = compare(lookup.payment, lookup.paymentInfo);
+            if (correction == null) {
+                record(report, Result.MATCHED);
+            } else if (correction.getResult() == Result.UNRESOLVED) {
+                logger.warn("payment reconciliation unresolved - merchantUid: {}, status: {}, gateway: {}",
+                        lookup.payment.getMerchantUid(), lookup.payment.getStatus(), lookup.paymentInfo.getStatus());
+                record(report, Result.UNRESOLVED);
+            } else {
+                corrections.add(correction);
+            }
+        }
+
+        apply(corrections, report);
+        if (unavailable) {
+            throw new ReconciliationAbortedException();
+        }
+    }
+
+    // 결제창만 열고 닫은 결제건은 결제모듈에 없는 것이 정상이므로 실패로 세지 않는다.
+    private Lookup lookup(PaymentReconciliationRow payment) {
+        try {
+            return Lookup.found(payment, paymentServiceConnector.requestPaymentInfo(payment.getMerchantUid()));
+        } catch (PaymentServiceUnavailableException e) {
+            return Lookup.failed(payment, Result.FAILED, true);
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.debug("payment reconciliation not found - merchantUid: {}", payment.getMerchantUid());
+            return Lookup.failed(payment, Result.NOT_FOUND, false);
+        } catch (RuntimeException e) {
+            logger.warn("payment reconciliation lookup failed - merchantUid: {}", payment.getMerchantUid(), e);
+            return Lookup.failed(payment, Result.FAILED, false);
+        }
+    }
+
+    private PaymentStatusCorrection compare(PaymentReconciliationRow payment, PaymentInfo paymentInfo) {
+        PaymentStatus actual = paymentInfo.getStatus();
+        if (payment.getStatus() == actual) {
+            return null;
+        }
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            return new PaymentStatusCorrection(payment, actual, paymentInfo.getImpUid(), Result.UNRESOLVED);
+        }
+
+        switch (actual) {
+            case READY:
+                return null;
+            case PAID:
+                if (!payment.matches(paymentInfo)) {
+                    return new PaymentStatusCorrection(payment, PaymentStatus.INVALID, null, Result.INVALID);
+                }
+                return new PaymentStatusCorrection(payment, PaymentStatus.PAID, paymentInfo.getImpUid(),
+                        Result.COMPLETED);
+            case CANCELLED:
+            case FAILED:
+                return new PaymentStatusCorrection(payment, actual, paymentInfo.getImpUid(), Result.CORRECTED);
+            default:
+                return new PaymentStatusCorrection(payment, actual, paymentInfo.getImpUid(), Result.UNRESOLVED);
+        }
+    }
+
+    // 웹훅이나 결제 승인 요청과 겹치더라도 상태를 먼저 바꾼 쪽만 포인트를 적립하도록 바뀐 행만 적립한다.
+    private void apply(List<PaymentStatusCorrection> corrections, PaymentReconciliationReport report) {
+        if (corrections.isEmpty()) {
+            return;
+        }
+
+        List<Result> results = transactionTemplate.execute(status -> {
+            int[] updated = paymentReconciliationRepository.updateStatuses(corrections);
+            List<Result> applied = new ArrayList<>(corrections.size());
+            Map<Long, Long> pointsByMember = new HashMap<>();
+            for (int i = 0; i < corrections.size(); i++) {
+                PaymentStatusCorrection correction = corrections.get(i);
+                if (updated[i] == 0) {
+                    applied.add(Result.SKIPPED);
+                    continue;
+                }
+                if (correction.isCompleted() && correction.getPayment().getMemberId() != null) {
+                    pointsByMember.merge(correction.getPayment().getMemberId(),
+                            TaxIncludedCalculator.detachTax(correction.getPayment().getAmount()), Long::sum);
+                }
+                applied.add(correction.getResult());
+            }
+            if (!pointsByMember.isEmpty()) {
+                paymentReconciliationRepository.increasePoints(pointsByMember);
+            }
+            return applied;
+        });
+        results.forEach(result -> record(report, result));
+    }
+
+    private void record(PaymentReconciliationReport report, Result result) {
+        report.record(result);
+        meterRegistry.counter("payment.reconciliation", "result", result.name().toLowerCase()).increment();
+    }
+
+    private static class Lookup {
+        private final PaymentReconciliationRow payment;
+        private final PaymentInfo paymentInfo;
+        private final Result failure;
+        private final boolean unavailable;
+
+        private Lookup(PaymentReconciliationRow payment, PaymentInfo paymentInfo, Result failure,
+                       boolean unavailable) {
+            this.payment = payment;
+            this.paymentInfo = paymentInfo;
+            this.failure = failure;
+            this.unavailable = unavailable;
+        }
+
+        static Lookup found(PaymentReconciliationRow payment, PaymentInfo paymentInfo) {
+            return new Lookup(payment, paymentInfo, null, false);
+        }
+
+        static Lookup failed(PaymentReconciliationRow payment, Result failure, boolean unavailable) {
+            return new Lookup(payment, null, failure, unavailable);
+        }
+    }
+
+    private static class ReconciliationAbortedException extends RuntimeException {
+    }
+}
@@ -9,19 +9,24 @@ import com.example.tyfserver.auth.exception.VerificationFailedException;
 import com.example.tyfserver.auth.repository.CodeResendCoolTimeRepository;
 import com.example.tyfserver.auth.repository.VerificationCodeRepository;
 import com.example.tyfserver.auth.service.AuthenticationService;
+import com.example.tyfserver.common.config.RateLimitProperties;
+import com.example.tyfserver.common.util.AttemptLimiter;
 import com.example.tyfserver.common.util.SmtpMailConnector;
 import com.example.tyfserver.member.domain.Member;
 import com.example.tyfserver.member.exception.MemberNotFoundException;
+import com.example.tyfserver.member.exception.NotEnoughPointException;
 import com.example.tyfserver.member.repository.MemberRepository;
 import com.example.tyfserver.payment.domain.*;
 import com.example.tyfserver.payment.dto.*;
 import com.example.tyfserver.payment.exception.*;
 import com.example.tyfserver.payment.repository.PaymentRepository;
-import com.example.tyfserver.payment.repository.RefundFailureRepository;
 import com.example.tyfserver.payment.util.TaxIncludedCalculator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.UUID;
@@ -33,7 +38,9 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final MemberRepository memberRepository;
-    private final RefundFailureRepository refundFailureRepository;
+    private final RefundFailureRecorder refundFailureRecorder;
+    private final AttemptLimiter attemptLimiter;
+    private final RateLimitProperties rateLimitProperties;
 
     private final PaymentServiceConnector paymentServiceConnector;
     private final SmtpMailConnector smtpMailConnector;
@@ -41,6 +48,8 @@ public class PaymentService {
     private final VerificationCodeRepository verificationCodeRepository;
     private final CodeResendCoolTimeRepository codeResendCoolTimeRepository;
     private final AuthenticationService authenticationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PaymentPendingResponse createPayment(String itemId, LoginMember loginMember) {
         Member donator = memberRepository
@@ -51,22 +60,45 @@ public class PaymentService {
         Payment payment = new Payment(TaxIncludedCalculator.addTax(item.getItemPrice()), item.getItemName());
         donator.addPayment(payment);
         Payment savedPayment = paymentRepository.save(payment);
+        eventPublisher.publishEvent(PaymentPreparedEvent.from(savedPayment));
         return new PaymentPendingResponse(savedPayment);
     }
 
+    // 결제모듈 응답을 기다리는 동안 커넥션을 잡고 있지 않도록 외부 검증이 끝난 뒤에 트랜잭션을 연다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentCompleteResponse completePayment(PaymentCompleteRequest paymentCompleteRequest) {
         UUID merchantUid = UUID.fromString(paymentCompleteRequest.getMerchantUid());
+        Payment payment = findPayment(merchantUid);
+        // 이미 승인된 결제건에 대한 재요청은 결제모듈에 다시 조회하지 않는다.
+        if (payment.isPaid()) {
+            return new PaymentCompleteResponse(payment.getAmount());
+        }
+
         PaymentInfo paymentInfo = paymentServiceConnector.requestPaymentInfo(merchantUid);
+        Boolean completed = transactionTemplate.execute(status -> complete(merchantUid, paymentInfo));
+        if (Boolean.TRUE.equals(completed)) {
+            smtpMailConnector.sendChargeComplete(payment);
+        }
+        return new PaymentCompleteResponse(payment.getAmount());
+    }
 
+    // 브라우저와 웹훅이 동시에 승인하더라도 PENDING 에서 PAID 로 바꾼 한 쪽만 포인트를 적립한다.
+    private boolean complete(UUID merchantUid, PaymentInfo paymentInfo) {
         Payment payment = findPayment(merchantUid);
-        payment.complete(paymentInfo);
-        smtpMailConnector.sendChargeComplete(payment);
-        return new PaymentCompleteResponse(payment.getAmount());
+        payment.validatePaymentComplete(paymentInfo);
+
+        int updated = paymentRepository.updateStatusIfPending(merchantUid, paymentInfo.getImpUid(),
+                PaymentStatus.PENDING, PaymentStatus.PAID);
+        if (updated == 0) {
+            return false;
+        }
+        memberRepository.increasePoint(payment.getMember().getId(), TaxIncludedCalculator.detachTax(payment.getAmount()));
+        return true;
     }
 
     public RefundVerificationReadyResponse refundVerificationReady(RefundVerificationReadyRequest refundVerificationReadyRequest) {
         String merchantUid = refundVerificationReadyRequest.getMerchantUid();
-        Payment payment = findPayment(merchantUid);
+        Payment payment = findPaymentWithRefundFailure(merchantUid);
 
         validateCanRefund(payment);
         Integer resendCoolTime = checkResendCoolTime(merchantUid);
@@ -83,9 +115,7 @@ public class PaymentService {
     }
 
     private void validateCanRefund(Payment payment) {
-        if (payment.isRefundBlocked()) {
-            throw new RefundVerificationBlockedException();
-        }
+        validateNotBlocked(payment);
         if (payment.isNotPaid()) {
             throw new CannotRefundException(payment.getStatus());
         }
@@ -104,35 +134,61 @@ public class PaymentService {
         return resendCoolTime.getTimeout();
     }
 
-    @Transactional(noRollbackFor = {VerificationFailedException.class, RefundVerificationBlockedException.class})
+    // 실패 횟수는 Redis 에서 세고 차단까지 원자적으로 처리한다. Redis 에 문제가 있으면 인증을 막도록 예외를 그대로 던진다.
     public RefundVerificationResponse refundVerification(RefundVerificationRequest verificationRequest) {
         String merchantUid = verificationRequest.getMerchantUid();
-        Payment payment = paymentRepository.findByMerchantUidWithRefundFailure(UUID.fromString(merchantUid))
-                .orElseThrow(PaymentNotFoundException::new);
+        Payment payment = findPaymentWithRefundFailure(merchantUid);
 
-        payment.checkRemainTryCount();
+        validateNotBlocked(payment);
         verify(verificationRequest.getVerificationCode(), payment, merchantUid);
 
         String refundToken = authenticationService.createRefundToken(merchantUid);
         return new RefundVerificationResponse(refundToken);
     }
 
+    // Redis 로 옮기기 전에 refund_failure 에서 차단된 결제건도 계속 막는다.
+    private void validateNotBlocked(Payment payment) {
+        String key = refundVerificationKey(payment.getMerchantUid());
+        if (payment.isRefundBlocked() || attemptLimiter.isBlocked(key)) {
+            throw new RefundVerificationBlockedException();
+        }
+        seedRefundFailure(payment, key);
+    }
+
+    // refund_failure 에 남은 횟수가 Redis 에서 처음부터 다시 세지 않도록, 아직 세고 있지 않은 결제건은 쓴 횟수만큼 채워 둔다.
+    private void seedRefundFailure(Payment payment, String key) {
+        if (payment.hasNoRefundFailure()) {
+            return;
+        }
+        RateLimitProperties.Policy policy = rateLimitProperties.getRefundVerification();
+        long attempts = policy.getLimit() - payment.getRefundFailure().getRemainTryCount();
+        if (attempts > 0) {
+            attemptLimiter.seedIfAbsent(key, policy, attempts);
+        }
+    }
+
     private void verify(String code, Payment payment, String merChantUid) {
         VerificationCode verificationCode = verificationCodeRepository.findById(merChantUid)
                 .orElseThrow(VerificationCodeNotFoundException::new);
         if (verificationCode.isUnverified(code)) {
-            reduceRefundTryCount(payment);
-            throw new VerificationFailedException(payment.getRemainTryCount());
+            int remainTryCount = reduceRefundTryCount(payment.getMerchantUid());
+            throw new VerificationFailedException(remainTryCount);
         }
     }
 
-    private void reduceRefundTryCount(Payment payment) {
-        if (payment.hasNoRefundFailure()) {
-            RefundFailure refundFailure = refundFailureRepository.save(new RefundFailure());
-            payment.updateRefundFailure(refundFailure);
+    private int reduceRefundTryCount(UUID merchantUid) {
+        long remainTryCount = attemptLimiter.attempt(refundVerificationKey(merchantUid),
+                rateLimitProperties.getRefundVerification());
+        if (remainTryCount <= 0) {
+            refundFailureRecorder.record(merchantUid, 0);
+            throw new RefundVerificationBlockedException();
         }
-        payment.reduceTryCount();
-        payment.checkRemainTryCount();
+        refundFailureRecorder.record(merchantUid, (int) remainTryCount);
+        return (int) remainTryCount;
+    }
+
+    private String refundVerificationKey(UUID merchantUid) {
+        return "refundVerification:" + merchantUid;
     }
 
     public RefundInfoResponse refundInfo(VerifiedRefunder refundInfoRequest) {
@@ -141,11 +197,36 @@ public class PaymentService {
         return new RefundInfoResponse(payment);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void refundPayment(VerifiedRefunder verifiedRefunder) {
-        Payment payment = findPayment(verifiedRefunder.getMerchantUid());
-        payment.validateIsNotCancelled();
-        PaymentInfo refundInfo = paymentServiceConnector.requestPaymentRefund(payment.getMerchantUid());
-        payment.refund(refundInfo);
+        UUID merchantUid = UUID.fromString(verifiedRefunder.getMerchantUid());
+        findPayment(merchantUid).validateIsNotCancelled();
+        PaymentInfo refundInfo = paymentServiceConnector.requestPaymentRefund(merchantUid);
+
+        transactionTemplate.executeWithoutResult(status -> refund(merchantUid, refundInfo));
+    }
+
+    // 환불 요청이 동시에 들어오더라도 PAID 에서 CANCELLED 로 바꾼 한 쪽만 포인트를 차감한다.
+    private void refund(UUID merchantUid, PaymentInfo refundInfo) {
+        Payment payment = findPayment(merchantUid);
+        payment.validatePaymentCancel(refundInfo);
+        Long memberId = payment.getMember().getId();
+        long point = TaxIncludedCalculator.detachTax(payment.getAmount());
+
+        int updated = paymentRepository.updateStatusIfPaid(merchantUid, refundInfo.getImpUid(),
+                PaymentStatus.PAID, PaymentStatus.CANCELLED);
+        if (updated == 0) {
+            throw new PaymentAlreadyCancelledException();
+        }
+        if (memberRepository.reducePointIfEnough(memberId, point) == 0) {
+            throw new NotEnoughPointException();
+        }
+    }
+
+    private Payment findPaymentWithRefundFailure(String merchantUid) {
+        return paymentRepository
+                .findByMerchantUidWithRefundFailure(UUID.fromString(merchantUid))
+                .orElseThrow(PaymentNotFoundException::new);
     }
 
     private Payment findPayment(String merchantUid) {
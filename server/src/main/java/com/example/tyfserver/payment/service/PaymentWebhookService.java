@@ -0,0 +1,97 @@
+package com.example.tyfserver.payment.service;
+
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import com.example.tyfserver.payment.dto.PaymentCompleteRequest;
+import com.example.tyfserver.payment.dto.PaymentWebhookRequest;
+import com.example.tyfserver.payment.exception.PaymentWebhookBusyException;
+import com.example.tyfserver.payment.repository.PaymentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 아임포트 웹훅으로 결제 승인을 처리한다.
+ * 같은 결제건의 웹훅은 Redis SETNX 로 한 번만 받아들이고, 요청 스레드가 아닌 별도 작업 풀에서 처리한다.
+ */
+@Service
+public class PaymentWebhookService {
+
+    private static final String KEY_PREFIX = "paymentWebhook:";
+    private static final Duration DEDUPLICATION_TTL = Duration.ofHours(1);
+    private static final String PAID = "paid";
+
+    private final Logger logger = LoggerFactory.getLogger(PaymentWebhookService.class);
+
+    private final PaymentService paymentService;
+    private final PaymentRepository paymentRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+
+    public PaymentWebhookService(PaymentService paymentService, PaymentRepository paymentRepository,
+                                 StringRedisTemplate redisTemplate,
+                                 @Qualifier("paymentWebhookExecutor") Executor executor,
+                                 MeterRegistry meterRegistry) {
+        this.paymentService = paymentService;
+        this.paymentRepository = paymentRepository;
+        this.redisTemplate = redisTemplate;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void receive(PaymentWebhookRequest request) {
+        if (!PAID.equals(request.getStatus())) {
+            count("ignored");
+            return;
+        }
+
+        String key = KEY_PREFIX + request.getMerchantUid() + ":" + request.getImpUid();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, request.getStatus(), DEDUPLICATION_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            count("duplicate");
+            return;
+        }
+
+        try {
+            executor.execute(() -> process(request, key));
+        } catch (RejectedExecutionException e) {
+            // 아임포트가 재전송하면 다시 받을 수 있도록 선점했던 키를 돌려놓는다.
+            redisTemplate.delete(key);
+            count("rejected");
+            throw new PaymentWebhookBusyException();
+        }
+        count("accepted");
+    }
+
+    private void process(PaymentWebhookRequest request, String key) {
+        try {
+            UUID merchantUid = UUID.fromString(request.getMerchantUid());
+            boolean pending = paymentRepository.findStatusByMerchantUid(merchantUid)
+                    .map(PaymentStatus.PENDING::equals)
+                    .orElse(false);
+            if (!pending) {
+                count("skipped");
+                return;
+            }
+
+            paymentService.completePayment(new PaymentCompleteRequest(request.getImpUid(), request.getMerchantUid()));
+            count("completed");
+        } catch (RuntimeException e) {
+            redisTemplate.delete(key);
+            count("failed");
+            logger.warn("iamport webhook processing failed. merchantUid: {}", request.getMerchantUid(), e);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("payment.webhook", "result", result).increment();
+    }
+}
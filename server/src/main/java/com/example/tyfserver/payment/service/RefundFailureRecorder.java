@@ -0,0 +1,35 @@
+package com.example.tyfserver.payment.service;
+
+import com.example.tyfserver.payment.domain.RefundFailure;
+import com.example.tyfserver.payment.repository.PaymentRepository;
+import com.example.tyfserver.payment.repository.RefundFailureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * 환불 인증 실패를 감사 기록으로 남긴다. 차단 여부는 Redis 에서 판단하므로 요청 스레드에서 기다리지 않고 따로 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefundFailureRecorder {
+
+    private final PaymentRepository paymentRepository;
+    private final RefundFailureRepository refundFailureRepository;
+
+    @Async("refundFailureExecutor")
+    @Transactional
+    public void record(UUID merchantUid, int remainTryCount) {
+        paymentRepository.findByMerchantUidWithRefundFailure(merchantUid)
+                .ifPresent(payment -> {
+                    if (payment.hasNoRefundFailure()) {
+                        payment.updateRefundFailure(refundFailureRepository.save(new RefundFailure(remainTryCount)));
+                        return;
+                    }
+                    payment.getRefundFailure().updateRemainTryCount(remainTryCount);
+                });
+    }
+}
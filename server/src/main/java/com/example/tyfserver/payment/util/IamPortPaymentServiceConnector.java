@@ -9,6 +9,7 @@ import com.example.tyfserver.payment.domain.PaymentServiceConnector;
 import com.example.tyfserver.payment.domain.PaymentStatus;
 import com.example.tyfserver.payment.dto.IamPortPaymentInfo;
 import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.*;
@@ -16,31 +17,37 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 
 import java.util.UUID;
+import java.util.function.Function;
 
 @Component
 @Profile("!performance")
+@Qualifier(ResilientPaymentServiceConnector.PAYMENT_GATEWAY)
 public class IamPortPaymentServiceConnector implements PaymentServiceConnector {
 
     private static final String MODULE_NAME = "아임포트";
-    private static final String IAMPORT_API_URL = "https://api.iamport.kr";
 
-    @Value("${iamport.rest_api_key}")
-    private String impKey;
+    @Value("${iamport.api_url}")
+    private String apiUrl;
 
-    @Value("${iamport.rest_api_secret}")
-    private String impSecret;
+    private final ApiSender apiSender;
+    private final IamPortTokenProvider tokenProvider;
+
+    public IamPortPaymentServiceConnector(@Qualifier("iamPortApiSender") ApiSender apiSender,
+                                          IamPortTokenProvider tokenProvider) {
+        this.apiSender = apiSender;
+        this.tokenProvider = tokenProvider;
+    }
 
     @Override
     public PaymentInfo requestPaymentInfo(UUID merchantUid) {
-        String accessToken = getAccessToken();
-        IamPortPaymentInfo paymentInfo = requestPaymentInfo(merchantUid, accessToken);
+        IamPortPaymentInfo paymentInfo = withAccessToken(accessToken -> requestPaymentInfo(merchantUid, accessToken));
 
         return convertToPaymentInfo(paymentInfo);
     }
 
     private IamPortPaymentInfo requestPaymentInfo(UUID merchantUid, String accessToken) {
-        return ApiSender.send(
-                IAMPORT_API_URL + "/payments/find/" + merchantUid,
+        return apiSender.send(
+                apiUrl + "/payments/find/" + merchantUid,
                 HttpMethod.POST,
                 paymentInfoRequest(accessToken),
                 IamPortPaymentInfo.class
@@ -57,15 +64,14 @@ public class IamPortPaymentServiceConnector implements PaymentServiceConnector {
 
     @Override
     public PaymentInfo requestPaymentRefund(UUID merchantUid) {
-        String accessToken = getAccessToken();
-        IamPortPaymentInfo paymentInfo = requestPaymentCancel(merchantUid, accessToken);
+        IamPortPaymentInfo paymentInfo = withAccessToken(accessToken -> requestPaymentCancel(merchantUid, accessToken));
 
         return convertToPaymentInfo(paymentInfo);
     }
 
     private IamPortPaymentInfo requestPaymentCancel(UUID merchantUid, String accessToken) {
-        return ApiSender.send(
-                IAMPORT_API_URL + "/payments/cancel",
+        return apiSender.send(
+                apiUrl + "/payments/cancel",
                 HttpMethod.POST,
                 paymentCancelRequest(accessToken, merchantUid),
                 IamPortPaymentInfo.class
@@ -85,19 +91,20 @@ public class IamPortPaymentServiceConnector implements PaymentServiceConnector {
 
     @Override
     public AccountInfo requestHolderNameOfAccount(String bankCode, String bankNum) {
-        String accessToken = getAccessToken();
-        return holderNameOfAccount(bankCode, bankNum, accessToken);
+        return withAccessToken(accessToken -> holderNameOfAccount(bankCode, bankNum, accessToken));
     }
 
     private AccountInfo holderNameOfAccount(String bankCode, String bankNum, String accessToken) {
         int status = 0;
         try {
-            return ApiSender.send(
-                    IAMPORT_API_URL + "/vbanks/holder?bank_code=" + bankCode + "&" + "bank_num=" + bankNum,
+            return apiSender.send(
+                    apiUrl + "/vbanks/holder?bank_code=" + bankCode + "&" + "bank_num=" + bankNum,
                     HttpMethod.GET,
                     holderNameOfAccountRequest(accessToken),
                     AccountInfo.class
             );
+        } catch (HttpClientErrorException.Unauthorized e) {
+            throw e;
         } catch (HttpClientErrorException e) {
             if (e.getStatusCode().equals(HttpStatus.NOT_FOUND)) {
                 throw new AccountInvalidException();
@@ -115,13 +122,15 @@ public class IamPortPaymentServiceConnector implements PaymentServiceConnector {
         return new HttpEntity<>(headers);
     }
 
-    private String getAccessToken() {
-        String body = ApiSender.send(
-                IAMPORT_API_URL + "/users/getToken",
-                HttpMethod.POST,
-                accessTokenRequest()
-        );
-        return extractAccessToken(body);
+    // 캐시된 토큰이 아임포트 쪽에서 먼저 만료됐다면 한 번만 새 토큰으로 다시 요청한다.
+    private <T> T withAccessToken(Function<String, T> request) {
+        String accessToken = tokenProvider.getToken();
+        try {
+            return request.apply(accessToken);
+        } catch (HttpClientErrorException.Unauthorized e) {
+            tokenProvider.invalidate(accessToken);
+            return request.apply(tokenProvider.getToken());
+        }
     }
 
     private PaymentInfo convertToPaymentInfo(IamPortPaymentInfo iamPortPaymentInfo) {
@@ -135,21 +144,4 @@ public class IamPortPaymentServiceConnector implements PaymentServiceConnector {
                 response.getImp_uid(),
                 MODULE_NAME);
     }
-
-    private HttpEntity<String> accessTokenRequest() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        JSONObject jsonObject = new JSONObject();
-        jsonObject.put("imp_key", impKey);
-        jsonObject.put("imp_secret", impSecret);
-
-        return new HttpEntity<>(jsonObject.toString(), headers);
-    }
-
-    private String extractAccessToken(String accessTokenBody) {
-        return new JSONObject(accessTokenBody)
-                .getJSONObject("response")
-                .getString("access_token");
-    }
 }
@@ -0,0 +1,205 @@
+package com.example.tyfserver.payment.util;
+
+import com.example.tyfserver.common.util.ApiSender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 아임포트 액세스 토큰을 만료 전까지 재사용한다.
+ * 만료가 가까워지면 백그라운드에서 미리 갱신하고, 동시에 들어온 요청들은 하나의 갱신 요청을 함께 기다린다.
+ */
+@Component
+@Profile("!performance")
+public class IamPortTokenProvider {
+
+    // 만료까지 이 시간보다 적게 남으면 기존 토큰을 쓰면서 백그라운드에서 갱신한다.
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+    // 만료까지 이 시간보다 적게 남으면 기존 토큰을 쓰지 않고 갱신을 기다린다.
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(30);
+
+    private final Logger logger = LoggerFactory.getLogger(IamPortTokenProvider.class);
+
+    private final String apiUrl;
+    private final String impKey;
+    private final String impSecret;
+    private final ApiSender apiSender;
+    private final Clock clock;
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("iamport-token-refresh"));
+
+    private final AtomicReference<AccessToken> cachedToken = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<AccessToken>> inFlight = new AtomicReference<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter refreshCounter;
+    private final Counter refreshFailureCounter;
+    private final Counter invalidateCounter;
+
+    @Autowired
+    public IamPortTokenProvider(@Value("${iamport.api_url}") String apiUrl,
+                                @Value("${iamport.rest_api_key}") String impKey,
+                                @Value("${iamport.rest_api_secret}") String impSecret,
+                                @Qualifier("iamPortApiSender") ApiSender apiSender,
+                                MeterRegistry meterRegistry) {
+        this(apiUrl, impKey, impSecret, apiSender, meterRegistry, Clock.systemUTC());
+    }
+
+    IamPortTokenProvider(String apiUrl, String impKey, String impSecret, ApiSender apiSender,
+                         MeterRegistry meterRegistry, Clock clock) {
+        this.apiUrl = apiUrl;
+        this.impKey = impKey;
+        this.impSecret = impSecret;
+        this.apiSender = apiSender;
+        this.clock = clock;
+        this.hitCounter = meterRegistry.counter("iamport.token", "result", "hit");
+        this.missCounter = meterRegistry.counter("iamport.token", "result", "miss");
+        this.refreshCounter = meterRegistry.counter("iamport.token.refresh", "result", "success");
+        this.refreshFailureCounter = meterRegistry.counter("iamport.token.refresh", "result", "failure");
+        this.invalidateCounter = meterRegistry.counter("iamport.token.invalidated");
+    }
+
+    public String getToken() {
+        AccessToken token = cachedToken.get();
+        Instant now = clock.instant();
+        if (token != null && token.isUsableAt(now)) {
+            hitCounter.increment();
+            if (token.needsRefreshAt(now)) {
+                refresh();
+            }
+            return token.getValue();
+        }
+
+        missCounter.increment();
+        return await(refresh()).getValue();
+    }
+
+    /**
+     * 아임포트가 401 을 돌려준 토큰을 버린다. 그 사이 다른 요청이 이미 새 토큰으로 바꿨다면 그대로 둔다.
+     */
+    public void invalidate(String rejectedToken) {
+        AccessToken token = cachedToken.get();
+        if (token != null && token.getValue().equals(rejectedToken) && cachedToken.compareAndSet(token, null)) {
+            invalidateCounter.increment();
+        }
+    }
+
+    // 다른 요청이 등록한 갱신이 CAS 직후 끝나 비워질 수 있으므로, 진행 중인 갱신을 얻거나 직접 등록할 때까지 다시 시도한다.
+    private CompletableFuture<AccessToken> refresh() {
+        while (true) {
+            CompletableFuture<AccessToken> current = inFlight.get();
+            if (current != null) {
+                return current;
+            }
+
+            CompletableFuture<AccessToken> future = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, future)) {
+                startRefresh(future);
+                return future;
+            }
+        }
+    }
+
+    private void startRefresh(CompletableFuture<AccessToken> future) {
+        refreshExecutor.execute(() -> {
+            try {
+                AccessToken token = requestToken();
+                cachedToken.set(token);
+                refreshCounter.increment();
+                future.complete(token);
+            } catch (RuntimeException e) {
+                refreshFailureCounter.increment();
+                logger.warn("iamport access token refresh failed", e);
+                future.completeExceptionally(e);
+            } finally {
+                inFlight.compareAndSet(future, null);
+            }
+        });
+    }
+
+    private AccessToken await(CompletableFuture<AccessToken> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private AccessToken requestToken() {
+        String body = apiSender.send(
+                apiUrl + "/users/getToken",
+                HttpMethod.POST,
+                accessTokenRequest()
+        );
+        JSONObject response = new JSONObject(body).getJSONObject("response");
+
+        // 서버 간 시계 차이를 피하기 위해 아임포트가 알려준 남은 시간만 사용한다.
+        long ttlSeconds = response.getLong("expired_at") - response.getLong("now");
+        return new AccessToken(response.getString("access_token"), clock.instant().plusSeconds(ttlSeconds));
+    }
+
+    private HttpEntity<String> accessTokenRequest() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        JSONObject jsonObject = new JSONObject();
+        jsonObject.put("imp_key", impKey);
+        jsonObject.put("imp_secret", impSecret);
+
+        return new HttpEntity<>(jsonObject.toString(), headers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private static class AccessToken {
+
+        private final String value;
+        private final Instant expiredAt;
+
+        AccessToken(String value, Instant expiredAt) {
+            this.value = value;
+            this.expiredAt = expiredAt;
+        }
+
+        String getValue() {
+            return value;
+        }
+
+        boolean isUsableAt(Instant now) {
+            return now.isBefore(expiredAt.minus(EXPIRY_MARGIN));
+        }
+
+        boolean needsRefreshAt(Instant now) {
+            return !now.isBefore(expiredAt.minus(REFRESH_AHEAD));
+        }
+    }
+}
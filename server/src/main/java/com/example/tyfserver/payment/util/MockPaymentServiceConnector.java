@@ -1,10 +1,12 @@
 package com.example.tyfserver.payment.util;
 
 import com.example.tyfserver.common.util.ApiSender;
+import com.example.tyfserver.member.exception.AccountInvalidException;
 import com.example.tyfserver.payment.domain.AccountInfo;
 import com.example.tyfserver.payment.domain.PaymentInfo;
 import com.example.tyfserver.payment.domain.PaymentServiceConnector;
 import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpEntity;
@@ -12,23 +14,31 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 
 import java.util.UUID;
 
 @Component
 @Profile("performance")
+@Qualifier(ResilientPaymentServiceConnector.PAYMENT_GATEWAY)
 public class MockPaymentServiceConnector implements PaymentServiceConnector {
 
     @Value("${tyf_pay_api_url}")
     private String TYF_PAY_API_URL;
 
+    private final ApiSender apiSender;
+
+    public MockPaymentServiceConnector(@Qualifier("tyfPayApiSender") ApiSender apiSender) {
+        this.apiSender = apiSender;
+    }
+
     @Override
     public PaymentInfo requestPaymentInfo(UUID merchantUid) {
         return requestPaymentInfoToMockServer(merchantUid);
     }
 
     private PaymentInfo requestPaymentInfoToMockServer(UUID merchantUid) {
-        return ApiSender.send(
+        return apiSender.send(
                 TYF_PAY_API_URL + "/payments/find/" + merchantUid,
                 HttpMethod.POST,
                 paymentInfoRequest(),
@@ -48,7 +58,7 @@ public class MockPaymentServiceConnector implements PaymentServiceConnector {
     }
 
     private PaymentInfo requestPaymentCancel(UUID merchantUid) {
-        return ApiSender.send(
+        return apiSender.send(
                 TYF_PAY_API_URL + "/payments/cancel",
                 HttpMethod.POST,
                 paymentCancelRequest(merchantUid),
@@ -67,7 +77,15 @@ public class MockPaymentServiceConnector implements PaymentServiceConnector {
 
     @Override
     public AccountInfo requestHolderNameOfAccount(String bankCode, String bankNum) {
-        // todo 일단 급해서 아직 안함!!
-        return new AccountInfo();
+        try {
+            return apiSender.send(
+                    TYF_PAY_API_URL + "/vbanks/holder?bank_code=" + bankCode + "&" + "bank_num=" + bankNum,
+                    HttpMethod.GET,
+                    paymentInfoRequest(),
+                    AccountInfo.class
+            );
+        } catch (HttpClientErrorException.NotFound e) {
+            throw new AccountInvalidException();
+        }
     }
 }
@@ -0,0 +1,110 @@
+package com.example.tyfserver.payment.util;
+
+import com.example.tyfserver.payment.domain.AccountInfo;
+import com.example.tyfserver.payment.domain.PaymentInfo;
+import com.example.tyfserver.payment.domain.PaymentServiceConnector;
+import com.example.tyfserver.payment.exception.PaymentServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 결제모듈 호출을 벌크헤드와 서킷브레이커로 감싼다.
+ * 결제모듈이 느려지거나 실패가 쌓이면 기다리지 않고 바로 실패시켜서 다른 API 의 스레드까지 묶이지 않게 한다.
+ */
+@Primary
+@Component
+public class ResilientPaymentServiceConnector implements PaymentServiceConnector {
+
+    public static final String PAYMENT_GATEWAY = "paymentGateway";
+    private static final String NAME = "paymentServiceConnector";
+
+    private final PaymentServiceConnector delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    @Autowired
+    public ResilientPaymentServiceConnector(@Qualifier(PAYMENT_GATEWAY) PaymentServiceConnector delegate,
+                                            MeterRegistry meterRegistry) {
+        this(delegate, circuitBreakerConfig(), bulkheadConfig(), meterRegistry);
+    }
+
+    ResilientPaymentServiceConnector(PaymentServiceConnector delegate, CircuitBreakerConfig circuitBreakerConfig,
+                                     BulkheadConfig bulkheadConfig, MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(circuitBreakerConfig);
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(bulkheadConfig);
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    // 타임아웃과 5xx 만 결제모듈 장애로 보고, 잘못된 계좌 같은 4xx 업무 오류는 실패율에 넣지 않는다.
+    static CircuitBreakerConfig circuitBreakerConfig() {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(50)
+                .slowCallDurationThreshold(Duration.ofSeconds(3))
+                .slowCallRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofSeconds(10))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .recordExceptions(ResourceAccessException.class, HttpServerErrorException.class)
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+    }
+
+    static BulkheadConfig bulkheadConfig() {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(20)
+                .maxWaitDuration(Duration.ofMillis(50))
+                .build();
+    }
+
+    @Override
+    public PaymentInfo requestPaymentInfo(UUID merchantUid) {
+        return call(() -> delegate.requestPaymentInfo(merchantUid));
+    }
+
+    @Override
+    public PaymentInfo requestPaymentRefund(UUID merchantUid) {
+        return call(() -> delegate.requestPaymentRefund(merchantUid));
+    }
+
+    @Override
+    public AccountInfo requestHolderNameOfAccount(String bankCode, String bankNum) {
+        return call(() -> delegate.requestHolderNameOfAccount(bankCode, bankNum));
+    }
+
+    private <T> T call(Supplier<T> supplier) {
+        try {
+            return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, supplier));
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw new PaymentServiceUnavailableException();
+        }
+    }
+
+    CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.tyfserver.payment.util;
+
+import com.example.tyfserver.payment.config.StubPaymentGatewayProperties;
+import com.example.tyfserver.payment.config.StubPaymentGatewayProperties.Endpoint;
+import com.example.tyfserver.payment.domain.AccountInfo;
+import com.example.tyfserver.payment.domain.PaymentInfo;
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import com.example.tyfserver.payment.dto.PaymentPreparedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용으로 애플리케이션 안에서 띄우는 결제모듈. MockPaymentServiceConnector 가 부르는
+ * /payments/find, /payments/cancel, /vbanks/holder 를 흉내 내고, 설정한 분포대로 지연과 오류를 섞어서 응답한다.
+ * 결제 금액과 상품명은 실제 결제모듈처럼 결제를 준비할 때 등록해 두고, 조회할 때 DB 를 다시 읽지 않는다.
+ */
+public class StubPaymentGateway {
+
+    private static final String MODULE_NAME = "스텁결제모듈";
+    // 표준 정규 분포의 99 백분위수
+    private static final double Z_99 = 2.326;
+
+    private final Logger logger = LoggerFactory.getLogger(StubPaymentGateway.class);
+
+    private final StubPaymentGatewayProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, PaymentPreparedEvent> preparedPayments = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService executorService;
+
+    public StubPaymentGateway(StubPaymentGatewayProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void prepare(PaymentPreparedEvent payment) {
+        preparedPayments.put(payment.getMerchantUid(), payment);
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", properties.getPort()), 0);
+        server.createContext("/payments/find/", handle(properties.getFind(), this::find));
+        server.createContext("/payments/cancel", handle(properties.getCancel(), this::cancel));
+        server.createContext("/vbanks/holder", handle(properties.getHolder(), this::holder));
+        // 지연을 흉내 내느라 잠들어 있는 요청이 다른 요청을 막지 않도록 스레드를 필요한 만큼 만든다.
+        executorService = Executors.newCachedThreadPool(new CustomizableThreadFactory("stub-payment-gateway"));
+        server.setExecutor(executorService);
+        server.start();
+        logger.info("stub payment gateway started - port: {}", getPort());
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executorService.shutdownNow();
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void find(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        UUID merchantUid = UUID.fromString(path.substring(path.lastIndexOf('/') + 1));
+        respondPayment(exchange, merchantUid, PaymentStatus.PAID);
+    }
+
+    private void cancel(HttpExchange exchange) throws IOException {
+        JsonNode request;
+        try (InputStream body = exchange.getRequestBody()) {
+            request = objectMapper.readTree(body);
+        }
+        UUID merchantUid = UUID.fromString(request.path("merchant_uid").asText());
+        respondPayment(exchange, merchantUid, PaymentStatus.CANCELLED);
+        // 취소된 결제는 다시 조회할 일이 없으므로 부하 테스트가 길어져도 등록해 둔 결제가 계속 쌓이지 않게 지운다.
+        preparedPayments.remove(merchantUid);
+    }
+
+    private void respondPayment(HttpExchange exchange, UUID merchantUid, PaymentStatus status) throws IOException {
+        PaymentPreparedEvent payment = preparedPayments.get(merchantUid);
+        if (payment == null) {
+            respond(exchange, 404, "{\"code\":-1,\"message\":\"존재하지 않는 결제정보입니다.\"}");
+            return;
+        }
+        PaymentInfo paymentInfo = new PaymentInfo(merchantUid, status, payment.getAmount(),
+                payment.getItemName(), "stub_" + merchantUid, MODULE_NAME);
+        respond(exchange, 200, objectMapper.writeValueAsString(paymentInfo));
+    }
+
+    private void holder(HttpExchange exchange) throws IOException {
+        if (ThreadLocalRandom.current().nextDouble() < properties.getInvalidAccountRate()) {
+            respond(exchange, 404, "{\"code\":-1,\"message\":\"유효하지 않은 계좌입니다.\"}");
+            return;
+        }
+        AccountInfo accountInfo = new AccountInfo(0, null, new AccountInfo.Response(properties.getHolderName()));
+        respond(exchange, 200, objectMapper.writeValueAsString(accountInfo));
+    }
+
+    private HttpHandler handle(Endpoint endpoint, HttpHandler handler) {
+        return exchange -> {
+            try {
+                sleep(sampleLatencyMillis(endpoint));
+                if (ThreadLocalRandom.current().nextDouble() < endpoint.getErrorRate()) {
+                    respond(exchange, 500, "{\"code\":-1,\"message\":\"stub error\"}");
+                    return;
+                }
+                handler.handle(exchange);
+            } catch (RuntimeException e) {
+                logger.warn("stub payment gateway failed - uri: {}", exchange.getRequestURI(), e);
+                respond(exchange, 400, "{\"code\":-1}");
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    private long sampleLatencyMillis(Endpoint endpoint) {
+        double median = endpoint.getLatencyMedian().toMillis();
+        if (median <= 0) {
+            return 0;
+        }
+        double mu = Math.log(median);
+        double sigma = Math.max(0, (Math.log(endpoint.getLatencyP99().toMillis()) - mu) / Z_99);
+        return Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+create table creator_point_summary
+(
+    id bigint not null auto_increment,
+    creator_id      bigint not null,
+    waiting_point   bigint not null,
+    exchanged_point bigint not null,
+    donation_count  bigint not null,
+    primary key (id)
+);
+
+alter table creator_point_summary
+    add constraint UK_creator_point_summary_creator_id unique (creator_id);
+
+insert into creator_point_summary (creator_id, waiting_point, exchanged_point, donation_count)
+select m.id,
+       coalesce(sum(case when d.status = 'WAITING_FOR_EXCHANGE' then d.point else 0 end), 0),
+       coalesce(sum(case when d.status = 'EXCHANGED' then d.point else 0 end), 0),
+       count(d.id)
+from member m
+         left join donation d on d.creator_id = m.id
+group by m.id;
@@ -0,0 +1,2 @@
+create index IDX_donation_creator_id_created_at_id
+    on donation (creator_id, created_at, id);
@@ -0,0 +1,14 @@
+create index IDX_donation_creator_id_status_created_at
+    on donation (creator_id, status, created_at);
+
+create index IDX_donation_donator_id
+    on donation (donator_id);
+
+create index IDX_payment_merchant_uid
+    on payment (merchant_uid);
+
+create index IDX_exchange_member_id_status
+    on exchange (member_id, status);
+
+create index IDX_member_email_oauth2type
+    on member (email, oauth2type);
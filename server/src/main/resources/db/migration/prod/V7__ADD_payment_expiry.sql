@@ -0,0 +1,18 @@
+create index IDX_payment_status_created_at
+    on payment (status, created_at);
+
+create table payment_archive
+(
+    id bigint not null auto_increment,
+    payment_id   bigint       not null,
+    created_at   timestamp    not null,
+    archived_at  timestamp    not null,
+    amount       bigint       not null,
+    email        varchar(255),
+    imp_uid      varchar(255),
+    item_name    varchar(255) not null,
+    merchant_uid binary(16)   not null,
+    status       varchar(255),
+    member_id    bigint,
+    primary key (id)
+);
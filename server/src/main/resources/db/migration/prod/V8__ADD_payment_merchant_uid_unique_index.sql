@@ -0,0 +1,4 @@
+create unique index UK_payment_merchant_uid
+    on payment (merchant_uid);
+
+drop index IDX_payment_merchant_uid on payment;
@@ -20,6 +20,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.Mockito.*;
 
@@ -50,7 +51,7 @@ public class AcceptanceTest {
         RestAssured.port = port;
         databaseCleanup.cleanUp();
         when(oauth2ServiceConnector.getEmailFromOauth2(any(), any()))
-                .thenReturn(DEFAULT_EMAIL);
+                .thenReturn(CompletableFuture.completedFuture(DEFAULT_EMAIL));
         when(s3Connector.uploadBankBook(any(), any()))
                 .thenReturn(DEFAULT_PROFILE_IMAGE);
         doNothing().when(s3Connector).delete(anyString());
@@ -2,6 +2,8 @@ package com.example.tyfserver;
 
 import com.google.common.base.CaseFormat;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,11 +18,13 @@ import java.util.stream.Collectors;
 public class DatabaseCleanup implements InitializingBean {
 
     private final EntityManager entityManager;
+    private final RedisConnectionFactory redisConnectionFactory;
 
     private List<String> tableNames;
 
-    public DatabaseCleanup(EntityManager entityManager) {
+    public DatabaseCleanup(EntityManager entityManager, RedisConnectionFactory redisConnectionFactory) {
         this.entityManager = entityManager;
+        this.redisConnectionFactory = redisConnectionFactory;
     }
 
     @Override
@@ -51,5 +55,12 @@ public class DatabaseCleanup implements InitializingBean {
         cleanUpSql.add("SET REFERENTIAL_INTEGRITY TRUE");
 
         entityManager.createNativeQuery(String.join("; ", cleanUpSql)).executeUpdate();
+        flushRedis();
+    }
+
+    private void flushRedis() {
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.flushDb();
+        }
     }
 }
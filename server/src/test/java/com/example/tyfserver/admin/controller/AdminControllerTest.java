@@ -2,11 +2,21 @@ package com.example.tyfserver.admin.controller;
 
 import com.example.tyfserver.admin.dto.*;
 import com.example.tyfserver.admin.exception.InvalidAdminException;
+import com.example.tyfserver.admin.exception.NotAdminException;
 import com.example.tyfserver.admin.service.AdminService;
+import com.example.tyfserver.auth.config.AdminAuthenticationInterceptor;
 import com.example.tyfserver.auth.config.AuthenticationArgumentResolver;
 import com.example.tyfserver.auth.config.AuthenticationInterceptor;
 import com.example.tyfserver.auth.config.RefundAuthenticationArgumentResolver;
 import com.example.tyfserver.auth.dto.TokenResponse;
+import com.example.tyfserver.auth.exception.InvalidTokenException;
+import com.example.tyfserver.donation.dto.BulkDonationItemRequest;
+import com.example.tyfserver.donation.dto.BulkDonationItemResponse;
+import com.example.tyfserver.donation.dto.BulkDonationRequest;
+import com.example.tyfserver.donation.dto.BulkDonationResponse;
+import com.example.tyfserver.donation.exception.DonationRequestException;
+import com.example.tyfserver.donation.service.BulkDonationService;
+import com.example.tyfserver.member.exception.NotEnoughPointException;
 import com.example.tyfserver.member.exception.MemberNotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +31,8 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static java.util.Collections.singletonList;
@@ -45,10 +57,14 @@ class AdminControllerTest {
     @MockBean
     private AdminService adminService;
     @MockBean
+    private BulkDonationService bulkDonationService;
+    @MockBean
     private AuthenticationArgumentResolver authenticationArgumentResolver;
     @MockBean
     private AuthenticationInterceptor authenticationInterceptor;
     @MockBean
+    private AdminAuthenticationInterceptor adminAuthenticationInterceptor;
+    @MockBean
     private RefundAuthenticationArgumentResolver refundAuthenticationArgumentResolver;
 
     @Test
@@ -56,6 +72,7 @@ class AdminControllerTest {
     public void approveAccount() throws Exception {
         //given
         when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
         doNothing().when(adminService).approveAccount(Mockito.anyLong());
         //when
         //then
@@ -73,6 +90,7 @@ class AdminControllerTest {
     public void approveAccountFailWhenMemberNotFound() throws Exception {
         //when
         when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
         doThrow(new MemberNotFoundException()).when(adminService).approveAccount(anyLong());
         //then
         mockMvc.perform(post("/admin/account/approve/1")
@@ -91,6 +109,7 @@ class AdminControllerTest {
         AccountRejectRequest request = new AccountRejectRequest("테스트취소사유");
         //when
         when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
         doNothing().when(adminService).rejectAccount(Mockito.anyLong(), Mockito.any());
         //then
         mockMvc.perform(post("/admin/account/reject/1")
@@ -110,6 +129,7 @@ class AdminControllerTest {
         AccountRejectRequest request = new AccountRejectRequest("테스트취소사유");
         //when
         when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
         doThrow(new MemberNotFoundException()).when(adminService).rejectAccount(anyLong(), any());
 
         //then
@@ -136,6 +156,7 @@ class AdminControllerTest {
 
         //when
         when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
         when(adminService.findRequestingAccounts()).thenReturn(responses);
         //then
         mockMvc.perform(get("/admin/list/account"))
@@ -157,6 +178,7 @@ class AdminControllerTest {
     @DisplayName("정산 신청 목록 조회")
     public void exchangeList() throws Exception {
         when(authenticationInterceptor.preHandle(any(), any(), any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
         when(adminService.exchangeList())
                 .thenReturn(singletonList(
                         new ExchangeResponse("승윤", "tyf@gmail.com", "nickname", "pagename", 10000L, LocalDateTime.now(), "123-123")
@@ -180,6 +202,7 @@ class AdminControllerTest {
     @DisplayName("정산 승인")
     public void approveExchange() throws Exception {
         when(authenticationInterceptor.preHandle(any(), any(), any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
         doNothing().when(adminService).approveExchange(anyString());
 
         mockMvc.perform(post("/admin/exchange/approve/pagename")
@@ -196,6 +219,7 @@ class AdminControllerTest {
     @DisplayName("정산 승인 - 회원을 찾을 수 없음")
     public void approveExchangeMemberNotFound() throws Exception {
         when(authenticationInterceptor.preHandle(any(), any(), any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
         doThrow(new MemberNotFoundException()).when(adminService).approveExchange(anyString());
 
         mockMvc.perform(post("/admin/exchange/approve/pagename")
@@ -214,6 +238,7 @@ class AdminControllerTest {
     public void rejectExchange() throws Exception {
         ExchangeRejectRequest request = new ExchangeRejectRequest("pagename", "no reason just fun");
         when(authenticationInterceptor.preHandle(any(), any(), any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
         doNothing().when(adminService).rejectExchange(anyString(), anyString());
 
         mockMvc.perform(post("/admin/exchange/reject")
@@ -232,6 +257,7 @@ class AdminControllerTest {
     public void rejectExchangeMemberNotFound() throws Exception {
         ExchangeRejectRequest request = new ExchangeRejectRequest("pagename", "no reason just fun");
         when(authenticationInterceptor.preHandle(any(), any(), any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
         doThrow(new MemberNotFoundException()).when(adminService).rejectExchange(anyString(), anyString());
 
         mockMvc.perform(post("/admin/exchange/reject")
@@ -246,6 +272,66 @@ class AdminControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("/admin/tokens/revoke - success")
+    public void revokeToken() throws Exception {
+        //given
+        when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        doNothing().when(adminService).revokeToken(Mockito.anyString());
+
+        //when //then
+        mockMvc.perform(post("/admin/tokens/revoke")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TokenRevocationRequest("token"))))
+                .andExpect(status().isOk())
+                .andDo(document("revokeToken",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
+
+    @Test
+    @DisplayName("/admin/tokens/revoke - 유효하지 않은 토큰")
+    public void revokeInvalidTokenFailed() throws Exception {
+        //given
+        when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        doThrow(new InvalidTokenException()).when(adminService).revokeToken(Mockito.anyString());
+
+        //when //then
+        mockMvc.perform(post("/admin/tokens/revoke")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TokenRevocationRequest("token"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value(InvalidTokenException.ERROR_CODE))
+                .andDo(document("revokeInvalidTokenFailed",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
+
+    @Test
+    @DisplayName("/admin/tokens/revoke - 관리자 토큰이 아님")
+    public void revokeTokenNotAdminFailed() throws Exception {
+        //given
+        when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenThrow(new NotAdminException());
+
+        //when //then
+        mockMvc.perform(post("/admin/tokens/revoke")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TokenRevocationRequest("token"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value(NotAdminException.ERROR_CODE))
+                .andDo(document("revokeTokenNotAdminFailed",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+        verify(adminService, never()).revokeToken(Mockito.anyString());
+    }
+
     @Test
     @DisplayName("/admin/login - success")
     public void login() throws Exception {
@@ -285,4 +371,77 @@ class AdminControllerTest {
                         preprocessResponse(prettyPrint())))
         ;
     }
+
+    @Test
+    @DisplayName("/admin/donations/bulk - success")
+    public void bulkDonations() throws Exception {
+        //given
+        when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        BulkDonationRequest request = new BulkDonationRequest(Arrays.asList(
+                new BulkDonationItemRequest("donator", "creator", 1000L),
+                new BulkDonationItemRequest("donator", "creator", 100000L)
+        ));
+        when(bulkDonationService.createDonations(Mockito.any())).thenReturn(new BulkDonationResponse(Arrays.asList(
+                BulkDonationItemResponse.success(0),
+                BulkDonationItemResponse.fail(1, NotEnoughPointException.ERROR_CODE)
+        )));
+
+        //when //then
+        mockMvc.perform(post("/admin/donations/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(2))
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[1].errorCode").value(NotEnoughPointException.ERROR_CODE))
+                .andDo(document("bulkDonations",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
+
+    @Test
+    @DisplayName("/admin/donations/bulk - 유효하지 않은 Request")
+    public void bulkDonationsInvalidRequestFailed() throws Exception {
+        //given
+        when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        BulkDonationRequest request = new BulkDonationRequest(Collections.emptyList());
+
+        //when //then
+        mockMvc.perform(post("/admin/donations/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value(DonationRequestException.ERROR_CODE))
+                .andDo(document("bulkDonationsInvalidRequestFailed",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
+
+    @Test
+    @DisplayName("/admin/donations/bulk - 관리자 토큰이 아님")
+    public void bulkDonationsNotAdminFailed() throws Exception {
+        //given
+        when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(adminAuthenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenThrow(new NotAdminException());
+        BulkDonationRequest request = new BulkDonationRequest(Arrays.asList(
+                new BulkDonationItemRequest("donator", "creator", 1000L)
+        ));
+
+        //when //then
+        mockMvc.perform(post("/admin/donations/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value(NotAdminException.ERROR_CODE))
+                .andDo(document("bulkDonationsNotAdminFailed",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+        verify(bulkDonationService, never()).createDonations(Mockito.any());
+    }
 }
@@ -0,0 +1,94 @@
+package com.example.tyfserver.auth.config;
+
+import com.example.tyfserver.DatabaseCleanup;
+import com.example.tyfserver.auth.util.JwtTokenProvider;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.MemberTest;
+import com.example.tyfserver.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /members/me 요청 한 건이 쓰는 CPU 시간을, 토큰을 한 번 파싱할 때와 예전처럼 ArgumentResolver 에서 한 번 더 파싱할 때로 비교한다.
+ * MockMvc 는 요청을 호출한 스레드에서 처리하므로 스레드 CPU 시간으로 잰다.
+ * 오래 걸리므로 AUTH_BENCHMARK=true 일 때만 돈다. 요청 수는 AUTH_BENCHMARK_REQUESTS 로 바꿀 수 있다.
+ * ex) AUTH_BENCHMARK=true ./gradlew test --tests '*AuthenticationBenchmarkTest'
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "AUTH_BENCHMARK", matches = "true")
+class AuthenticationBenchmarkTest {
+
+    private final Logger logger = LoggerFactory.getLogger(AuthenticationBenchmarkTest.class);
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.cleanUp();
+    }
+
+    @Test
+    @DisplayName("토큰을 요청당 한 번만 파싱하면 /members/me 의 요청당 CPU 시간이 줄어든다.")
+    public void memberDetail() throws Exception {
+        //given
+        Member member = memberRepository.save(MemberTest.testMember());
+        String token = jwtTokenProvider.createToken(member.getId(), member.getEmail());
+        int requests = requests();
+        cpuNanosPerRequest(token, requests / 10, false);
+        cpuNanosPerRequest(token, requests / 10, true);
+
+        //when
+        double parseOnceMicros = cpuNanosPerRequest(token, requests, false) / 1_000.0;
+        double parseTwiceMicros = cpuNanosPerRequest(token, requests, true) / 1_000.0;
+
+        //then
+        logger.info("=== AUTH PARSE BENCHMARK === requests: {}, parse once: {}us/request, parse twice: {}us/request, saved: {}us/request",
+                requests, String.format("%.1f", parseOnceMicros), String.format("%.1f", parseTwiceMicros),
+                String.format("%.1f", parseTwiceMicros - parseOnceMicros));
+    }
+
+    // reparse 이면 예전 ArgumentResolver 처럼 같은 토큰을 요청마다 한 번 더 검증한다.
+    private long cpuNanosPerRequest(String token, int requests, boolean reparse) throws Exception {
+        long start = threadMXBean.getCurrentThreadCpuTime();
+        for (int i = 0; i < requests; i++) {
+            mockMvc.perform(get("/members/me")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isOk());
+            if (reparse) {
+                jwtTokenProvider.verify(token);
+            }
+        }
+        return (threadMXBean.getCurrentThreadCpuTime() - start) / requests;
+    }
+
+    private int requests() {
+        String requests = System.getenv("AUTH_BENCHMARK_REQUESTS");
+        return requests == null ? 20_000 : Integer.parseInt(requests);
+    }
+}
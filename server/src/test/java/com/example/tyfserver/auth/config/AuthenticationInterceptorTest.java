@@ -0,0 +1,111 @@
+package com.example.tyfserver.auth.config;
+
+import com.example.tyfserver.DatabaseCleanup;
+import com.example.tyfserver.admin.domain.AdminAccount;
+import com.example.tyfserver.admin.exception.NotAdminException;
+import com.example.tyfserver.auth.exception.InvalidTokenException;
+import com.example.tyfserver.auth.service.TokenRevocationService;
+import com.example.tyfserver.auth.util.JwtTokenProvider;
+import com.example.tyfserver.donation.exception.DonationRequestException;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.MemberTest;
+import com.example.tyfserver.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthenticationInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    @Autowired
+    private AdminAccount adminAccount;
+
+    @SpyBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.cleanUp();
+    }
+
+    @Test
+    @DisplayName("인터셉터가 검증한 토큰 클레임을 ArgumentResolver 가 재사용해서 요청당 한 번만 파싱한다.")
+    public void parseTokenOncePerRequest() throws Exception {
+        //given
+        Member member = memberRepository.save(MemberTest.testMember());
+        String token = jwtTokenProvider.createToken(member.getId(), member.getEmail());
+
+        //when //then
+        mockMvc.perform(get("/members/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("email").value(member.getEmail()));
+        verify(jwtTokenProvider, times(1)).verify(Mockito.anyString());
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰으로는 인증할 수 없다.")
+    public void rejectRevokedToken() throws Exception {
+        //given
+        Member member = memberRepository.save(MemberTest.testMember());
+        String token = jwtTokenProvider.createToken(member.getId(), member.getEmail());
+        tokenRevocationService.revoke(token);
+
+        //when //then
+        mockMvc.perform(get("/members/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value(InvalidTokenException.ERROR_CODE));
+    }
+
+    @Test
+    @DisplayName("후원 일괄 등록은 회원 토큰으로는 실행하지 않고, 관리자 토큰으로만 실행한다.")
+    public void rejectMemberTokenOnBulkDonations() throws Exception {
+        //given
+        Member member = memberRepository.save(MemberTest.testMember());
+        String memberToken = jwtTokenProvider.createToken(member.getId(), member.getEmail());
+        String adminToken = jwtTokenProvider.createAdminToken(adminAccount.getId());
+        String body = "{\"donations\":[]}";
+
+        //when //then
+        mockMvc.perform(post("/admin/donations/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + memberToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value(NotAdminException.ERROR_CODE));
+        mockMvc.perform(post("/admin/donations/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value(DonationRequestException.ERROR_CODE));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.tyfserver.auth.controller;
 
+import com.example.tyfserver.auth.config.AdminAuthenticationInterceptor;
 import com.example.tyfserver.auth.config.AuthenticationArgumentResolver;
 import com.example.tyfserver.auth.config.AuthenticationInterceptor;
 import com.example.tyfserver.auth.dto.Oauth2Request;
@@ -23,14 +24,19 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = Oauth2Controller.class)
@@ -51,6 +57,8 @@ class Oauth2ControllerTest {
     @MockBean
     private AuthenticationInterceptor authenticationInterceptor;
     @MockBean
+    private AdminAuthenticationInterceptor adminAuthenticationInterceptor;
+    @MockBean
     private AuthenticationService authenticationService;
 
     private static MockedStatic<Oauth2Request> oauth2Request;
@@ -71,10 +79,14 @@ class Oauth2ControllerTest {
         //given
         when(Oauth2Request.generateLoginInfoFrom(Mockito.anyString())).thenReturn(null);
         when(oauth2Service.login(Mockito.any(), Mockito.anyString()))
-                .thenReturn(new TokenResponse("token"));
+                .thenReturn(CompletableFuture.completedFuture(new TokenResponse("token")));
         //when&then
-        mockMvc.perform(get("/oauth2/login/KAKAO")
+        MvcResult result = mockMvc.perform(get("/oauth2/login/KAKAO")
                 .param("code", "anycode"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.token").value("token"))
                 .andDo(print())
@@ -103,16 +115,43 @@ class Oauth2ControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("/oauth2/login/{oauth} - Oauth2ServiceUnavailable Failed")
+    public void loginOauth2ServiceUnavailableFailed() throws Exception {
+        //given
+        when(Oauth2Request.generateLoginInfoFrom(Mockito.anyString())).thenReturn(null);
+        when(oauth2Service.login(Mockito.any(), Mockito.anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new Oauth2ServiceUnavailableException()));
+        //when&then
+        MvcResult result = mockMvc.perform(get("/oauth2/login/KAKAO")
+                .param("code", "anycode"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("errorCode").value(Oauth2ServiceUnavailableException.ERROR_CODE))
+                .andDo(print())
+                .andDo(document("loginOauth2ServiceUnavailableFailed",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
+
     @Test
     @DisplayName("/oauth2/signup/ready/{oauth} - success")
     public void readySignUp() throws Exception {
         //given
         when(Oauth2Request.generateSignUpInfoFrom(Mockito.anyString())).thenReturn(null);
         when(oauth2Service.readySignUp(Mockito.any(), Mockito.anyString()))
-                .thenReturn(new SignUpReadyResponse("thankyou@gmail.com", "KAKAO"));
+                .thenReturn(CompletableFuture.completedFuture(new SignUpReadyResponse("thankyou@gmail.com", "KAKAO")));
         //when&then
-        mockMvc.perform(get("/oauth2/signup/ready/KAKAO")
+        MvcResult result = mockMvc.perform(get("/oauth2/signup/ready/KAKAO")
                 .param("code", "anycode"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.email").value("thankyou@gmail.com"))
                 .andExpect(jsonPath("$.oauthType").value("KAKAO"))
@@ -1,16 +1,18 @@
 package com.example.tyfserver.auth.service;
 
-import com.example.tyfserver.auth.dto.IdAndEmail;
 import com.example.tyfserver.auth.dto.LoginMember;
+import com.example.tyfserver.auth.dto.TokenClaims;
+import com.example.tyfserver.auth.dto.VerifiedRefunder;
+import com.example.tyfserver.auth.exception.InvalidTokenException;
 import com.example.tyfserver.auth.util.JwtTokenProvider;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import supports.SliceTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
 @SliceTest
@@ -18,18 +20,45 @@ class AuthenticationServiceTest {
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
 
     @InjectMocks
     private AuthenticationService authenticationService;
 
     @Test
-    @DisplayName("토큰을 이용해 LoginMember 생성")
-    public void createLoginMemberByToken() {
-        when(jwtTokenProvider.findIdAndEmailFromToken(Mockito.anyString()))
-                .thenReturn(new IdAndEmail(1L, "email"));
-
-        LoginMember loginMember = authenticationService.createLoginMemberByToken("token");
+    @DisplayName("검증된 토큰 클레임을 이용해 LoginMember 생성")
+    public void createLoginMember() {
+        LoginMember loginMember = authenticationService.createLoginMember(new TokenClaims(1L, "email", null, "tokenId", null));
         assertThat(loginMember.getId()).isEqualTo(1L);
         assertThat(loginMember.getEmail()).isEqualTo("email");
     }
+
+    @Test
+    @DisplayName("회원 id 가 없는 관리자 토큰으로는 LoginMember 를 만들 수 없다")
+    public void createLoginMemberWithAdminToken() {
+        TokenClaims claims = new TokenClaims(null, "admin", null, null, "tokenId", null);
+
+        assertThatThrownBy(() -> authenticationService.createLoginMember(claims))
+                .isExactlyInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("검증된 토큰 클레임을 이용해 VerifiedRefunder 생성")
+    public void createVerifiedRefunder() {
+        VerifiedRefunder verifiedRefunder = authenticationService.createVerifiedRefunder(
+                new TokenClaims(null, null, "merchantUid", "tokenId", null));
+        assertThat(verifiedRefunder.getMerchantUid()).isEqualTo("merchantUid");
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 서명이 유효해도 검증에 실패한다")
+    public void verifyRevokedToken() {
+        TokenClaims claims = new TokenClaims(1L, "email", null, "tokenId", null);
+        when(jwtTokenProvider.verify("token")).thenReturn(claims);
+        when(tokenRevocationService.isRevoked(claims)).thenReturn(true);
+
+        assertThatThrownBy(() -> authenticationService.verifyToken("token"))
+                .isExactlyInstanceOf(InvalidTokenException.class);
+    }
 }
@@ -18,6 +18,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import supports.IntegrationTest;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
@@ -51,35 +53,35 @@ class Oauth2ServiceTest {
     @DisplayName("login")
     public void loginTest() {
         when(oauth2ServiceConnector.getEmailFromOauth2(Mockito.any(Oauth2Request.class), Mockito.anyString()))
-                .thenReturn("email@gmail.com");
+                .thenReturn(CompletableFuture.completedFuture("email@gmail.com"));
 
-        assertThat(oauth2Service.login(Oauth2Request.generateLoginInfoFrom("GOOGLE"), "code").getToken()).isNotNull();
+        assertThat(oauth2Service.login(Oauth2Request.generateLoginInfoFrom("GOOGLE"), "code").join().getToken()).isNotNull();
 
 
         when(oauth2ServiceConnector.getEmailFromOauth2(Mockito.any(Oauth2Request.class), Mockito.anyString()))
-                .thenReturn("invalidEmail");
+                .thenReturn(CompletableFuture.completedFuture("invalidEmail"));
 
-        assertThatThrownBy(() -> oauth2Service.login(Oauth2Request.generateLoginInfoFrom("GOOGLE"), "code"))
-                .isInstanceOf(UnregisteredMemberException.class);
+        assertThatThrownBy(() -> oauth2Service.login(Oauth2Request.generateLoginInfoFrom("GOOGLE"), "code").join())
+                .hasCauseInstanceOf(UnregisteredMemberException.class);
     }
 
     @Test
     @DisplayName("readySignUp")
     public void readySignUpTest() {
         when(oauth2ServiceConnector.getEmailFromOauth2(Mockito.any(Oauth2Request.class), Mockito.anyString()))
-                .thenReturn("invalidEmail");
+                .thenReturn(CompletableFuture.completedFuture("invalidEmail"));
 
-        assertThat(oauth2Service.readySignUp(Oauth2Request.generateLoginInfoFrom("GOOGLE"), "code").getEmail())
+        assertThat(oauth2Service.readySignUp(Oauth2Request.generateLoginInfoFrom("GOOGLE"), "code").join().getEmail())
                 .isEqualTo("invalidEmail");
 
 
         when(oauth2ServiceConnector.getEmailFromOauth2(Mockito.any(Oauth2Request.class), Mockito.anyString()))
-                .thenReturn("email@gmail.com");
+                .thenReturn(CompletableFuture.completedFuture("email@gmail.com"));
 
-        assertThatThrownBy(() -> oauth2Service.readySignUp(Oauth2Request.generateLoginInfoFrom("GOOGLE"), "code"))
-                .isInstanceOf(AlreadyRegisteredInSameOauth2TypeException.class);
-        assertThatThrownBy(() -> oauth2Service.readySignUp(Oauth2Request.generateLoginInfoFrom("KAKAO"), "code"))
-                .isInstanceOf(AlreadyRegisteredException.class);
+        assertThatThrownBy(() -> oauth2Service.readySignUp(Oauth2Request.generateLoginInfoFrom("GOOGLE"), "code").join())
+                .hasCauseInstanceOf(AlreadyRegisteredInSameOauth2TypeException.class);
+        assertThatThrownBy(() -> oauth2Service.readySignUp(Oauth2Request.generateLoginInfoFrom("KAKAO"), "code").join())
+                .hasCauseInstanceOf(AlreadyRegisteredException.class);
     }
 
     @Test
@@ -0,0 +1,145 @@
+package com.example.tyfserver.auth.service;
+
+import com.example.tyfserver.auth.config.TokenRevocationProperties;
+import com.example.tyfserver.auth.dto.TokenClaims;
+import com.example.tyfserver.auth.util.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TokenRevocationServiceTest {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private TokenRevocationProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationService otherNode;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        otherNode = new TokenRevocationService(jwtTokenProvider, redisTemplate, properties, meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    @AfterEach
+    void tearDown() {
+        Set<String> keys = redisTemplate.keys("revokedToken:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 만료 시각까지 Redis 에 남고 폐기된 것으로 확인된다.")
+    public void revoke() {
+        //given
+        String token = jwtTokenProvider.createToken(1L, "email");
+        TokenClaims claims = jwtTokenProvider.verify(token);
+        TokenClaims other = jwtTokenProvider.verify(jwtTokenProvider.createToken(1L, "email"));
+
+        //when
+        otherNode.revoke(token);
+
+        //then
+        assertThat(otherNode.isRevoked(claims)).isTrue();
+        assertThat(otherNode.isRevoked(other)).isFalse();
+        Long ttl = redisTemplate.getExpire("revokedToken:" + claims.getTokenId());
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(60L);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 폐기한 토큰은 pub/sub 으로 이 서버의 블룸 필터에 더해진다.")
+    public void revokeOnOtherNode() throws InterruptedException {
+        //given
+        String token = jwtTokenProvider.createToken(1L, "email");
+        TokenClaims claims = jwtTokenProvider.verify(token);
+
+        //when
+        otherNode.revoke(token);
+
+        //then
+        // 블룸 필터에 없으면 Redis 를 보지 않으므로, 메시지를 받기 전에는 폐기되지 않은 것으로 보인다.
+        boolean revoked = false;
+        for (int i = 0; i < 50 && !revoked; i++) {
+            revoked = tokenRevocationService.isRevoked(claims);
+            Thread.sleep(100);
+        }
+        assertThat(revoked).isTrue();
+    }
+
+    @Test
+    @DisplayName("블룸 필터에 없는 토큰은 Redis 를 조회하지 않고 통과한다.")
+    public void skipRedisOnBloomFilterMiss() {
+        //given
+        TokenClaims claims = jwtTokenProvider.verify(jwtTokenProvider.createToken(1L, "email"));
+        redisTemplate.opsForValue().set("revokedToken:" + claims.getTokenId(), "1");
+
+        //when
+        boolean revoked = otherNode.isRevoked(claims);
+
+        //then
+        assertThat(revoked).isFalse();
+        assertThat(meterRegistry.counter("auth.revocation.check", "result", "passed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("블룸 필터에 걸린 토큰을 Redis 장애로 확인할 수 없으면 폐기된 것으로 보고 거절한다.")
+    public void rejectOnRedisFailure() {
+        //given
+        StringRedisTemplate brokenRedis = mock(StringRedisTemplate.class);
+        when(brokenRedis.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        TokenRevocationService brokenNode = new TokenRevocationService(jwtTokenProvider, brokenRedis, properties,
+                meterRegistry, Clock.systemDefaultZone());
+        TokenClaims claims = jwtTokenProvider.verify(jwtTokenProvider.createToken(1L, "email"));
+        brokenNode.onMessage(new DefaultMessage(properties.getChannel().getBytes(StandardCharsets.UTF_8),
+                claims.getTokenId().getBytes(StandardCharsets.UTF_8)), null);
+
+        //when
+        boolean revoked = brokenNode.isRevoked(claims);
+
+        //then
+        assertThat(revoked).isTrue();
+        assertThat(meterRegistry.counter("auth.revocation.check", "result", "error").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 에 남아 있는 폐기 토큰으로 블룸 필터를 다시 만든다.")
+    public void rebuild() {
+        //given
+        TokenClaims claims = jwtTokenProvider.verify(jwtTokenProvider.createToken(1L, "email"));
+        redisTemplate.opsForValue().set("revokedToken:" + claims.getTokenId(), "1");
+
+        //when
+        otherNode.rebuild();
+
+        //then
+        assertThat(otherNode.isRevoked(claims)).isTrue();
+        assertThat(meterRegistry.counter("auth.revocation.check", "result", "revoked").count()).isEqualTo(1);
+    }
+}
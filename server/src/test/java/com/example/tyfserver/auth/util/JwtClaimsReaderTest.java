@@ -0,0 +1,47 @@
+package com.example.tyfserver.auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtClaimsReaderTest {
+
+    @Test
+    @DisplayName("필요한 클레임만 읽고 모르는 클레임은 중첩되어 있어도 건너뛴다")
+    void readKnownClaims() {
+        //given
+        String json = "{\"roles\":[\"a\",{\"b\":\"}\"}],\"id\":7,\"email\":\"a\\\"b\\u0041@c.com\"," +
+                "\"admin\":true,\"exp\":1625097600,\"memo\":null}";
+        //when
+        JwtClaimsReader claims = JwtClaimsReader.read(json);
+        //then
+        assertThat(claims.getId()).isEqualTo(7L);
+        assertThat(claims.getEmail()).isEqualTo("a\"bA@c.com");
+        assertThat(claims.getMerchantUid()).isNull();
+        assertThat(claims.getExpiration()).isEqualTo(1625097600L);
+    }
+
+    @Test
+    @DisplayName("문자열 id 는 회원 id 가 아니라 관리자 아이디로 읽는다")
+    void readStringId() {
+        //when
+        JwtClaimsReader claims = JwtClaimsReader.read("{\"id\":\"admin\",\"exp\":1}");
+        //then
+        assertThat(claims.getId()).isNull();
+        assertThat(claims.getAdminId()).isEqualTo("admin");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 클레임은 거부한다")
+    void readMalformedClaims() {
+        //when //then
+        assertThatThrownBy(() -> JwtClaimsReader.read("{\"id\":1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JwtClaimsReader.read("{\"email\":1}"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JwtClaimsReader.read("{\"id\":1} {}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.tyfserver.auth.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtTokenProvider 의 발급/검증 처리량을 이전 구현(매번 키 문자열을 넘기는 JJWT 0.9 builder/parser)과 비교한다.
+ * 워밍업 뒤 같은 스레드에서 정해진 횟수를 돌려 초당 토큰 수로 남긴다.
+ * 오래 걸리므로 JWT_BENCHMARK=true 일 때만 돈다. 반복 수는 JWT_BENCHMARK_ITERATIONS 로 바꿀 수 있다.
+ * ex) JWT_BENCHMARK=true ./gradlew test --tests '*JwtTokenBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "JWT_BENCHMARK", matches = "true")
+class JwtTokenBenchmarkTest {
+
+    private static final String SECRETE_KEY = "ABCDEFG";
+    private static final long VALIDITY = 600_000;
+    private static final String EMAIL = "abc@chocolate.com";
+
+    private final Logger logger = LoggerFactory.getLogger(JwtTokenBenchmarkTest.class);
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider(SECRETE_KEY, VALIDITY, Clock.systemDefaultZone());
+
+    @Test
+    @DisplayName("미리 만든 키와 재사용하는 Mac 으로 JJWT 보다 많은 토큰을 발급하고 검증한다.")
+    public void issueAndVerify() {
+        //given
+        int iterations = iterations();
+        String token = jwtTokenProvider.createToken(1L, EMAIL);
+        String legacyToken = legacyIssue(1L);
+        for (int i = 0; i < iterations / 10; i++) {
+            jwtTokenProvider.createToken(i, EMAIL);
+            jwtTokenProvider.verify(token);
+            legacyIssue(i);
+            legacyVerify(legacyToken);
+        }
+
+        //when
+        double issued = tokensPerSecond(iterations, id -> jwtTokenProvider.createToken(id, EMAIL));
+        double legacyIssued = tokensPerSecond(iterations, this::legacyIssue);
+        double verified = tokensPerSecond(iterations, id -> jwtTokenProvider.verify(token).getId());
+        double legacyVerified = tokensPerSecond(iterations, id -> legacyVerify(legacyToken));
+
+        //then
+        logger.info("=== JWT BENCHMARK === iterations: {}, issue: {}/s (jjwt {}/s), verify: {}/s (jjwt {}/s)",
+                iterations, String.format("%.0f", issued), String.format("%.0f", legacyIssued),
+                String.format("%.0f", verified), String.format("%.0f", legacyVerified));
+        assertThat(jwtTokenProvider.verify(legacyToken).getId()).isEqualTo(1L);
+        assertThat(legacyVerify(token)).isEqualTo(1L);
+    }
+
+    private double tokensPerSecond(int iterations, LongFunction<Object> operation) {
+        Object sink = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = operation.apply(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isNotNull();
+        return iterations / (elapsed / 1_000_000_000.0);
+    }
+
+    private String legacyIssue(long id) {
+        Date now = new Date();
+        return Jwts.builder()
+                .claim("id", id)
+                .claim("email", EMAIL)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + VALIDITY))
+                .signWith(SignatureAlgorithm.HS256, SECRETE_KEY)
+                .compact();
+    }
+
+    private Long legacyVerify(String token) {
+        Claims claims = Jwts.parser().setSigningKey(SECRETE_KEY).parseClaimsJws(token).getBody();
+        return claims.get("id", Long.class);
+    }
+}
@@ -1,7 +1,8 @@
 package com.example.tyfserver.auth.util;
 
-import com.example.tyfserver.auth.dto.IdAndEmail;
+import com.example.tyfserver.auth.dto.TokenClaims;
 import com.example.tyfserver.auth.exception.InvalidTokenException;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +11,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,6 +23,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @ActiveProfiles("test")
 class JwtTokenProviderTest {
 
+    private static final String SECRETE_KEY = "ABCDEFG";
+
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
@@ -54,11 +60,86 @@ class JwtTokenProviderTest {
         String expectedEmail = "abc@chocolate.com";
         String token = jwtTokenProvider.createToken(id, expectedEmail);
         //when
-        IdAndEmail idAndEmail = jwtTokenProvider.findIdAndEmailFromToken(token);
-        Long actualId = idAndEmail.getId();
-        String actualEmail = idAndEmail.getEmail();
+        TokenClaims claims = jwtTokenProvider.verify(token);
+        Long actualId = claims.getId();
+        String actualEmail = claims.getEmail();
         //then
         assertThat(actualEmail).isEqualTo(expectedEmail);
         assertThat(actualId).isEqualTo(id);
     }
+
+    @Test
+    @DisplayName("환불 토큰에서 주문번호 추출")
+    void testFindMerchantUidByToken() {
+        //given
+        String merchantUid = "3f2a1c8e-1234-4cde-8f00-000000000001";
+        String token = jwtTokenProvider.createRefundToken(merchantUid);
+        //when
+        TokenClaims claims = jwtTokenProvider.verify(token);
+        //then
+        assertThat(claims.getMerchantUid()).isEqualTo(merchantUid);
+        assertThat(claims.getId()).isNull();
+    }
+
+    @Test
+    @DisplayName("관리자 토큰은 회원 id 없이 검증된다")
+    void testVerifyAdminToken() {
+        //given
+        String token = jwtTokenProvider.createAdminToken("admin");
+        //when
+        TokenClaims claims = jwtTokenProvider.verify(token);
+        //then
+        assertThat(claims.getId()).isNull();
+        assertThat(claims.getAdminId()).isEqualTo("admin");
+    }
+
+    @Test
+    @DisplayName("JJWT 로 발급한 토큰을 검증하고, 발급한 토큰은 JJWT 로도 검증된다")
+    void testCompatibleWithJjwt() {
+        //given
+        String issuedByJjwt = Jwts.builder()
+                .claim("id", 1L)
+                .claim("email", "abc@chocolate.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, SECRETE_KEY)
+                .compact();
+        String issued = jwtTokenProvider.createToken(2L, "\"quoted\"@chocolate.com");
+        //when
+        TokenClaims claims = jwtTokenProvider.verify(issuedByJjwt);
+        Claims jjwtClaims = Jwts.parser().setSigningKey(SECRETE_KEY).parseClaimsJws(issued).getBody();
+        //then
+        assertThat(claims.getId()).isEqualTo(1L);
+        assertThat(claims.getEmail()).isEqualTo("abc@chocolate.com");
+        assertThat(jjwtClaims.get("id", Long.class)).isEqualTo(2L);
+        assertThat(jjwtClaims.get("email", String.class)).isEqualTo("\"quoted\"@chocolate.com");
+    }
+
+    @Test
+    @DisplayName("페이로드를 바꾼 토큰은 서명 검증에 실패한다")
+    void testTamperedToken() {
+        //given
+        String token = jwtTokenProvider.createToken(1L, "abc@chocolate.com");
+        String[] parts = token.split("\\.");
+        String forged = jwtTokenProvider.createToken(2L, "abc@chocolate.com").split("\\.")[1];
+        //when //then
+        assertThatThrownBy(() -> jwtTokenProvider.verify(parts[0] + "." + forged + "." + parts[2]))
+                .isExactlyInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("유효시간이 지나면 검증에 실패한다")
+    void testExpiredToken() {
+        //given
+        Instant issuedAt = Instant.parse("2021-07-01T00:00:00Z");
+        JwtTokenProvider issuer = new JwtTokenProvider(SECRETE_KEY, 60_000,
+                Clock.fixed(issuedAt, ZoneId.systemDefault()));
+        JwtTokenProvider later = new JwtTokenProvider(SECRETE_KEY, 60_000,
+                Clock.fixed(issuedAt.plusSeconds(61), ZoneId.systemDefault()));
+        String token = issuer.createToken(1L, "abc@chocolate.com");
+        //when //then
+        assertThat(issuer.verify(token).getId()).isEqualTo(1L);
+        assertThatThrownBy(() -> later.verify(token))
+                .isExactlyInstanceOf(InvalidTokenException.class);
+    }
 }
@@ -0,0 +1,142 @@
+package com.example.tyfserver.auth.util;
+
+import com.example.tyfserver.auth.config.Oauth2ClientProperties;
+import com.example.tyfserver.auth.domain.GoogleOauth2;
+import com.example.tyfserver.auth.domain.NaverOauth2;
+import com.example.tyfserver.auth.domain.Oauth2;
+import com.example.tyfserver.auth.domain.Oauth2Type;
+import com.example.tyfserver.auth.dto.Oauth2Request;
+import com.example.tyfserver.auth.exception.Oauth2ServiceUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Oauth2ServiceConnectorTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private CountDownLatch googleTokenLatch;
+    private Oauth2 originalGoogle;
+    private Oauth2 originalNaver;
+    private Oauth2ServiceConnector oauth2ServiceConnector;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        googleTokenLatch = new CountDownLatch(0);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/google/token", exchange -> {
+            awaitQuietly(googleTokenLatch);
+            respond(exchange, "{\"access_token\":\"google-token\"}");
+        });
+        server.createContext("/google/profile", exchange ->
+                respond(exchange, "{\"email\":\"" + bearer(exchange) + "@gmail.com\"}"));
+        server.createContext("/naver/token", exchange -> respond(exchange, "{\"access_token\":\"naver-token\"}"));
+        server.createContext("/naver/profile", exchange ->
+                respond(exchange, "{\"response\":{\"email\":\"" + bearer(exchange) + "@naver.com\"}}"));
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        originalGoogle = Oauth2Type.findOauth2("GOOGLE");
+        originalNaver = Oauth2Type.findOauth2("NAVER");
+        Oauth2Type.GOOGLE.setOauth2TypeInterface(new GoogleOauth2("GOOGLE", "clientId", "clientSecret",
+                "signUpRedirectUrl", "loginRedirectUrl", baseUrl + "/google/token", baseUrl + "/google/profile"));
+        Oauth2Type.NAVER.setOauth2TypeInterface(new NaverOauth2("NAVER", "clientId", "clientSecret",
+                "signUpRedirectUrl", "loginRedirectUrl", baseUrl + "/naver/token", baseUrl + "/naver/profile"));
+
+        Oauth2ClientProperties properties = new Oauth2ClientProperties(Duration.ofSeconds(1), Duration.ofSeconds(3), 2,
+                Map.of(Oauth2Type.GOOGLE, 1, Oauth2Type.NAVER, 1, Oauth2Type.KAKAO, 1));
+        oauth2ServiceConnector = new Oauth2ServiceConnector(HttpClient.newHttpClient(), properties,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        googleTokenLatch.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        Oauth2Type.GOOGLE.setOauth2TypeInterface(originalGoogle);
+        Oauth2Type.NAVER.setOauth2TypeInterface(originalNaver);
+    }
+
+    @Test
+    @DisplayName("토큰을 발급받은 뒤 프로필에서 이메일을 꺼낸다.")
+    public void getEmailFromOauth2() {
+        //when
+        String email = oauth2ServiceConnector
+                .getEmailFromOauth2(Oauth2Request.generateLoginInfoFrom("GOOGLE"), "code")
+                .join();
+
+        //then
+        assertThat(email).isEqualTo("google-token@gmail.com");
+    }
+
+    @Test
+    @DisplayName("한 제공자의 동시 로그인 수가 가득 차면 바로 거절하고, 다른 제공자의 로그인은 그대로 진행된다.")
+    public void rejectWhenProviderIsFull() {
+        //given
+        googleTokenLatch = new CountDownLatch(1);
+        CompletableFuture<String> pending = oauth2ServiceConnector
+                .getEmailFromOauth2(Oauth2Request.generateLoginInfoFrom("GOOGLE"), "code");
+
+        //when
+        CompletableFuture<String> rejected = oauth2ServiceConnector
+                .getEmailFromOauth2(Oauth2Request.generateLoginInfoFrom("GOOGLE"), "code");
+        String naverEmail = oauth2ServiceConnector
+                .getEmailFromOauth2(Oauth2Request.generateLoginInfoFrom("NAVER"), "code")
+                .join();
+
+        //then
+        assertThatThrownBy(rejected::join)
+                .hasCauseInstanceOf(Oauth2ServiceUnavailableException.class);
+        assertThat(naverEmail).isEqualTo("naver-token@naver.com");
+
+        googleTokenLatch.countDown();
+        assertThat(pending.join()).isEqualTo("google-token@gmail.com");
+        assertThat(oauth2ServiceConnector
+                .getEmailFromOauth2(Oauth2Request.generateLoginInfoFrom("GOOGLE"), "code")
+                .join()).isEqualTo("google-token@gmail.com");
+    }
+
+    private static String bearer(HttpExchange exchange) {
+        return exchange.getRequestHeaders().getFirst("Authorization").substring("Bearer ".length());
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
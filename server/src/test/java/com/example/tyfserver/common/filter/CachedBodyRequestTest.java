@@ -0,0 +1,93 @@
+package com.example.tyfserver.common.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedBodyRequestTest {
+
+    @Test
+    @DisplayName("ReadListener 를 등록하면 읽을 수 있음과 모두 읽었음을 차례로 알린다.")
+    public void setReadListener() throws IOException {
+        //given
+        CachedBodyRequest request = new CachedBodyRequest(request("{\"point\":1}"));
+        ServletInputStream inputStream = request.getInputStream();
+        RecordingListener listener = new RecordingListener(inputStream, false);
+
+        //when
+        inputStream.setReadListener(listener);
+
+        //then
+        assertThat(listener.calls).containsExactly("onDataAvailable", "onAllDataRead");
+        assertThat(listener.read.toString()).isEqualTo("{\"point\":1}");
+        assertThat(inputStream.isFinished()).isTrue();
+    }
+
+    @Test
+    @DisplayName("ReadListener 에서 예외가 나면 onError 로 전달한다.")
+    public void setReadListenerError() throws IOException {
+        //given
+        CachedBodyRequest request = new CachedBodyRequest(request("{\"point\":1}"));
+        ServletInputStream inputStream = request.getInputStream();
+        RecordingListener listener = new RecordingListener(inputStream, true);
+
+        //when
+        inputStream.setReadListener(listener);
+
+        //then
+        assertThat(listener.calls).containsExactly("onDataAvailable", "onError");
+        assertThat(listener.error).isInstanceOf(IOException.class);
+    }
+
+    private MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static class RecordingListener implements ReadListener {
+
+        private final ServletInputStream inputStream;
+        private final boolean failOnData;
+        private final List<String> calls = new ArrayList<>();
+        private final StringBuilder read = new StringBuilder();
+        private Throwable error;
+
+        RecordingListener(ServletInputStream inputStream, boolean failOnData) {
+            this.inputStream = inputStream;
+            this.failOnData = failOnData;
+        }
+
+        @Override
+        public void onDataAvailable() throws IOException {
+            calls.add("onDataAvailable");
+            if (failOnData) {
+                throw new IOException("read failed");
+            }
+            int b;
+            while (inputStream.isReady() && (b = inputStream.read()) != -1) {
+                read.append((char) b);
+            }
+        }
+
+        @Override
+        public void onAllDataRead() {
+            calls.add("onAllDataRead");
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            calls.add("onError");
+            error = throwable;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.tyfserver.common.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import supports.IntegrationTest;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@IntegrationTest
+class IdempotencyFilterTest {
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final AtomicInteger executionCount = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyFilter idempotencyFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        idempotencyFilter = new IdempotencyFilter(redisTemplate, objectMapper, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 다시 요청하면 저장된 응답을 돌려준다.")
+    public void replay() throws Exception {
+        //when
+        MockHttpServletResponse first = perform("key-1", "token", successChain(0));
+        MockHttpServletResponse second = perform("key-1", "token", successChain(0));
+
+        //then
+        assertThat(executionCount.get()).isEqualTo(1);
+        assertThat(second.getStatus()).isEqualTo(first.getStatus()).isEqualTo(201);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"point\":1}");
+        assertThat(second.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(meterRegistry.counter("idempotency.request", "result", "replayed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 나 호출자가 다르면 각각 실행한다.")
+    public void differentKeyOrCaller() throws Exception {
+        //when
+        perform("key-1", "token", successChain(0));
+        perform("key-2", "token", successChain(0));
+        perform("key-1", "otherToken", successChain(0));
+
+        //then
+        assertThat(executionCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 다른 본문을 보내면 저장된 응답을 돌려주지 않고 422 로 거절한다.")
+    public void differentBody() throws Exception {
+        //given
+        perform("key-1", "token", "{\"amount\":1000}", successChain(0));
+
+        //when
+        MockHttpServletResponse response = perform("key-1", "token", "{\"amount\":5000}", successChain(0));
+
+        //then
+        assertThat(executionCount.get()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains(IdempotencyFilter.ERROR_CODE_KEY_REUSED);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 에 연결할 수 없으면 멱등 처리 없이 그대로 실행한다.")
+    public void redisUnavailable() throws Exception {
+        //given
+        StringRedisTemplate brokenRedisTemplate = mock(StringRedisTemplate.class);
+        when(brokenRedisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+        idempotencyFilter = new IdempotencyFilter(brokenRedisTemplate, objectMapper, meterRegistry);
+
+        //when
+        MockHttpServletResponse response = perform("key-1", "token", successChain(0));
+
+        //then
+        assertThat(executionCount.get()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"point\":1}");
+        assertThat(meterRegistry.counter("idempotency.request", "result", "error").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 뒤 응답을 저장하지 못해도 처리 결과는 그대로 돌려준다.")
+    @SuppressWarnings("unchecked")
+    public void storeFailed() throws Exception {
+        //given
+        StringRedisTemplate brokenRedisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(brokenRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(brokenRedisTemplate.delete(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        idempotencyFilter = new IdempotencyFilter(brokenRedisTemplate, objectMapper, meterRegistry);
+
+        //when
+        MockHttpServletResponse response = perform("key-1", "token", successChain(0));
+
+        //then
+        assertThat(executionCount.get()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"point\":1}");
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 가 없으면 매번 실행한다.")
+    public void withoutKey() throws Exception {
+        //when
+        perform(null, "token", successChain(0));
+        perform(null, "token", successChain(0));
+
+        //then
+        assertThat(executionCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패한 응답은 저장하지 않아 같은 키로 다시 시도할 수 있다.")
+    public void retryAfterFailure() throws Exception {
+        //given
+        FilterChain failChain = (request, response) -> {
+            executionCount.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(400);
+        };
+        perform("key-1", "token", failChain);
+
+        //when
+        MockHttpServletResponse retried = perform("key-1", "token", successChain(0));
+
+        //then
+        assertThat(executionCount.get()).isEqualTo(2);
+        assertThat(retried.getStatus()).isEqualTo(201);
+        assertThat(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 키의 요청이 동시에 들어오면 하나만 실행하고 나머지는 그 결과를 기다린다.")
+    public void concurrentDuplicates() throws Exception {
+        //given
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        //when
+        List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> perform("key-1", "token", successChain(300))));
+        }
+
+        List<MockHttpServletResponse> responses = new ArrayList<>();
+        for (Future<MockHttpServletResponse> future : futures) {
+            responses.add(future.get(5, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(executionCount.get()).isEqualTo(1);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.getStatus()).isEqualTo(201);
+            assertThat(response.getContentAsString()).isEqualTo("{\"point\":1}");
+        });
+        assertThat(meterRegistry.counter("idempotency.request", "result", "replayed").count())
+                .isEqualTo(threadCount - 1);
+    }
+
+    private MockHttpServletResponse perform(String idempotencyKey, String token, FilterChain chain) throws Exception {
+        return perform(idempotencyKey, token, "{\"amount\":1000}", chain);
+    }
+
+    private MockHttpServletResponse perform(String idempotencyKey, String token, String body, FilterChain chain)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/payments/charge/ready");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private FilterChain successChain(long delayMillis) {
+        return (request, response) -> {
+            executionCount.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(201);
+            httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            httpResponse.getOutputStream().write("{\"point\":1}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
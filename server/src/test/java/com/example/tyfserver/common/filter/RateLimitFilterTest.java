@@ -0,0 +1,66 @@
+package com.example.tyfserver.common.filter;
+
+import com.example.tyfserver.common.config.RateLimitProperties.Policy;
+import com.example.tyfserver.common.util.AttemptLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import supports.IntegrationTest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class RateLimitFilterTest {
+
+    @Autowired
+    private AttemptLimiter attemptLimiter;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitFilter = new RateLimitFilter("oauth2Login",
+                new Policy(2, Duration.ofMinutes(1), Duration.ofMinutes(5)),
+                attemptLimiter, objectMapper, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 IP 의 요청이 한도를 넘으면 429 로 응답하고, 다른 IP 의 요청은 통과시킨다.")
+    public void rejectOverLimit() throws Exception {
+        //when
+        MockHttpServletResponse first = perform("10.0.0.1");
+        MockHttpServletResponse second = perform("10.0.0.1");
+        MockHttpServletResponse third = perform("10.0.0.1");
+        MockHttpServletResponse other = perform("10.0.0.2");
+
+        //then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(third.getHeader("Retry-After")).isEqualTo("300");
+        assertThat(third.getContentAsString()).contains(RateLimitFilter.ERROR_CODE_TOO_MANY_REQUESTS);
+        assertThat(other.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.counter("rate.limit.request", "name", "oauth2Login", "result", "blocked").count())
+                .isEqualTo(1);
+    }
+
+    private MockHttpServletResponse perform(String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/oauth2/login/KAKAO");
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
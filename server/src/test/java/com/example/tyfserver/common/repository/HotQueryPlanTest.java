@@ -0,0 +1,155 @@
+package com.example.tyfserver.common.repository;
+
+import com.example.tyfserver.auth.domain.Oauth2Type;
+import com.example.tyfserver.donation.dto.DonationCursor;
+import com.example.tyfserver.donation.repository.DonationRepository;
+import com.example.tyfserver.member.domain.ExchangeStatus;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.MemberTest;
+import com.example.tyfserver.member.repository.ExchangeRepository;
+import com.example.tyfserver.member.repository.MemberRepository;
+import com.example.tyfserver.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import supports.QueryCounter;
+import supports.QueryCounterConfig;
+import supports.RepositoryTest;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 호출되는 조회 쿼리가 인덱스를 타는지 H2 의 EXPLAIN 으로 확인한다.
+ * 파라미터 값과 상관없이 prepare 시점의 실행계획을 보기 위해 파라미터는 모두 null 로 바인딩한다.
+ */
+@RepositoryTest
+@Import(QueryCounterConfig.class)
+class HotQueryPlanTest {
+
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired
+    private DonationRepository donationRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private ExchangeRepository exchangeRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager em;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(MemberTest.testMember(1));
+        em.flush();
+        em.clear();
+        queryCounter.reset();
+    }
+
+    @Test
+    @DisplayName("창작자의 정산대기 포인트 합계 조회")
+    public void waitingTotalPoint() {
+        donationRepository.waitingTotalPoint(member.getId());
+
+        assertNoTableScan("DONATION");
+    }
+
+    @Test
+    @DisplayName("정산할 후원 목록 조회")
+    public void findDonationsToExchange() {
+        donationRepository.findDonationsToExchange(member, YearMonth.now());
+
+        assertNoTableScan("DONATION");
+    }
+
+    @Test
+    @DisplayName("창작자의 후원 목록 커서 조회")
+    public void findDonationsByCursor() {
+        donationRepository.findDonationsByCursor(member.getId(), new DonationCursor(LocalDateTime.now(), 1L), 10);
+
+        assertNoTableScan("DONATION");
+    }
+
+    @Test
+    @DisplayName("공개 후원 목록 조회")
+    public void findPublicDonations() {
+        donationRepository.findDonationByCreatorOrderByCreatedAtDesc(member, PageRequest.of(0, 5));
+
+        assertNoTableScan("DONATION");
+    }
+
+    @Test
+    @DisplayName("merchantUid 로 결제 조회")
+    public void findByMerchantUid() {
+        paymentRepository.findByMerchantUid(UUID.randomUUID());
+        paymentRepository.findByMerchantUidWithRefundFailure(UUID.randomUUID());
+
+        assertNoTableScan("PAYMENT");
+    }
+
+    @Test
+    @DisplayName("회원의 상태별 정산 조회")
+    public void findExchangeByStatusAndMember() {
+        exchangeRepository.findByStatusAndMember(ExchangeStatus.WAITING, member);
+        exchangeRepository.existsByStatusAndMember(ExchangeStatus.WAITING, member);
+
+        assertNoTableScan("EXCHANGE");
+    }
+
+    @Test
+    @DisplayName("로그인 시 이메일과 Oauth2 타입으로 회원 조회")
+    public void findByEmailAndOauth2Type() {
+        memberRepository.findByEmailAndOauth2Type(member.getEmail(), Oauth2Type.NAVER);
+
+        assertNoTableScan("MEMBER");
+    }
+
+    private void assertNoTableScan(String table) {
+        List<String> selects = queryCounter.getStatements().stream()
+                .filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+                .collect(Collectors.toList());
+        assertThat(selects).isNotEmpty();
+
+        for (String sql : selects) {
+            String plan = explain(sql);
+            assertThat(plan)
+                    .as("full scan on %s%n%s", table, plan)
+                    .doesNotContain("PUBLIC." + table + "." + TABLE_SCAN);
+        }
+    }
+
+    private String explain(String sql) {
+        int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+        return jdbcTemplate.query("EXPLAIN " + sql,
+                ps -> {
+                    for (int i = 1; i <= parameterCount; i++) {
+                        ps.setObject(i, null);
+                    }
+                },
+                rs -> {
+                    StringBuilder plan = new StringBuilder();
+                    while (rs.next()) {
+                        plan.append(rs.getString(1));
+                    }
+                    return plan.toString();
+                });
+    }
+}
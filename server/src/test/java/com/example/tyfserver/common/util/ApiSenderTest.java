@@ -0,0 +1,138 @@
+package com.example.tyfserver.common.util;
+
+import com.example.tyfserver.common.config.HttpClientProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApiSenderTest {
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch slowRequestArrived = new CountDownLatch(1);
+
+    private HttpServer server;
+    private String url;
+    private SimpleMeterRegistry meterRegistry;
+    private ApiSender apiSender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/fast", exchange -> respond(exchange, "ok"));
+        server.createContext("/slow", exchange -> {
+            slowRequestArrived.countDown();
+            sleep(1000);
+            respond(exchange, "slow");
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        url = "http://localhost:" + server.getAddress().getPort();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        apiSender.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("같은 호스트로 보내는 요청은 커넥션을 재사용한다.")
+    public void reuseConnection() {
+        //given
+        apiSender = ApiSender.pooled("test", connector(4, Duration.ofSeconds(1), Duration.ofSeconds(2)), meterRegistry);
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            assertThat(apiSender.send(url + "/fast", HttpMethod.GET, HttpEntity.EMPTY)).isEqualTo("ok");
+        }
+
+        //then
+        assertThat(clientPorts).hasSize(1);
+        assertThat(meterRegistry.timer("http.client.connector",
+                "connector", "test", "method", "GET", "status", "200").count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("응답이 read timeout 보다 늦으면 기다리지 않고 실패한다.")
+    public void readTimeout() {
+        //given
+        apiSender = ApiSender.pooled("test", connector(4, Duration.ofSeconds(1), Duration.ofMillis(200)), meterRegistry);
+
+        //when
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> apiSender.send(url + "/slow", HttpMethod.GET, HttpEntity.EMPTY))
+                .isInstanceOf(ResourceAccessException.class);
+
+        //then
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000L);
+        assertThat(meterRegistry.timer("http.client.connector",
+                "connector", "test", "method", "GET", "status", "IO_ERROR").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("호스트당 커넥션이 모두 사용 중이면 커넥션을 기다리다 실패한다.")
+    public void maxPerRoute() throws Exception {
+        //given
+        apiSender = ApiSender.pooled("test", connector(1, Duration.ofMillis(100), Duration.ofSeconds(2)), meterRegistry);
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() ->
+                apiSender.send(url + "/slow", HttpMethod.GET, HttpEntity.EMPTY));
+        assertThat(slowRequestArrived.await(1, TimeUnit.SECONDS)).isTrue();
+
+        //when
+        double leased = meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tags("httpclient", "test", "state", "leased").gauge().value();
+
+        //then
+        assertThat(leased).isEqualTo(1);
+        assertThatThrownBy(() -> apiSender.send(url + "/fast", HttpMethod.GET, HttpEntity.EMPTY))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(slow.get(2, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    private HttpClientProperties.Connector connector(int maxPerRoute, Duration connectionRequestTimeout,
+                                                     Duration readTimeout) {
+        return new HttpClientProperties.Connector(10, maxPerRoute, Duration.ofSeconds(1),
+                connectionRequestTimeout, readTimeout);
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
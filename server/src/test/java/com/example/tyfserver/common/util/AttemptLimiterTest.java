@@ -0,0 +1,94 @@
+package com.example.tyfserver.common.util;
+
+import com.example.tyfserver.common.config.RateLimitProperties.Policy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import supports.IntegrationTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class AttemptLimiterTest {
+
+    private static final Policy POLICY = new Policy(3, Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+    @Autowired
+    private AttemptLimiter attemptLimiter;
+
+    @Test
+    @DisplayName("시도할 때마다 남은 횟수가 줄고, 한도에 닿으면 막힌다.")
+    public void attempt() {
+        //when //then
+        assertThat(attemptLimiter.attempt("key", POLICY)).isEqualTo(2);
+        assertThat(attemptLimiter.attempt("key", POLICY)).isEqualTo(1);
+        assertThat(attemptLimiter.isBlocked("key")).isFalse();
+        assertThat(attemptLimiter.attempt("key", POLICY)).isZero();
+        assertThat(attemptLimiter.isBlocked("key")).isTrue();
+        assertThat(attemptLimiter.attempt("key", POLICY)).isEqualTo(AttemptLimiter.BLOCKED);
+        assertThat(attemptLimiter.attempt("otherKey", POLICY)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("채워 둔 횟수부터 이어서 세고, 이미 세고 있는 키는 다시 채우지 않는다.")
+    public void seedIfAbsent() {
+        //given
+        attemptLimiter.seedIfAbsent("key", POLICY, 1);
+
+        //when
+        long remain = attemptLimiter.attempt("key", POLICY);
+        attemptLimiter.seedIfAbsent("key", POLICY, 0);
+
+        //then
+        assertThat(remain).isEqualTo(1);
+        assertThat(attemptLimiter.attempt("key", POLICY)).isZero();
+        assertThat(attemptLimiter.isBlocked("key")).isTrue();
+    }
+
+    @Test
+    @DisplayName("window 가 지나면 횟수를 다시 센다.")
+    public void resetAfterWindow() throws InterruptedException {
+        //given
+        Policy policy = new Policy(3, Duration.ofMillis(100), Duration.ofMinutes(5));
+        attemptLimiter.attempt("key", policy);
+        attemptLimiter.attempt("key", policy);
+
+        //when
+        Thread.sleep(200);
+
+        //then
+        assertThat(attemptLimiter.attempt("key", policy)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 시도해도 한도만큼만 허용한다.")
+    public void concurrentAttempt() throws Exception {
+        //given
+        Policy policy = new Policy(10, Duration.ofMinutes(1), Duration.ofMinutes(5));
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Callable<Long>> attempts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            attempts.add(() -> attemptLimiter.attempt("key", policy));
+        }
+
+        //when
+        long allowed = 0;
+        for (Future<Long> result : executorService.invokeAll(attempts)) {
+            if (result.get() != AttemptLimiter.BLOCKED) {
+                allowed++;
+            }
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(allowed).isEqualTo(10);
+    }
+}
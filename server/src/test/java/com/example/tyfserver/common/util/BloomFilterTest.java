@@ -0,0 +1,39 @@
+package com.example.tyfserver.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 키는 항상 있다고 답하고, 넣지 않은 키의 오탐은 목표 오탐률 근처에 머문다.")
+    public void mightContain() {
+        //given
+        int insertions = 10_000;
+        BloomFilter bloomFilter = new BloomFilter(insertions, 0.01);
+        String[] keys = new String[insertions];
+        for (int i = 0; i < insertions; i++) {
+            keys[i] = UUID.randomUUID().toString();
+            bloomFilter.put(keys[i]);
+        }
+
+        //when
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (bloomFilter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        //then
+        for (String key : keys) {
+            assertThat(bloomFilter.mightContain(key)).isTrue();
+        }
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+}
@@ -1,18 +1,22 @@
 package com.example.tyfserver.donation.controller;
 
+import com.example.tyfserver.auth.config.AdminAuthenticationInterceptor;
 import com.example.tyfserver.auth.config.AuthenticationArgumentResolver;
 import com.example.tyfserver.auth.config.AuthenticationInterceptor;
 import com.example.tyfserver.auth.dto.LoginMember;
 import com.example.tyfserver.auth.exception.AuthorizationHeaderNotFoundException;
 import com.example.tyfserver.auth.exception.InvalidTokenException;
 import com.example.tyfserver.auth.service.AuthenticationService;
+import com.example.tyfserver.donation.dto.DonationCursorResponse;
 import com.example.tyfserver.donation.dto.DonationMessageRequest;
 import com.example.tyfserver.donation.dto.DonationRequest;
 import com.example.tyfserver.donation.dto.DonationResponse;
 import com.example.tyfserver.donation.exception.DonationMessageRequestException;
 import com.example.tyfserver.donation.exception.DonationNotFoundException;
 import com.example.tyfserver.donation.exception.DonationRequestException;
+import com.example.tyfserver.donation.exception.InvalidDonationCursorException;
 import com.example.tyfserver.donation.service.DonationService;
+import com.example.tyfserver.donation.service.DonationSubscriber;
 import com.example.tyfserver.member.exception.MemberNotFoundException;
 import com.example.tyfserver.member.exception.WrongDonationOwnerException;
 import com.example.tyfserver.payment.dto.PaymentCompleteRequest;
@@ -37,6 +41,7 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = DonationController.class)
@@ -58,6 +63,8 @@ class DonationControllerTest {
     @MockBean
     private AuthenticationInterceptor authenticationInterceptor;
     @MockBean
+    private AdminAuthenticationInterceptor adminAuthenticationInterceptor;
+    @MockBean
     private DonationService donationService;
 
     private void validInterceptorAndArgumentResolverMocking() {
@@ -300,6 +307,52 @@ class DonationControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("/donations/me/cursor - success")
+    public void totalDonationsByCursor() throws Exception {
+        //given
+        //when
+        when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(authenticationArgumentResolver.supportsParameter(Mockito.any())).thenReturn(false);
+        when(donationService.findMyDonationsByCursor(any(), any(), anyInt()))
+                .thenReturn(new DonationCursorResponse(Arrays.asList(
+                        new DonationResponse(2L, "name2", "message2", 2000L, LocalDateTime.now(), "pagename"),
+                        new DonationResponse(1L, "name1", "message1", 1000L, LocalDateTime.now(), "pagename")
+                ), "MjAyMS0wNy0wMVQxMDowMHwx"));
+        //then
+        mockMvc.perform(get("/donations/me/cursor")
+                .contentType(MediaType.APPLICATION_JSON)
+                .param("size", "2")
+                .param("cursor", "MjAyMS0wNy0wMVQxMDowMHwz"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.donations[1].amount").value(1000L))
+                .andExpect(jsonPath("$.nextCursor").value("MjAyMS0wNy0wMVQxMDowMHwx"))
+                .andDo(document("totalDonationsByCursor",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
+
+    @Test
+    @DisplayName("/donations/me/cursor - 유효하지 않은 커서")
+    public void totalDonationsByCursorInvalidCursorFailed() throws Exception {
+        //given
+        //when
+        when(authenticationInterceptor.preHandle(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+        when(authenticationArgumentResolver.supportsParameter(Mockito.any())).thenReturn(false);
+        doThrow(new InvalidDonationCursorException()).when(donationService).findMyDonationsByCursor(any(), any(), anyInt());
+        //then
+        mockMvc.perform(get("/donations/me/cursor")
+                .contentType(MediaType.APPLICATION_JSON)
+                .param("cursor", "invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value(InvalidDonationCursorException.ERROR_CODE))
+                .andDo(document("totalDonationsByCursorInvalidCursorFailed",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
+
     @Test
     @DisplayName("/donations/public/{pageName} - success")
     public void publicDonations() throws Exception {
@@ -342,4 +395,38 @@ class DonationControllerTest {
                         preprocessResponse(prettyPrint())))
         ;
     }
+
+    @Test
+    @DisplayName("/donations/public/{pageName}/stream - success")
+    public void publicDonationStream() throws Exception {
+        //given
+        //when
+        when(donationService.subscribePublicDonations(anyString(), any()))
+                .thenReturn(Mockito.mock(DonationSubscriber.class));
+        //then
+        mockMvc.perform(get("/donations/public/pagename/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andDo(document("publicDonationStream",
+                        preprocessRequest(prettyPrint())))
+        ;
+    }
+
+    @Test
+    @DisplayName("/donations/public/{pageName}/stream - 회원을 찾을 수 없음")
+    public void publicDonationStreamMemberNotFoundFailed() throws Exception {
+        //given
+        //when
+        doThrow(new MemberNotFoundException()).when(donationService).subscribePublicDonations(anyString(), any());
+        //then
+        mockMvc.perform(get("/donations/public/pagename/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value(MemberNotFoundException.ERROR_CODE))
+                .andDo(document("publicDonationStreamMemberNotFoundFailed",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
 }
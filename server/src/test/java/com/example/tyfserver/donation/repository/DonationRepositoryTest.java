@@ -3,6 +3,7 @@ package com.example.tyfserver.donation.repository;
 import com.example.tyfserver.donation.domain.Donation;
 import com.example.tyfserver.donation.domain.DonationStatus;
 import com.example.tyfserver.donation.domain.DonationTest;
+import com.example.tyfserver.donation.dto.DonationCursor;
 import com.example.tyfserver.member.domain.Member;
 import com.example.tyfserver.member.domain.MemberTest;
 import com.example.tyfserver.member.repository.MemberRepository;
@@ -13,9 +14,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import supports.RepositoryTest;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -29,6 +32,8 @@ class DonationRepositoryTest {
     private MemberRepository memberRepository;
     @Autowired
     private DonationRepository donationRepository;
+    @Autowired
+    private EntityManager em;
 
     private Member creator;
     private Member donator;
@@ -95,6 +100,42 @@ class DonationRepositoryTest {
         assertThat(donations).containsExactlyInAnyOrder(donation4, donation3, donation2);
     }
 
+    @Test
+    @DisplayName("커서 기준으로 해당 Member가 받은 도네이션을 최신순으로 끝까지 가져온다.")
+    public void findDonationsByCursor() {
+        flushAndClear();
+        List<Donation> donations = new ArrayList<>();
+        DonationCursor cursor = null;
+        do {
+            List<Donation> page = donationRepository.findDonationsByCursor(creator.getId(), cursor, 3);
+            donations.addAll(page);
+            cursor = page.isEmpty() ? null : DonationCursor.of(page.get(page.size() - 1));
+            if (page.size() < 3) {
+                cursor = null;
+            }
+        } while (cursor != null);
+
+        assertThat(donations).containsExactly(donation7, donation6, donation5, donation4, donation3, donation2, donation1);
+    }
+
+    @Test
+    @DisplayName("같은 시각에 생성된 도네이션은 id로 순서를 정한다.")
+    public void findDonationsByCursorWithSameCreatedAt() {
+        LocalDateTime createdAt = createdAt(1, 1);
+        Member otherCreator = initMember(3);
+        Donation first = initDonation(otherCreator, createdAt);
+        Donation second = initDonation(otherCreator, createdAt);
+        Donation third = initDonation(otherCreator, createdAt);
+        flushAndClear();
+
+        List<Donation> firstPage = donationRepository.findDonationsByCursor(otherCreator.getId(), null, 2);
+        List<Donation> secondPage = donationRepository
+                .findDonationsByCursor(otherCreator.getId(), DonationCursor.of(firstPage.get(1)), 2);
+
+        assertThat(firstPage).containsExactly(third, second);
+        assertThat(secondPage).containsExactly(first);
+    }
+
     @Test
     @DisplayName("정산되지 않은 총 포인트를 조회한다.")
     public void waitingTotalPoint() {
@@ -150,6 +191,11 @@ class DonationRepositoryTest {
         donations.forEach(donation -> assertThat(donation.getId()).isIn(expectedDonationIds));
     }
 
+    private void flushAndClear() {
+        em.flush();
+        em.clear();
+    }
+
     private LocalDateTime createdAt(int month, int dayOfMonth) {
         return LocalDate.of(2021, month, dayOfMonth).atStartOfDay();
     }
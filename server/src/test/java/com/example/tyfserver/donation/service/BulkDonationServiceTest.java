@@ -0,0 +1,178 @@
+package com.example.tyfserver.donation.service;
+
+import com.example.tyfserver.donation.dto.BulkDonationItemRequest;
+import com.example.tyfserver.donation.dto.BulkDonationRequest;
+import com.example.tyfserver.donation.dto.BulkDonationResponse;
+import com.example.tyfserver.donation.dto.DonationRequest;
+import com.example.tyfserver.donation.dto.DonationStreamEvent;
+import com.example.tyfserver.donation.repository.DonationRepository;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.MemberTest;
+import com.example.tyfserver.member.exception.MemberNotFoundException;
+import com.example.tyfserver.member.exception.NotEnoughPointException;
+import com.example.tyfserver.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import supports.IntegrationTest;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+@RecordApplicationEvents
+class BulkDonationServiceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkDonationServiceTest.class);
+
+    @Autowired
+    private BulkDonationService bulkDonationService;
+    @Autowired
+    private DonationService donationService;
+    @Autowired
+    private CreatorPointSummaryService creatorPointSummaryService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private DonationRepository donationRepository;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private Member donator;
+    private Member creator;
+
+    @BeforeEach
+    void setUp() {
+        Member testDonator = MemberTest.testMember(1);
+        testDonator.increasePoint(10000L);
+        donator = memberRepository.save(testDonator);
+        creator = memberRepository.save(MemberTest.testMember(2));
+        flushAndClear();
+    }
+
+    private void flushAndClear() {
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("여러 후원을 한 번에 등록하고, 항목별 결과를 반환한다.")
+    public void createDonations() {
+        //given
+        BulkDonationRequest request = new BulkDonationRequest(Arrays.asList(
+                new BulkDonationItemRequest(donator.getPageName(), creator.getPageName(), 3000L),
+                new BulkDonationItemRequest(donator.getPageName(), "notExistPageName", 1000L),
+                new BulkDonationItemRequest(donator.getPageName(), creator.getPageName(), 5000L),
+                new BulkDonationItemRequest(donator.getPageName(), creator.getPageName(), 3000L)
+        ));
+
+        //when
+        BulkDonationResponse response = bulkDonationService.createDonations(request);
+        flushAndClear();
+
+        //then
+        assertThat(response.getRequested()).isEqualTo(4);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getResults().get(0).isSuccess()).isTrue();
+        assertThat(response.getResults().get(1).getErrorCode()).isEqualTo(MemberNotFoundException.ERROR_CODE);
+        assertThat(response.getResults().get(2).isSuccess()).isTrue();
+        assertThat(response.getResults().get(3).getErrorCode()).isEqualTo(NotEnoughPointException.ERROR_CODE);
+
+        assertThat(memberRepository.findById(donator.getId()).get().getPoint()).isEqualTo(2000L);
+        assertThat(donationRepository.waitingTotalPoint(creator.getId())).isEqualTo(8000L);
+        assertThat(creatorPointSummaryService.findSummary(creator.getId()).getDonationCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("저장된 후원마다 실시간 후원 이벤트를 남긴다.")
+    public void publishDonationStreamEvents() {
+        //given
+        BulkDonationRequest request = new BulkDonationRequest(Arrays.asList(
+                new BulkDonationItemRequest(donator.getPageName(), creator.getPageName(), 3000L),
+                new BulkDonationItemRequest(donator.getPageName(), "notExistPageName", 1000L),
+                new BulkDonationItemRequest(donator.getPageName(), creator.getPageName(), 5000L)
+        ));
+
+        //when
+        bulkDonationService.createDonations(request);
+        flushAndClear();
+
+        //then
+        List<DonationStreamEvent> events = applicationEvents.stream(DonationStreamEvent.class)
+                .collect(Collectors.toList());
+        assertThat(events).hasSize(2);
+        assertThat(events).extracting(DonationStreamEvent::getCreatorId).containsOnly(creator.getId());
+        assertThat(events).extracting(event -> event.getDonation().getAmount()).containsExactly(3000L, 5000L);
+        assertThat(events).extracting(event -> event.getDonation().getPageName()).containsOnly(donator.getPageName());
+        assertThat(events).allSatisfy(event ->
+                assertThat(donationRepository.findById(event.getDonation().getDonationId())).isPresent());
+    }
+
+    @Test
+    @DisplayName("모든 항목이 실패하면 아무것도 반영하지 않는다.")
+    public void createDonationsAllFailed() {
+        //given
+        BulkDonationRequest request = new BulkDonationRequest(Arrays.asList(
+                new BulkDonationItemRequest(donator.getPageName(), creator.getPageName(), 20000L)
+        ));
+
+        //when
+        BulkDonationResponse response = bulkDonationService.createDonations(request);
+        flushAndClear();
+
+        //then
+        assertThat(response.getSucceeded()).isZero();
+        assertThat(memberRepository.findById(donator.getId()).get().getPoint()).isEqualTo(10000L);
+        assertThat(donationRepository.waitingTotalPoint(creator.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 등록과 단건 반복 호출의 처리량을 비교한다.")
+    public void compareThroughputWithSingleCalls() {
+        //given
+        int count = BulkDonationRequest.MAX_SIZE;
+        List<BulkDonationItemRequest> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(new BulkDonationItemRequest(donator.getPageName(), creator.getPageName(), 1L));
+        }
+        memberRepository.findById(donator.getId()).get().increasePoint(count * 2L);
+        flushAndClear();
+
+        //when
+        long singleStart = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            donationService.createDonation(new DonationRequest(creator.getPageName(), 1L), donator.getId());
+        }
+        flushAndClear();
+        long singleElapsed = System.nanoTime() - singleStart;
+
+        long bulkStart = System.nanoTime();
+        BulkDonationResponse response = bulkDonationService.createDonations(new BulkDonationRequest(items));
+        flushAndClear();
+        long bulkElapsed = System.nanoTime() - bulkStart;
+
+        //then
+        logger.info("single calls - {} rows/sec, bulk - {} rows/sec",
+                rowsPerSecond(count, singleElapsed), rowsPerSecond(count, bulkElapsed));
+        assertThat(response.getSucceeded()).isEqualTo(count);
+        assertThat(donationRepository.waitingTotalPoint(creator.getId())).isEqualTo(count * 2L);
+        assertThat(memberRepository.findById(donator.getId()).get().getPoint()).isEqualTo(10000L);
+    }
+
+    private long rowsPerSecond(int rows, long elapsedNanos) {
+        return rows * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.tyfserver.donation.service;
+
+import com.example.tyfserver.donation.domain.CreatorPointSummary;
+import com.example.tyfserver.donation.domain.Donation;
+import com.example.tyfserver.donation.domain.DonationTest;
+import com.example.tyfserver.donation.dto.DonationRequest;
+import com.example.tyfserver.donation.dto.PointSummaryDriftResponse;
+import com.example.tyfserver.donation.repository.CreatorPointSummaryRepository;
+import com.example.tyfserver.donation.repository.DonationRepository;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.MemberTest;
+import com.example.tyfserver.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import supports.IntegrationTest;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class CreatorPointSummaryServiceTest {
+
+    @Autowired
+    private CreatorPointSummaryService creatorPointSummaryService;
+    @Autowired
+    private DonationService donationService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private DonationRepository donationRepository;
+    @Autowired
+    private CreatorPointSummaryRepository creatorPointSummaryRepository;
+    @Autowired
+    private EntityManager em;
+
+    private Member donator;
+    private Member creator;
+
+    @BeforeEach
+    void setUp() {
+        donator = memberRepository.save(MemberTest.testMember(1));
+        donator.increasePoint(100000L);
+        creator = memberRepository.save(MemberTest.testMember(2));
+    }
+
+    private void flushAndClear() {
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("후원이 생성되면 창작자의 포인트 요약이 함께 갱신된다.")
+    public void addDonation() {
+        //when
+        donationService.createDonation(new DonationRequest(creator.getPageName(), 1000L), donator.getId());
+        donationService.createDonation(new DonationRequest(creator.getPageName(), 2000L), donator.getId());
+        flushAndClear();
+
+        //then
+        CreatorPointSummary summary = creatorPointSummaryService.findSummary(creator.getId());
+        assertThat(summary.getWaitingPoint()).isEqualTo(3000L);
+        assertThat(summary.getExchangedPoint()).isZero();
+        assertThat(summary.getDonationCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("여러 후원을 합쳐서 반영하면 건수도 후원 수만큼 늘어난다.")
+    public void addDonations() {
+        //given
+        donationService.createDonation(new DonationRequest(creator.getPageName(), 1000L), donator.getId());
+
+        //when
+        creatorPointSummaryService.addDonations(creator.getId(), 5000L, 3L);
+        flushAndClear();
+
+        //then
+        CreatorPointSummary summary = creatorPointSummaryService.findSummary(creator.getId());
+        assertThat(summary.getWaitingPoint()).isEqualTo(6000L);
+        assertThat(summary.getDonationCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("정산되면 정산대기 포인트가 정산완료 포인트로 옮겨진다.")
+    public void exchange() {
+        //given
+        donationService.createDonation(new DonationRequest(creator.getPageName(), 3000L), donator.getId());
+
+        //when
+        creatorPointSummaryService.exchange(creator.getId(), 1000L);
+        flushAndClear();
+
+        //then
+        CreatorPointSummary summary = creatorPointSummaryService.findSummary(creator.getId());
+        assertThat(summary.getWaitingPoint()).isEqualTo(2000L);
+        assertThat(summary.getExchangedPoint()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("donation 테이블과 어긋난 요약을 찾아 보정한다.")
+    public void reconcile() {
+        //given
+        donationService.createDonation(new DonationRequest(creator.getPageName(), 1000L), donator.getId());
+        Donation missed = new Donation(DonationTest.testMessage(), 5000L);
+        creator.receiveDonation(missed);
+        donationRepository.save(missed).toExchanged();
+        flushAndClear();
+
+        //when
+        List<PointSummaryDriftResponse> drifts = creatorPointSummaryService.reconcile();
+        flushAndClear();
+
+        //then
+        assertThat(drifts).hasSize(1);
+        assertThat(drifts.get(0).getCreatorId()).isEqualTo(creator.getId());
+        assertThat(drifts.get(0).getExchangedPointDrift()).isEqualTo(5000L);
+        assertThat(drifts.get(0).getDonationCountDrift()).isEqualTo(1L);
+
+        CreatorPointSummary summary = creatorPointSummaryService.findSummary(creator.getId());
+        assertThat(summary.getWaitingPoint()).isEqualTo(1000L);
+        assertThat(summary.getExchangedPoint()).isEqualTo(5000L);
+        assertThat(creatorPointSummaryService.reconcile()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요약 행이 없는 창작자는 다시 집계한 값으로 요약 행을 만든다.")
+    public void reconcileMissingSummary() {
+        //given
+        Donation missed = new Donation(DonationTest.testMessage(), 5000L);
+        creator.receiveDonation(missed);
+        donationRepository.save(missed);
+        flushAndClear();
+
+        //when
+        List<PointSummaryDriftResponse> drifts = creatorPointSummaryService.reconcile();
+        flushAndClear();
+
+        //then
+        assertThat(drifts).hasSize(1);
+        CreatorPointSummary summary = creatorPointSummaryService.findSummary(creator.getId());
+        assertThat(summary.getWaitingPoint()).isEqualTo(5000L);
+        assertThat(summary.getDonationCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("읽어둔 뒤에 바뀐 요약은 덮어쓰지 않는다.")
+    public void overwriteSkipsChangedSummary() {
+        //given
+        donationService.createDonation(new DonationRequest(creator.getPageName(), 1000L), donator.getId());
+        flushAndClear();
+
+        //when
+        int updated = creatorPointSummaryRepository.overwrite(creator.getId(), 9000L, 0L, 9L, 0L, 0L, 0L);
+        flushAndClear();
+
+        //then
+        assertThat(updated).isZero();
+        CreatorPointSummary summary = creatorPointSummaryService.findSummary(creator.getId());
+        assertThat(summary.getWaitingPoint()).isEqualTo(1000L);
+        assertThat(summary.getDonationCount()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.tyfserver.donation.service;
+
+import com.example.tyfserver.DatabaseCleanup;
+import com.example.tyfserver.auth.domain.Oauth2Type;
+import com.example.tyfserver.donation.domain.CreatorPointSummary;
+import com.example.tyfserver.donation.domain.Donation;
+import com.example.tyfserver.donation.domain.Message;
+import com.example.tyfserver.donation.dto.DonationRequest;
+import com.example.tyfserver.donation.repository.CreatorPointSummaryRepository;
+import com.example.tyfserver.donation.repository.DonationRepository;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.Point;
+import com.example.tyfserver.member.exception.MemberNotFoundException;
+import com.example.tyfserver.member.exception.NotEnoughPointException;
+import com.example.tyfserver.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DonationConcurrencyTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(DonationConcurrencyTest.class);
+
+    private static final int THREAD_COUNT = 32;
+    private static final int DONATION_COUNT = 3000;
+    private static final long DONATION_POINT = 1L;
+    private static final long INITIAL_POINT = 2000L;
+
+    @Autowired
+    private DonationService donationService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private DonationRepository donationRepository;
+    @Autowired
+    private CreatorPointSummaryRepository creatorPointSummaryRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private Member donator;
+    private Member creator;
+
+    @BeforeEach
+    void setUp() {
+        donator = memberRepository.save(new Member("donator@gmail.com", "donator", "donatorPageName",
+                Oauth2Type.GOOGLE, "profile", new Point(INITIAL_POINT)));
+        creator = memberRepository.save(new Member("creator@gmail.com", "creator", "creatorPageName",
+                Oauth2Type.GOOGLE, "profile", new Point(0L)));
+        creatorPointSummaryRepository.save(new CreatorPointSummary(creator.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.cleanUp();
+    }
+
+    @Test
+    @DisplayName("한 후원자가 동시에 여러번 후원해도 포인트가 유실되지 않는다.")
+    public void createDonationConcurrently() throws InterruptedException {
+        //when
+        Result result = runConcurrently(() ->
+                donationService.createDonation(new DonationRequest(creator.getPageName(), DONATION_POINT), donator.getId()));
+
+        //then
+        Member findDonator = memberRepository.findById(donator.getId()).get();
+        assertThat((long) result.success.get()).isEqualTo(INITIAL_POINT / DONATION_POINT);
+        assertThat(result.notEnoughPoint.get()).isEqualTo(DONATION_COUNT - result.success.get());
+        assertThat(findDonator.getPoint()).isZero();
+        assertThat(donationRepository.waitingTotalPoint(creator.getId())).isEqualTo(INITIAL_POINT);
+        assertThat(creatorPointSummaryRepository.findByCreatorId(creator.getId()).get().getWaitingPoint())
+                .isEqualTo(INITIAL_POINT);
+        logger.info("conditional update - {} donations in {}ms, {} succeeded",
+                DONATION_COUNT, result.elapsedMillis, result.success.get());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 방식과 엔티티 변경감지 방식의 처리량을 비교한다.")
+    public void compareThroughputWithDirtyCheckingPath() throws InterruptedException {
+        //given
+        Result legacy = runConcurrently(() -> transactionTemplate.executeWithoutResult(status -> {
+            Member findDonator = memberRepository.findById(donator.getId())
+                    .orElseThrow(MemberNotFoundException::new);
+            Member findCreator = memberRepository.findByPageName(creator.getPageName())
+                    .orElseThrow(MemberNotFoundException::new);
+            findDonator.validateEnoughPoint(DONATION_POINT);
+            Donation donation = donationRepository.save(new Donation(new Message(findDonator.getNickname()), DONATION_POINT));
+            donation.donate(findDonator, findCreator);
+        }));
+        long legacyRemainPoint = memberRepository.findById(donator.getId()).get().getPoint();
+
+        databaseCleanup.cleanUp();
+        setUp();
+
+        //when
+        Result conditional = runConcurrently(() ->
+                donationService.createDonation(new DonationRequest(creator.getPageName(), DONATION_POINT), donator.getId()));
+        long conditionalRemainPoint = memberRepository.findById(donator.getId()).get().getPoint();
+
+        //then
+        logger.info("dirty checking - {}ms, success {}, lost points {}", legacy.elapsedMillis, legacy.success.get(),
+                INITIAL_POINT - legacy.success.get() * DONATION_POINT - legacyRemainPoint);
+        logger.info("conditional update - {}ms, success {}, lost points {}", conditional.elapsedMillis,
+                conditional.success.get(), INITIAL_POINT - conditional.success.get() * DONATION_POINT - conditionalRemainPoint);
+
+        assertThat(conditionalRemainPoint).isEqualTo(INITIAL_POINT - conditional.success.get() * DONATION_POINT);
+    }
+
+    private Result runConcurrently(Runnable donation) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(DONATION_COUNT);
+        Result result = new Result();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < DONATION_COUNT; i++) {
+            executorService.execute(() -> {
+                try {
+                    donation.run();
+                    result.success.incrementAndGet();
+                } catch (NotEnoughPointException e) {
+                    result.notEnoughPoint.incrementAndGet();
+                } catch (RuntimeException e) {
+                    result.failure.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(1, TimeUnit.MINUTES);
+        result.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        executorService.shutdown();
+        return result;
+    }
+
+    private static class Result {
+        private final AtomicInteger success = new AtomicInteger();
+        private final AtomicInteger notEnoughPoint = new AtomicInteger();
+        private final AtomicInteger failure = new AtomicInteger();
+        private long elapsedMillis;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.tyfserver.donation.service;
+
+import com.example.tyfserver.donation.domain.Donation;
+import com.example.tyfserver.donation.domain.DonationTest;
+import com.example.tyfserver.donation.dto.DonationMessageRequest;
+import com.example.tyfserver.donation.repository.DonationRepository;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.MemberTest;
+import com.example.tyfserver.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import supports.IntegrationTest;
+import supports.QueryCounter;
+import supports.QueryCounterConfig;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+@Import(QueryCounterConfig.class)
+class DonationOwnershipQueryCountTest {
+
+    @Autowired
+    private DonationService donationService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private DonationRepository donationRepository;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Autowired
+    private EntityManager em;
+
+    private Member creator;
+
+    @BeforeEach
+    void setUp() {
+        creator = memberRepository.save(MemberTest.testMember(0));
+    }
+
+    @Test
+    @DisplayName("후원 메세지 추가 시 쿼리 수는 후원자의 후원 건수와 무관하다.")
+    public void addMessageQueryCountIsConstant() {
+        //given
+        long fewDonationsQueryCount = addMessageQueryCount(MemberTest.testMember(1), 1);
+        long manyDonationsQueryCount = addMessageQueryCount(MemberTest.testMember(2), 500);
+
+        //then
+        assertThat(manyDonationsQueryCount).isEqualTo(fewDonationsQueryCount);
+    }
+
+    private long addMessageQueryCount(Member member, int donationCount) {
+        Member donator = memberRepository.save(member);
+        Donation last = null;
+        for (int i = 0; i < donationCount; i++) {
+            last = new Donation(DonationTest.testMessage(), 1000L, donator, creator);
+            donationRepository.save(last);
+        }
+        flushAndClear();
+
+        queryCounter.reset();
+        donationService.addMessageToDonation(donator.getId(), last.getId(),
+                new DonationMessageRequest("message", false));
+        em.flush();
+        long count = queryCounter.getCount();
+        em.clear();
+        return count;
+    }
+
+    private void flushAndClear() {
+        em.flush();
+        em.clear();
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.tyfserver.donation.service;
+
+import com.example.tyfserver.common.config.AsyncConfig;
+import com.example.tyfserver.donation.dto.DonationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DonationStreamHubTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(DonationStreamHubTest.class);
+
+    private static final Long CREATOR_ID = 1L;
+    private static final Long OTHER_CREATOR_ID = 2L;
+    private static final int BUFFER_SIZE = 8;
+    private static final Duration SEND_TIMEOUT = Duration.ofMillis(200);
+
+    private ThreadPoolExecutor executor;
+    private DonationStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        executor = new AsyncConfig().donationStreamExecutor();
+        hub = new DonationStreamHub(executor, new SimpleMeterRegistry(), BUFFER_SIZE, SEND_TIMEOUT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("창작자의 구독자들에게만 후원이 순서대로 전달된다.")
+    public void publish() throws InterruptedException {
+        //given
+        CollectingSink first = new CollectingSink(3);
+        CollectingSink second = new CollectingSink(3);
+        CollectingSink other = new CollectingSink(1);
+        hub.subscribe(CREATOR_ID, first);
+        hub.subscribe(CREATOR_ID, second);
+        hub.subscribe(OTHER_CREATOR_ID, other);
+
+        //when
+        for (long i = 1; i <= 3; i++) {
+            hub.publish(CREATOR_ID, donation(i));
+        }
+
+        //then
+        assertThat(first.await()).isTrue();
+        assertThat(second.await()).isTrue();
+        assertThat(first.donationIds()).containsExactly(1L, 2L, 3L);
+        assertThat(second.donationIds()).containsExactly(1L, 2L, 3L);
+        assertThat(other.donationIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 찬 구독자는 끊어지고, 다른 구독자는 영향을 받지 않는다.")
+    public void dropSlowSubscriber() throws InterruptedException {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingSink slow = new BlockingSink(release);
+        CollectingSink fast = new CollectingSink(BUFFER_SIZE * 2);
+        DonationSubscriber slowSubscriber = hub.subscribe(CREATOR_ID, slow);
+        hub.subscribe(CREATOR_ID, fast);
+
+        //when
+        for (long i = 1; i <= BUFFER_SIZE * 2; i++) {
+            hub.publish(CREATOR_ID, donation(i));
+        }
+
+        //then
+        assertThat(fast.await()).isTrue();
+        assertThat(fast.donationIds()).hasSize(BUFFER_SIZE * 2);
+        assertThat(slowSubscriber.isClosed()).isTrue();
+        assertThat(slow.awaitClosed()).isTrue();
+        assertThat(hub.subscriberCount(CREATOR_ID)).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("전송 스레드 수보다 많은 구독자가 멈춰 있어도 정상 구독자는 모두 받고, 멈춘 구독자는 제한 시간이 지나면 끊어진다.")
+    public void closeStalledSubscribers() throws InterruptedException {
+        //given
+        int stalledCount = executor.getCorePoolSize() + 2;
+        CountDownLatch release = new CountDownLatch(1);
+        List<BlockingSink> stalledSinks = new ArrayList<>();
+        List<DonationSubscriber> stalled = new ArrayList<>();
+        for (int i = 0; i < stalledCount; i++) {
+            BlockingSink sink = new BlockingSink(release);
+            stalledSinks.add(sink);
+            stalled.add(hub.subscribe(CREATOR_ID, sink));
+        }
+        CollectingSink healthy = new CollectingSink(BUFFER_SIZE);
+        hub.subscribe(CREATOR_ID, healthy);
+
+        //when
+        for (long i = 1; i <= BUFFER_SIZE; i++) {
+            hub.publish(CREATOR_ID, donation(i));
+        }
+        assertThat(healthy.await()).isTrue();
+        Thread.sleep(SEND_TIMEOUT.multipliedBy(2).toMillis());
+        hub.closeStalledSubscribers();
+
+        //then
+        assertThat(healthy.donationIds()).hasSize(BUFFER_SIZE);
+        assertThat(stalled).allMatch(DonationSubscriber::isClosed);
+        for (BlockingSink sink : stalledSinks) {
+            assertThat(sink.awaitClosed()).isTrue();
+            assertThat(sink.interrupted).isTrue();
+        }
+        assertThat(hub.subscriberCount(CREATOR_ID)).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독자는 구독 목록에서 제거된다.")
+    public void removeFailedSubscriber() throws InterruptedException {
+        //given
+        CountDownLatch closed = new CountDownLatch(1);
+        hub.subscribe(CREATOR_ID, new DonationStreamSink() {
+            @Override
+            public void send(DonationResponse donation) {
+                throw new IllegalStateException("disconnected");
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        });
+
+        //when
+        hub.publish(CREATOR_ID, donation(1L));
+
+        //then
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(hub.subscriberCount(CREATOR_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("구독자가 수천 명이고 일부가 멈춰 있어도 발행 지연은 늘어나지 않는다.")
+    public void publishLatencyWithThousandsOfSubscribers() throws InterruptedException {
+        //given
+        int subscriberCount = 5000;
+        int stalledCount = 500;
+        int eventCount = 100;
+        ThreadPoolExecutor streamExecutor = new AsyncConfig().donationStreamExecutor();
+        DonationStreamHub hub = new DonationStreamHub(streamExecutor, new SimpleMeterRegistry(), 32, SEND_TIMEOUT);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch received = new CountDownLatch((subscriberCount - stalledCount) * eventCount);
+        List<DonationSubscriber> stalled = new ArrayList<>();
+        for (int i = 0; i < subscriberCount; i++) {
+            if (i < stalledCount) {
+                stalled.add(hub.subscribe(CREATOR_ID, new BlockingSink(release)));
+                continue;
+            }
+            hub.subscribe(CREATOR_ID, new CountingSink(received));
+        }
+
+        //when
+        long[] latencies = new long[eventCount];
+        for (int i = 0; i < eventCount; i++) {
+            long start = System.nanoTime();
+            hub.publish(CREATOR_ID, donation((long) i));
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        //then
+        assertThat(received.await(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(stalled).allMatch(DonationSubscriber::isClosed);
+        assertThat(hub.subscriberCount(CREATOR_ID)).isEqualTo(subscriberCount - stalledCount);
+
+        long[] early = Arrays.copyOfRange(latencies, 0, eventCount / 2);
+        long[] late = Arrays.copyOfRange(latencies, eventCount / 2, eventCount);
+        logger.info("publish to {} subscribers - early median {}us, late median {}us, max {}us", subscriberCount,
+                TimeUnit.NANOSECONDS.toMicros(median(early)), TimeUnit.NANOSECONDS.toMicros(median(late)),
+                TimeUnit.NANOSECONDS.toMicros(Arrays.stream(latencies).max().getAsLong()));
+        assertThat(median(late)).isLessThanOrEqualTo(Math.max(median(early) * 2, TimeUnit.MILLISECONDS.toNanos(1)));
+        assertThat(median(late)).isLessThan(TimeUnit.MILLISECONDS.toNanos(100));
+        release.countDown();
+        streamExecutor.shutdown();
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static DonationResponse donation(Long id) {
+        return new DonationResponse(id, "name", "message", 1000L, LocalDateTime.now(), "pageName");
+    }
+
+    private static class CollectingSink implements DonationStreamSink {
+
+        private final List<DonationResponse> donations = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+
+        CollectingSink(int expected) {
+            this.latch = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(DonationResponse donation) {
+            donations.add(donation);
+            latch.countDown();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        boolean await() throws InterruptedException {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+
+        List<Long> donationIds() {
+            List<Long> ids = new ArrayList<>();
+            donations.forEach(donation -> ids.add(donation.getDonationId()));
+            return ids;
+        }
+    }
+
+    private static class CountingSink implements DonationStreamSink {
+
+        private final CountDownLatch received;
+
+        CountingSink(CountDownLatch received) {
+            this.received = received;
+        }
+
+        @Override
+        public void send(DonationResponse donation) {
+            received.countDown();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class BlockingSink implements DonationStreamSink {
+
+        private final CountDownLatch release;
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private volatile boolean interrupted;
+
+        BlockingSink(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(DonationResponse donation) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        boolean awaitClosed() throws InterruptedException {
+            return closed.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
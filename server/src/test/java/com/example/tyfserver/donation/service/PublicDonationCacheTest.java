@@ -0,0 +1,123 @@
+package com.example.tyfserver.donation.service;
+
+import com.example.tyfserver.DatabaseCleanup;
+import com.example.tyfserver.donation.dto.DonationMessageRequest;
+import com.example.tyfserver.donation.dto.DonationRequest;
+import com.example.tyfserver.donation.dto.DonationResponse;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.MemberTest;
+import com.example.tyfserver.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PublicDonationCacheTest {
+
+    @Autowired
+    private DonationService donationService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private Member donator;
+    private Member creator;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.cleanUp();
+        Member testDonator = MemberTest.testMember(1);
+        testDonator.increasePoint(100000L);
+        donator = memberRepository.save(testDonator);
+        creator = memberRepository.save(MemberTest.testMember(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.cleanUp();
+    }
+
+    @Test
+    @DisplayName("같은 페이지의 공개 후원 목록을 다시 조회하면 캐시에서 응답한다.")
+    public void cacheHit() {
+        //given
+        donationService.createDonation(new DonationRequest(creator.getPageName(), 1000L), donator.getId());
+        double hitBefore = count("hit");
+        double missBefore = count("miss");
+
+        //when
+        List<DonationResponse> first = donationService.findPublicDonations(creator.getPageName());
+        List<DonationResponse> second = donationService.findPublicDonations(creator.getPageName());
+
+        //then
+        assertThat(first).hasSize(1);
+        assertThat(second).usingRecursiveFieldByFieldElementComparator().isEqualTo(first);
+        assertThat(count("miss") - missBefore).isEqualTo(1.0);
+        assertThat(count("hit") - hitBefore).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시에서 응답할 때는 DB 커넥션을 잡지 않는다.")
+    public void cacheHitWithoutConnection() {
+        //given
+        donationService.createDonation(new DonationRequest(creator.getPageName(), 1000L), donator.getId());
+        donationService.findPublicDonations(creator.getPageName());
+        Timer usage = meterRegistry.get("hikaricp.connections.usage").timer();
+        long usagesBefore = usage.count();
+
+        //when
+        List<DonationResponse> cached = donationService.findPublicDonations(creator.getPageName());
+
+        //then
+        assertThat(cached).hasSize(1);
+        assertThat(usage.count() - usagesBefore).isZero();
+    }
+
+    @Test
+    @DisplayName("후원이 생성되면 공개 후원 목록 캐시가 무효화된다.")
+    public void evictOnCreateDonation() {
+        //given
+        assertThat(donationService.findPublicDonations(creator.getPageName())).isEmpty();
+
+        //when
+        donationService.createDonation(new DonationRequest(creator.getPageName(), 1000L), donator.getId());
+
+        //then
+        assertThat(donationService.findPublicDonations(creator.getPageName())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("후원 메세지가 추가되면 공개 후원 목록 캐시가 무효화된다.")
+    public void evictOnAddMessage() {
+        //given
+        DonationResponse donation = donationService.createDonation(
+                new DonationRequest(creator.getPageName(), 1000L), donator.getId());
+        donationService.findPublicDonations(creator.getPageName());
+
+        //when
+        donationService.addMessageToDonation(donator.getId(), donation.getDonationId(),
+                new DonationMessageRequest("cachedMessage", false));
+
+        //then
+        List<DonationResponse> responses = donationService.findPublicDonations(creator.getPageName());
+        assertThat(responses.get(0).getMessage()).isEqualTo("cachedMessage");
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("donation.public.cache", "result", result).count();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.tyfserver.member.controller;
 
+import com.example.tyfserver.auth.config.AdminAuthenticationInterceptor;
 import com.example.tyfserver.auth.config.AuthenticationArgumentResolver;
 import com.example.tyfserver.auth.config.AuthenticationInterceptor;
 import com.example.tyfserver.auth.dto.LoginMember;
@@ -54,6 +55,8 @@ class MemberControllerTest {
     @MockBean
     private AuthenticationInterceptor authenticationInterceptor;
     @MockBean
+    private AdminAuthenticationInterceptor adminAuthenticationInterceptor;
+    @MockBean
     private MemberService memberService;
     @MockBean
     private AuthenticationService authenticationService;
@@ -408,6 +411,46 @@ class MemberControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("/members/curations/{period} - success")
+    public void trendingCurations() throws Exception {
+        //given
+        //when
+        when(memberService.findTrendingCurations(anyString())).thenReturn(
+                Arrays.asList(new CurationsResponse("nickname1",
+                                "pagename1", "https://cloudfront.net/profile1.png", "I am test"),
+                        new CurationsResponse("nickname2",
+                                "pagename2", "https://cloudfront.net/profile2.png", "I am test"))
+        );
+        //then
+        mockMvc.perform(get("/members/curations/weekly")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].pageName").value("pagename1"))
+                .andExpect(jsonPath("$[1].pageName").value("pagename2"))
+                .andDo(document("trendingCurations",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
+
+    @Test
+    @DisplayName("/members/curations/{period} - 지원하지 않는 기간")
+    public void trendingCurationsInvalidPeriodFailed() throws Exception {
+        //given
+        //when
+        doThrow(new InvalidTrendingPeriodException()).when(memberService).findTrendingCurations(anyString());
+        //then
+        mockMvc.perform(get("/members/curations/yearly")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value(InvalidTrendingPeriodException.ERROR_CODE))
+                .andDo(document("trendingCurationsInvalidPeriodFailed",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
+
     @Test
     @DisplayName("/members/validate/token - success")
     public void validateToken() throws Exception {
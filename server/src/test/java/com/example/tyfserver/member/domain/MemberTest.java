@@ -52,7 +52,7 @@ public class MemberTest {
         member.receiveDonation(donation);
 
         //then
-        assertThat(member.getReceivedDonations()).isNotEmpty();
+        assertThat(donation.getCreator()).isSameAs(member);
     }
 
     @Test
@@ -0,0 +1,128 @@
+package com.example.tyfserver.member.service;
+
+import com.example.tyfserver.DatabaseCleanup;
+import com.example.tyfserver.donation.dto.DonationRequest;
+import com.example.tyfserver.donation.service.DonationService;
+import com.example.tyfserver.member.domain.AccountStatus;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.MemberTest;
+import com.example.tyfserver.member.dto.CurationScoreDto;
+import com.example.tyfserver.member.dto.CurationsResponse;
+import com.example.tyfserver.member.repository.AccountRepository;
+import com.example.tyfserver.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CurationLeaderboardTest {
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private DonationService donationService;
+    @Autowired
+    private CurationLeaderboard curationLeaderboard;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private Member donator;
+    private Member first;
+    private Member second;
+    private Member unregistered;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.cleanUp();
+        Member testDonator = MemberTest.testMember(0);
+        testDonator.increasePoint(100000L);
+        donator = memberRepository.save(testDonator);
+        first = initMember(1, AccountStatus.REGISTERED);
+        second = initMember(2, AccountStatus.REGISTERED);
+        unregistered = initMember(3, AccountStatus.UNREGISTERED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.cleanUp();
+    }
+
+    private Member initMember(int i, AccountStatus accountStatus) {
+        Member member = MemberTest.testMemberWithAccount(i, accountStatus);
+        accountRepository.save(member.getAccount());
+        return memberRepository.save(member);
+    }
+
+    private void donate(Member creator, long point) {
+        donationService.createDonation(new DonationRequest(creator.getPageName(), point), donator.getId());
+    }
+
+    private List<String> curationPageNames() {
+        return memberService.findCurations().stream()
+                .map(CurationsResponse::getPageName)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("후원이 커밋되면 랭킹이 갱신되고, 계좌가 등록된 창작자만 큐레이션에 노출된다.")
+    public void findCurationsFromLeaderboard() {
+        //when
+        donate(first, 1000L);
+        donate(second, 2000L);
+        donate(unregistered, 5000L);
+
+        //then
+        assertThat(curationLeaderboard.findTop(10)).hasSize(3);
+        assertThat(curationPageNames()).containsExactly(second.getPageName(), first.getPageName());
+
+        //when
+        donate(first, 1500L);
+
+        //then
+        assertThat(curationPageNames()).containsExactly(first.getPageName(), second.getPageName());
+    }
+
+    @Test
+    @DisplayName("재구축하면 DB 기준으로 랭킹이 바로잡힌다.")
+    public void rebuildCurations() {
+        //given
+        donate(first, 1000L);
+        donate(second, 2000L);
+        curationLeaderboard.rebuild(Collections.singletonList(new CurationScoreDto(first.getId(), 99999L)));
+        assertThat(curationPageNames()).containsExactly(first.getPageName());
+
+        //when
+        memberService.rebuildCurations();
+
+        //then
+        assertThat(curationLeaderboard.findTop(10)).containsExactly(second.getId(), first.getId());
+        assertThat(curationPageNames()).containsExactly(second.getPageName(), first.getPageName());
+    }
+
+    @Test
+    @DisplayName("랭킹이 비어 있으면 DB 에서 큐레이션을 조회한다.")
+    public void findCurationsWithoutLeaderboard() {
+        //given
+        donate(first, 1000L);
+        donate(second, 2000L);
+        curationLeaderboard.rebuild(Collections.emptyList());
+
+        //when //then
+        assertThat(curationPageNames()).containsExactly(second.getPageName(), first.getPageName());
+    }
+}
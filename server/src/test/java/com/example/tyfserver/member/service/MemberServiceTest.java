@@ -6,6 +6,7 @@ import com.example.tyfserver.common.util.S3Connector;
 import com.example.tyfserver.donation.domain.Donation;
 import com.example.tyfserver.donation.domain.Message;
 import com.example.tyfserver.donation.repository.DonationRepository;
+import com.example.tyfserver.donation.service.CreatorPointSummaryService;
 import com.example.tyfserver.member.domain.*;
 import com.example.tyfserver.member.dto.*;
 import com.example.tyfserver.member.exception.*;
@@ -53,6 +54,8 @@ class MemberServiceTest {
     @Autowired
     private ExchangeRepository exchangeRepository;
     @Autowired
+    private CreatorPointSummaryService creatorPointSummaryService;
+    @Autowired
     private Aes256Util aes256Util;
 
     @MockBean
@@ -80,6 +83,7 @@ class MemberServiceTest {
     private Donation initDonation(long point, Member creator) {
         Donation donation = new Donation(new Message("후원자"), point);
         creator.receiveDonation(donation);
+        creatorPointSummaryService.addDonation(creator.getId(), point);
         return donationRepository.save(donation);
     }
 
@@ -212,6 +216,7 @@ class MemberServiceTest {
     public void detailedPointTest() {
         //given
         initDonation(1000L, registeredCreator).toExchanged();
+        creatorPointSummaryService.exchange(registeredCreator.getId(), 1000L);
         initDonation(2000L, registeredCreator);
         initDonation(3000L, registeredCreator);
         flushAndClear();
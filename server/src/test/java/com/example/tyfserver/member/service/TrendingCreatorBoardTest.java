@@ -0,0 +1,142 @@
+package com.example.tyfserver.member.service;
+
+import com.example.tyfserver.member.domain.TrendingPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+import supports.RedisCleanupListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestExecutionListeners(value = RedisCleanupListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+class TrendingCreatorBoardTest {
+
+    private static final Long CREATOR_A = 1L;
+    private static final Long CREATOR_B = 2L;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private MutableClock clock;
+    private TrendingCreatorBoard board;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2021-08-01T00:30:00Z"));
+        board = new TrendingCreatorBoard(redisTemplate, clock);
+    }
+
+    @Test
+    @DisplayName("기간 안에 받은 후원 포인트가 많은 순으로 창작자를 뽑는다.")
+    public void findTop() {
+        //when
+        board.record(CREATOR_A, 1000L);
+        board.record(CREATOR_B, 3000L);
+        board.record(CREATOR_A, 1000L);
+
+        //then
+        assertThat(board.findTop(TrendingPeriod.DAILY, 10)).containsExactly(CREATOR_B, CREATOR_A);
+        assertThat(board.findTop(TrendingPeriod.WEEKLY, 1)).containsExactly(CREATOR_B);
+    }
+
+    @Test
+    @DisplayName("시간이 지나 기간을 벗어난 후원은 순위에서 빠진다.")
+    public void slideWindow() {
+        //given
+        board.findTop(TrendingPeriod.DAILY, 10);
+        board.record(CREATOR_B, 3000L);
+        clock.plus(Duration.ofHours(12));
+        board.record(CREATOR_A, 1000L);
+
+        //when
+        clock.plus(Duration.ofHours(12));
+
+        //then
+        assertThat(board.findTop(TrendingPeriod.DAILY, 10)).containsExactly(CREATOR_A);
+        assertThat(board.findTop(TrendingPeriod.WEEKLY, 10)).containsExactly(CREATOR_B, CREATOR_A);
+
+        //when
+        clock.plus(Duration.ofHours(12));
+
+        //then
+        assertThat(board.findTop(TrendingPeriod.DAILY, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 시간을 여러 번 밀어내도 버킷은 한 번만 빠진다.")
+    public void advanceIdempotent() {
+        //given
+        board.advance();
+        board.record(CREATOR_A, 1000L);
+        clock.plus(Duration.ofHours(1));
+        board.record(CREATOR_A, 1000L);
+
+        //when
+        clock.plus(Duration.ofHours(22));
+        board.advance();
+        clock.plus(Duration.ofHours(1));
+        board.advance();
+        board.advance();
+
+        //then
+        assertThat(redisTemplate.opsForZSet().score("trending:window:daily", String.valueOf(CREATOR_A)))
+                .isEqualTo(1000.0);
+    }
+
+    @Test
+    @DisplayName("기간 전체가 지나도록 밀어내지 못했다면 시간 버킷으로 다시 계산한다.")
+    public void rebuildAfterLongGap() {
+        //given
+        board.advance();
+        board.record(CREATOR_A, 1000L);
+
+        //when
+        clock.plus(Duration.ofDays(3));
+        board.record(CREATOR_B, 2000L);
+
+        //then
+        assertThat(board.findTop(TrendingPeriod.DAILY, 10)).containsExactly(CREATOR_B);
+        assertThat(board.findTop(TrendingPeriod.WEEKLY, 10)).containsExactly(CREATOR_B, CREATOR_A);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plus(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
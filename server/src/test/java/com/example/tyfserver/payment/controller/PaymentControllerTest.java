@@ -1,5 +1,6 @@
 package com.example.tyfserver.payment.controller;
 
+import com.example.tyfserver.auth.config.AdminAuthenticationInterceptor;
 import com.example.tyfserver.auth.config.AuthenticationArgumentResolver;
 import com.example.tyfserver.auth.config.AuthenticationInterceptor;
 import com.example.tyfserver.auth.dto.LoginMember;
@@ -15,7 +16,10 @@ import com.example.tyfserver.payment.dto.*;
 import com.example.tyfserver.payment.exception.IllegalPaymentInfoException;
 import com.example.tyfserver.payment.exception.PaymentCompleteRequestException;
 import com.example.tyfserver.payment.exception.PaymentPendingRequestException;
+import com.example.tyfserver.payment.exception.PaymentWebhookBusyException;
+import com.example.tyfserver.payment.exception.PaymentWebhookRequestException;
 import com.example.tyfserver.payment.service.PaymentService;
+import com.example.tyfserver.payment.service.PaymentWebhookService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -56,10 +60,14 @@ public class PaymentControllerTest {
     @MockBean
     private PaymentService paymentService;
     @MockBean
+    private PaymentWebhookService paymentWebhookService;
+    @MockBean
     private AuthenticationService authenticationService;
     @MockBean
     private AuthenticationInterceptor authenticationInterceptor;
     @MockBean
+    private AdminAuthenticationInterceptor adminAuthenticationInterceptor;
+    @MockBean
     private AuthenticationArgumentResolver authenticationArgumentResolver;
 
     @Test
@@ -290,6 +298,66 @@ public class PaymentControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("/payments/webhook - success")
+    public void receiveWebhook() throws Exception {
+        //given
+        PaymentWebhookRequest request = new PaymentWebhookRequest(IMP_UID, MERCHANT_UID.toString(), "paid");
+
+        //when
+        doNothing().when(paymentWebhookService).receive(any(PaymentWebhookRequest.class));
+
+        //then
+        mockMvc.perform(post("/payments/webhook")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andDo(document("paymentWebhook",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
+
+    @Test
+    @DisplayName("/payments/webhook - 유효하지 않은 Request")
+    public void receiveWebhookRequestFailed() throws Exception {
+        //given
+        PaymentWebhookRequest request = new PaymentWebhookRequest(IMP_UID, "invalidMerchantUid", "paid");
+
+        //when //then
+        mockMvc.perform(post("/payments/webhook")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value(PaymentWebhookRequestException.ERROR_CODE))
+                .andDo(document("paymentWebhookRequestFailed",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
+
+    @Test
+    @DisplayName("/payments/webhook - 처리 대기 중인 웹훅이 많음")
+    public void receiveWebhookBusyFailed() throws Exception {
+        //given
+        PaymentWebhookRequest request = new PaymentWebhookRequest(IMP_UID, MERCHANT_UID.toString(), "paid");
+
+        //when
+        doThrow(new PaymentWebhookBusyException())
+                .when(paymentWebhookService).receive(any(PaymentWebhookRequest.class));
+
+        //then
+        mockMvc.perform(post("/payments/webhook")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value(PaymentWebhookBusyException.ERROR_CODE))
+                .andDo(document("paymentWebhookBusyFailed",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+        ;
+    }
+
     @Test
     @DisplayName("/payments/refund/verification/ready - success")
     public void refundVerificationReady() throws Exception {
@@ -16,6 +16,7 @@ import java.util.stream.Stream;
 
 import static com.example.tyfserver.payment.exception.IllegalPaymentInfoException.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.ParameterizedTest.DISPLAY_NAME_PLACEHOLDER;
 
@@ -41,20 +42,6 @@ public class PaymentTest {
         return payment;
     }
 
-    @Test
-    @DisplayName("결제 정보 유효성 검사 통과 시, 결제가 완료된다.")
-    void testComplete() {
-        //given
-        PaymentInfo paymentInfo = new PaymentInfo(MERCHANT_UID, PaymentStatus.PAID, AMOUNT, ITEM_NAME, IMP_UID, MODULE);
-        Payment payment = testPayment();
-
-        //when
-        payment.complete(paymentInfo);
-
-        //then
-        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
-    }
-
     @DisplayName("결제 정보의 상태가 PAID가 아니라면 저장된 결제 데이터의 상태를 결제 정보의 상태로 동기화 시키고 결제 실패한다.")
     @ParameterizedTest(name = DISPLAY_NAME_PLACEHOLDER)
     @MethodSource("testCompleteNotPaid_source")
@@ -65,7 +52,7 @@ public class PaymentTest {
 
         //when
         //then
-        assertThatThrownBy(() -> payment.complete(paymentInfo))
+        assertThatThrownBy(() -> payment.validatePaymentComplete(paymentInfo))
                 .isExactlyInstanceOf(IllegalPaymentInfoException.class)
                 .extracting(ERROR_CODE).isEqualTo(ERROR_CODE_NOT_PAID);
 
@@ -91,7 +78,7 @@ public class PaymentTest {
 
         //when
         //then
-        assertThatThrownBy(() -> payment.complete(paymentInfo))
+        assertThatThrownBy(() -> payment.validatePaymentComplete(paymentInfo))
                 .isExactlyInstanceOf(IllegalPaymentInfoException.class)
                 .extracting(ERROR_CODE).isEqualTo(ERROR_CODE_INVALID_MERCHANT_UID);
 
@@ -107,7 +94,7 @@ public class PaymentTest {
 
         //when
         //then
-        assertThatThrownBy(() -> payment.complete(paymentInfo))
+        assertThatThrownBy(() -> payment.validatePaymentComplete(paymentInfo))
                 .isExactlyInstanceOf(IllegalPaymentInfoException.class)
                 .extracting(ERROR_CODE).isEqualTo(ERROR_CODE_INVALID_AMOUNT);
 
@@ -123,7 +110,7 @@ public class PaymentTest {
 
         //when
         //then
-        assertThatThrownBy(() -> payment.complete(paymentInfo))
+        assertThatThrownBy(() -> payment.validatePaymentComplete(paymentInfo))
                 .isExactlyInstanceOf(IllegalPaymentInfoException.class)
                 .extracting(ERROR_CODE).isEqualTo(ERROR_CODE_INVALID_CREATOR);
 
@@ -131,17 +118,16 @@ public class PaymentTest {
     }
 
     @Test
-    @DisplayName("결제 정보 환불 유효성 검사 통과 시, 결제가 환불된다.")
+    @DisplayName("결제 정보의 상태가 CANCELLED이고 결제 데이터와 일치하면 환불 유효성 검사를 통과한다.")
     void testCancel() {
         //given
         PaymentInfo paymentInfo = new PaymentInfo(MERCHANT_UID, PaymentStatus.CANCELLED, AMOUNT, ITEM_NAME, IMP_UID, MODULE);
         Payment payment = testPayment();
 
         //when
-        payment.refund(paymentInfo);
-
         //then
-        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        assertThatCode(() -> payment.validatePaymentCancel(paymentInfo))
+                .doesNotThrowAnyException();
     }
 
     @DisplayName("결제 정보의 상태가 CANCELLED가 아니라면 저장된 결제 데이터의 상태를 결제 정보의 상태로 동기화 시키고 환불 실패한다.")
@@ -154,7 +140,7 @@ public class PaymentTest {
 
         //when
         //then
-        assertThatThrownBy(() -> payment.refund(paymentInfo))
+        assertThatThrownBy(() -> payment.validatePaymentCancel(paymentInfo))
                 .isExactlyInstanceOf(IllegalPaymentInfoException.class);
 
         assertThat(payment.getStatus()).isEqualTo(status);
@@ -0,0 +1,164 @@
+package com.example.tyfserver.payment.repository;
+
+import com.example.tyfserver.DatabaseCleanup;
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import com.example.tyfserver.payment.util.TimeOrderedUUIDGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수백만 건의 payment 에서 merchantUid 로 조회하는 시간을 유니크 인덱스가 있을 때와 없을 때로 비교하고,
+ * 무작위 v4 와 시간순 v7 키를 인덱스에 넣는 시간도 함께 잰다.
+ * 오래 걸리므로 PAYMENT_BENCHMARK=true 일 때만 돈다. 건수는 PAYMENT_BENCHMARK_ROWS 로 바꿀 수 있다.
+ * ex) PAYMENT_BENCHMARK=true PAYMENT_BENCHMARK_ROWS=3000000 ./gradlew test --tests '*PaymentLookupBenchmarkTest'
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "PAYMENT_BENCHMARK", matches = "true")
+class PaymentLookupBenchmarkTest {
+
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int SAMPLE_SIZE = 1_000;
+    private static final int SCAN_SAMPLE_SIZE = 20;
+
+    private final Logger logger = LoggerFactory.getLogger(PaymentLookupBenchmarkTest.class);
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS merchant_uid_benchmark");
+        databaseCleanup.cleanUp();
+    }
+
+    @Test
+    @DisplayName("merchantUid 조회는 유니크 인덱스를 타서 전체 스캔보다 빠르다.")
+    public void lookupByMerchantUid() {
+        //given
+        int rows = rows();
+        List<UUID> samples = loadPayments(rows);
+        lookupNanos(samples.subList(0, 100));
+
+        //when
+        double indexedMicros = lookupNanos(samples) / 1_000.0;
+        // ddl-auto 가 유니크 제약으로 만들든 인덱스로 만들든 모두 지운다.
+        jdbcTemplate.execute("ALTER TABLE payment DROP CONSTRAINT IF EXISTS UK_payment_merchant_uid");
+        jdbcTemplate.execute("DROP INDEX IF EXISTS UK_payment_merchant_uid");
+        double scanMicros;
+        try {
+            scanMicros = lookupNanos(samples.subList(0, SCAN_SAMPLE_SIZE)) / 1_000.0;
+        } finally {
+            jdbcTemplate.execute("CREATE UNIQUE INDEX UK_payment_merchant_uid ON payment (merchant_uid)");
+        }
+
+        //then
+        logger.info("=== PAYMENT LOOKUP BENCHMARK === rows: {}, indexed: {}us/lookup, table scan: {}us/lookup",
+                rows, String.format("%.1f", indexedMicros), String.format("%.1f", scanMicros));
+        assertThat(indexedMicros).isLessThan(scanMicros);
+    }
+
+    @Test
+    @DisplayName("시간순 v7 키는 무작위 v4 키보다 유니크 인덱스에 빨리 쌓인다.")
+    public void insertTimeOrderedKeys() {
+        //given
+        int rows = rows();
+
+        //when
+        long randomMillis = insertKeys(rows, UUID::randomUUID);
+        long timeOrderedMillis = insertKeys(rows, TimeOrderedUUIDGenerator::generate);
+
+        //then
+        logger.info("=== MERCHANT UID INSERT BENCHMARK === rows: {}, v4: {}ms, v7: {}ms",
+                rows, randomMillis, timeOrderedMillis);
+    }
+
+    private List<UUID> loadPayments(int rows) {
+        List<UUID> samples = new ArrayList<>(SAMPLE_SIZE);
+        int sampleEvery = Math.max(1, rows / SAMPLE_SIZE);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+
+        for (int i = 0; i < rows; i++) {
+            UUID merchantUid = TimeOrderedUUIDGenerator.generate();
+            if (i % sampleEvery == 0 && samples.size() < SAMPLE_SIZE) {
+                samples.add(merchantUid);
+            }
+            batch.add(new Object[]{createdAt, 10_000L, "10000포인트 충전", toBytes(merchantUid),
+                    PaymentStatus.PAID.name()});
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                insertPayments(batch);
+            }
+        }
+        insertPayments(batch);
+        return samples;
+    }
+
+    private void insertPayments(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO payment (created_at, amount, item_name, merchant_uid, status) " +
+                "VALUES (?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    private long lookupNanos(List<UUID> merchantUids) {
+        long start = System.nanoTime();
+        for (UUID merchantUid : merchantUids) {
+            assertThat(paymentRepository.findByMerchantUid(merchantUid)).isPresent();
+        }
+        return (System.nanoTime() - start) / merchantUids.size();
+    }
+
+    private long insertKeys(int rows, Supplier<UUID> keys) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS merchant_uid_benchmark");
+        jdbcTemplate.execute("CREATE TABLE merchant_uid_benchmark (merchant_uid binary(16) NOT NULL, " +
+                "CONSTRAINT UK_merchant_uid_benchmark UNIQUE (merchant_uid))");
+
+        long start = System.nanoTime();
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[]{toBytes(keys.get())});
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate("INSERT INTO merchant_uid_benchmark (merchant_uid) VALUES (?)", batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO merchant_uid_benchmark (merchant_uid) VALUES (?)", batch);
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private int rows() {
+        String rows = System.getenv("PAYMENT_BENCHMARK_ROWS");
+        return rows == null ? 2_000_000 : Integer.parseInt(rows);
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.tyfserver.payment.repository;
 
 import com.example.tyfserver.payment.domain.Item;
 import com.example.tyfserver.payment.domain.Payment;
+import com.example.tyfserver.payment.domain.PaymentStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,4 +36,31 @@ class PaymentRepositoryTest {
         //then
         assertThat(payment.getId()).isEqualTo(payment.getId());
     }
+
+    @Test
+    @DisplayName("PENDING 상태인 결제만 PAID 로 바꾼다.")
+    public void updateStatusIfPending() {
+        //when
+        int updated = paymentRepository.updateStatusIfPending(uuid, "imp_uid", PaymentStatus.PENDING, PaymentStatus.PAID);
+
+        //then
+        Payment payment = paymentRepository.findByMerchantUid(uuid).get();
+        assertThat(updated).isEqualTo(1);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(payment.getImpUid()).isEqualTo("imp_uid");
+    }
+
+    @Test
+    @DisplayName("이미 PAID 인 결제는 바꾸지 않는다.")
+    public void updateStatusIfPendingAlreadyPaid() {
+        //given
+        paymentRepository.updateStatusIfPending(uuid, "imp_uid", PaymentStatus.PENDING, PaymentStatus.PAID);
+
+        //when
+        int updated = paymentRepository.updateStatusIfPending(uuid, "other_imp_uid", PaymentStatus.PENDING, PaymentStatus.PAID);
+
+        //then
+        assertThat(updated).isZero();
+        assertThat(paymentRepository.findByMerchantUid(uuid).get().getImpUid()).isEqualTo("imp_uid");
+    }
 }
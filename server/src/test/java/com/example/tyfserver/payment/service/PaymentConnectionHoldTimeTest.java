@@ -0,0 +1,176 @@
+package com.example.tyfserver.payment.service;
+
+import com.example.tyfserver.DatabaseCleanup;
+import com.example.tyfserver.auth.dto.LoginMember;
+import com.example.tyfserver.auth.dto.VerifiedRefunder;
+import com.example.tyfserver.common.util.SmtpMailConnector;
+import com.example.tyfserver.member.domain.Account;
+import com.example.tyfserver.member.domain.AccountStatus;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.MemberTest;
+import com.example.tyfserver.member.dto.AccountRegisterRequest;
+import com.example.tyfserver.member.repository.AccountRepository;
+import com.example.tyfserver.member.repository.MemberRepository;
+import com.example.tyfserver.member.service.MemberService;
+import com.example.tyfserver.payment.domain.AccountInfo;
+import com.example.tyfserver.payment.domain.Item;
+import com.example.tyfserver.payment.domain.Payment;
+import com.example.tyfserver.payment.domain.PaymentInfo;
+import com.example.tyfserver.payment.domain.PaymentServiceConnector;
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import com.example.tyfserver.payment.dto.PaymentCompleteRequest;
+import com.example.tyfserver.payment.repository.PaymentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 외부 결제모듈 응답을 기다리는 동안 DB 커넥션을 잡고 있지 않는지 hikaricp.connections.usage 로 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PaymentConnectionHoldTimeTest {
+
+    private static final long REMOTE_LATENCY_MILLIS = 500L;
+    private static final long AMOUNT = Item.ITEM_1.getItemPrice();
+    private static final String ITEM_NAME = Item.ITEM_1.getItemName();
+    private static final String MODULE = "테스트모듈";
+
+    @Autowired
+    private PaymentService paymentService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @MockBean
+    private PaymentServiceConnector paymentServiceConnector;
+    @MockBean
+    private SmtpMailConnector smtpMailConnector;
+
+    private Member member;
+    private UUID merchantUid;
+
+    @BeforeEach
+    void setUp() {
+        member = MemberTest.testMemberWithAvailablePoint(100_000L);
+        member.addInitialAccount(accountRepository.save(new Account()));
+        member = memberRepository.save(member);
+        merchantUid = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.cleanUp();
+    }
+
+    @Test
+    @DisplayName("결제 승인 중 결제모듈 응답을 기다리는 동안에는 커넥션을 잡고 있지 않는다.")
+    public void completePayment() {
+        //given
+        savePayment(PaymentStatus.PENDING);
+        PaymentInfo paymentInfo = new PaymentInfo(merchantUid, PaymentStatus.PAID, AMOUNT, ITEM_NAME, "imp_uid", MODULE);
+        when(paymentServiceConnector.requestPaymentInfo(Mockito.any(UUID.class)))
+                .thenAnswer(invocation -> delayed(paymentInfo));
+
+        //when
+        HoldTime holdTime = measure(() ->
+                paymentService.completePayment(new PaymentCompleteRequest("imp_uid", merchantUid.toString())));
+
+        //then
+        assertThat(paymentRepository.findByMerchantUid(merchantUid).get().getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(holdTime.usages).isPositive();
+        assertThat(holdTime.totalMillis).isLessThan(REMOTE_LATENCY_MILLIS);
+    }
+
+    @Test
+    @DisplayName("환불 중 결제모듈 응답을 기다리는 동안에는 커넥션을 잡고 있지 않는다.")
+    public void refundPayment() {
+        //given
+        savePayment(PaymentStatus.PAID);
+        PaymentInfo refundInfo = new PaymentInfo(merchantUid, PaymentStatus.CANCELLED, AMOUNT, ITEM_NAME, "imp_uid", MODULE);
+        when(paymentServiceConnector.requestPaymentRefund(Mockito.any(UUID.class)))
+                .thenAnswer(invocation -> delayed(refundInfo));
+
+        //when
+        HoldTime holdTime = measure(() -> paymentService.refundPayment(new VerifiedRefunder(merchantUid.toString())));
+
+        //then
+        assertThat(paymentRepository.findByMerchantUid(merchantUid).get().getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        assertThat(holdTime.usages).isPositive();
+        assertThat(holdTime.totalMillis).isLessThan(REMOTE_LATENCY_MILLIS);
+    }
+
+    @Test
+    @DisplayName("계좌 등록 중 예금주 조회를 기다리는 동안에는 커넥션을 잡고 있지 않는다.")
+    public void registerAccount() {
+        //given
+        AccountRegisterRequest request = new AccountRegisterRequest("예금주", "1234-5678-1234", "900101-1000000", "081");
+        when(paymentServiceConnector.requestHolderNameOfAccount("081", "1234-5678-1234"))
+                .thenAnswer(invocation -> delayed(new AccountInfo(0, null, new AccountInfo.Response("예금주"))));
+
+        //when
+        HoldTime holdTime = measure(() ->
+                memberService.registerAccount(new LoginMember(member.getId(), member.getEmail()), request));
+
+        //then
+        Account account = accountRepository.findById(member.getAccount().getId()).get();
+        assertThat(account.getStatus()).isEqualTo(AccountStatus.REQUESTING);
+        assertThat(holdTime.usages).isPositive();
+        assertThat(holdTime.totalMillis).isLessThan(REMOTE_LATENCY_MILLIS);
+    }
+
+    private void savePayment(PaymentStatus status) {
+        Payment payment = new Payment(AMOUNT, ITEM_NAME, merchantUid);
+        member.addPayment(payment);
+        payment.updateStatus(status);
+        paymentRepository.save(payment);
+    }
+
+    private <T> T delayed(T result) throws InterruptedException {
+        Thread.sleep(REMOTE_LATENCY_MILLIS);
+        return result;
+    }
+
+    private HoldTime measure(Runnable runnable) {
+        Timer usage = meterRegistry.get("hikaricp.connections.usage").timer();
+        long countBefore = usage.count();
+        double totalBefore = usage.totalTime(TimeUnit.MILLISECONDS);
+
+        runnable.run();
+
+        return new HoldTime(usage.count() - countBefore, usage.totalTime(TimeUnit.MILLISECONDS) - totalBefore);
+    }
+
+    private static class HoldTime {
+        private final long usages;
+        private final double totalMillis;
+
+        HoldTime(long usages, double totalMillis) {
+            this.usages = usages;
+            this.totalMillis = totalMillis;
+        }
+    }
+}
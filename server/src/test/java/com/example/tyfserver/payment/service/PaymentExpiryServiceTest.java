@@ -0,0 +1,129 @@
+package com.example.tyfserver.payment.service;
+
+import com.example.tyfserver.DatabaseCleanup;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.MemberTest;
+import com.example.tyfserver.member.repository.MemberRepository;
+import com.example.tyfserver.payment.config.PaymentExpiryProperties;
+import com.example.tyfserver.payment.domain.Item;
+import com.example.tyfserver.payment.domain.Payment;
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import com.example.tyfserver.payment.repository.PaymentExpiryRepository;
+import com.example.tyfserver.payment.repository.PaymentRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PaymentExpiryServiceTest {
+
+    private static final long AMOUNT = Item.ITEM_1.getItemPrice();
+    private static final String ITEM_NAME = Item.ITEM_1.getItemName();
+    private static final int BATCH_SIZE = 2;
+
+    @Autowired
+    private PaymentExpiryRepository paymentExpiryRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        member = memberRepository.save(MemberTest.testMember());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.cleanUp();
+    }
+
+    @Test
+    @DisplayName("만료 기간이 지난 PENDING 결제만 만료시켜 보관 테이블로 옮긴다.")
+    public void sweep() {
+        //given
+        List<UUID> abandoned = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            abandoned.add(savePayment(PaymentStatus.PENDING, LocalDateTime.now().minusDays(10 + i)));
+        }
+        UUID recent = savePayment(PaymentStatus.PENDING, LocalDateTime.now().minusDays(1));
+        UUID paid = savePayment(PaymentStatus.PAID, LocalDateTime.now().minusDays(30));
+
+        //when
+        long swept = sweeper(10).sweep();
+
+        //then
+        assertThat(swept).isEqualTo(5);
+        assertThat(abandoned).allSatisfy(merchantUid ->
+                assertThat(paymentRepository.findByMerchantUid(merchantUid)).isEmpty());
+        assertThat(paymentRepository.findStatusByMerchantUid(recent)).contains(PaymentStatus.PENDING);
+        assertThat(paymentRepository.findStatusByMerchantUid(paid)).contains(PaymentStatus.PAID);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM payment_archive WHERE status = 'EXPIRED'", Long.class)).isEqualTo(5);
+
+        DistributionSummary sweptPerRun = meterRegistry.get("payment.expiry.swept").summary();
+        assertThat(sweptPerRun.count()).isEqualTo(1);
+        assertThat(sweptPerRun.totalAmount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("한 번 실행할 때 정해진 배치 수만큼만 처리하고 가장 오래된 결제부터 옮긴다.")
+    public void sweepBoundedBatches() {
+        //given
+        UUID oldest = savePayment(PaymentStatus.PENDING, LocalDateTime.now().minusDays(30));
+        UUID older = savePayment(PaymentStatus.PENDING, LocalDateTime.now().minusDays(20));
+        UUID old = savePayment(PaymentStatus.PENDING, LocalDateTime.now().minusDays(10));
+
+        //when
+        long swept = sweeper(1).sweep();
+
+        //then
+        assertThat(swept).isEqualTo(BATCH_SIZE);
+        assertThat(paymentRepository.findByMerchantUid(oldest)).isEmpty();
+        assertThat(paymentRepository.findByMerchantUid(older)).isEmpty();
+        assertThat(paymentRepository.findStatusByMerchantUid(old)).contains(PaymentStatus.PENDING);
+    }
+
+    private PaymentExpiryService sweeper(int maxBatches) {
+        PaymentExpiryProperties properties = new PaymentExpiryProperties(Duration.ofDays(7), BATCH_SIZE, maxBatches);
+        return new PaymentExpiryService(paymentExpiryRepository, transactionTemplate, properties, meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    private UUID savePayment(PaymentStatus status, LocalDateTime createdAt) {
+        UUID merchantUid = UUID.randomUUID();
+        Payment payment = new Payment(null, AMOUNT, ITEM_NAME, null, merchantUid, createdAt);
+        member.addPayment(payment);
+        payment.updateStatus(status);
+        paymentRepository.save(payment);
+        return merchantUid;
+    }
+}
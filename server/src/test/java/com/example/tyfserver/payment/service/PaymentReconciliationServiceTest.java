@@ -0,0 +1,236 @@
+package com.example.tyfserver.payment.service;
+
+import com.example.tyfserver.DatabaseCleanup;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.MemberTest;
+import com.example.tyfserver.member.repository.MemberRepository;
+import com.example.tyfserver.payment.config.PaymentReconciliationProperties;
+import com.example.tyfserver.payment.domain.Item;
+import com.example.tyfserver.payment.domain.Payment;
+import com.example.tyfserver.payment.domain.PaymentInfo;
+import com.example.tyfserver.payment.domain.PaymentServiceConnector;
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import com.example.tyfserver.payment.dto.PaymentReconciliationReport;
+import com.example.tyfserver.payment.dto.PaymentReconciliationReport.Result;
+import com.example.tyfserver.payment.exception.PaymentServiceUnavailableException;
+import com.example.tyfserver.payment.repository.PaymentReconciliationRepository;
+import com.example.tyfserver.payment.repository.PaymentRepository;
+import com.example.tyfserver.payment.util.TaxIncludedCalculator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PaymentReconciliationServiceTest {
+
+    private static final long AMOUNT = Item.ITEM_1.getItemPrice();
+    private static final String ITEM_NAME = Item.ITEM_1.getItemName();
+    private static final String MODULE = "테스트모듈";
+    private static final int CHUNK_SIZE = 2;
+    private static final int CONCURRENCY = 2;
+
+    @Autowired
+    private PaymentReconciliationRepository paymentReconciliationRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @MockBean
+    private PaymentServiceConnector paymentServiceConnector;
+
+    private ExecutorService executorService;
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentReconciliationService paymentReconciliationService;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(CONCURRENCY);
+        meterRegistry = new SimpleMeterRegistry();
+        PaymentReconciliationProperties properties = new PaymentReconciliationProperties(
+                Arrays.asList(PaymentStatus.PENDING, PaymentStatus.PAID),
+                Duration.ofDays(7), Duration.ofMinutes(30), CHUNK_SIZE, CONCURRENCY);
+        paymentReconciliationService = new PaymentReconciliationService(paymentReconciliationRepository,
+                paymentServiceConnector, transactionTemplate, executorService, properties, meterRegistry,
+                Clock.systemDefaultZone());
+
+        member = memberRepository.save(MemberTest.testMember());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        databaseCleanup.cleanUp();
+    }
+
+    @Test
+    @DisplayName("결제모듈과 상태가 다른 결제건을 찾아 보정하고 결과를 집계한다.")
+    public void reconcile() {
+        //given
+        UUID completed = savePayment(PaymentStatus.PENDING);
+        UUID cancelled = savePayment(PaymentStatus.PENDING);
+        UUID tampered = savePayment(PaymentStatus.PENDING);
+        UUID matched = savePayment(PaymentStatus.PAID);
+        UUID refundedOutside = savePayment(PaymentStatus.PAID);
+        UUID lookupFailed = savePayment(PaymentStatus.PENDING);
+        UUID notFound = savePayment(PaymentStatus.PENDING);
+
+        respond(completed, PaymentStatus.PAID, AMOUNT);
+        respond(cancelled, PaymentStatus.CANCELLED, AMOUNT);
+        respond(tampered, PaymentStatus.PAID, 100L);
+        respond(matched, PaymentStatus.PAID, AMOUNT);
+        respond(refundedOutside, PaymentStatus.CANCELLED, AMOUNT);
+        when(paymentServiceConnector.requestPaymentInfo(lookupFailed)).thenThrow(new IllegalStateException("timeout"));
+        when(paymentServiceConnector.requestPaymentInfo(notFound))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY,
+                        new byte[0], StandardCharsets.UTF_8));
+
+        //when
+        PaymentReconciliationReport report = paymentReconciliationService.reconcile();
+
+        //then
+        assertThat(report.getScanned()).isEqualTo(7);
+        assertThat(report.isAborted()).isFalse();
+        assertThat(report.count(Result.COMPLETED)).isEqualTo(1);
+        assertThat(report.count(Result.CORRECTED)).isEqualTo(1);
+        assertThat(report.count(Result.INVALID)).isEqualTo(1);
+        assertThat(report.count(Result.MATCHED)).isEqualTo(1);
+        assertThat(report.count(Result.UNRESOLVED)).isEqualTo(1);
+        assertThat(report.count(Result.FAILED)).isEqualTo(1);
+        assertThat(report.count(Result.NOT_FOUND)).isEqualTo(1);
+
+        assertThat(statusOf(completed)).isEqualTo(PaymentStatus.PAID);
+        assertThat(paymentRepository.findByMerchantUid(completed).get().getImpUid()).isEqualTo("imp_" + completed);
+        assertThat(statusOf(cancelled)).isEqualTo(PaymentStatus.CANCELLED);
+        assertThat(statusOf(tampered)).isEqualTo(PaymentStatus.INVALID);
+        assertThat(statusOf(refundedOutside)).isEqualTo(PaymentStatus.PAID);
+        assertThat(statusOf(lookupFailed)).isEqualTo(PaymentStatus.PENDING);
+        assertThat(statusOf(notFound)).isEqualTo(PaymentStatus.PENDING);
+        assertThat(memberRepository.findById(member.getId()).get().getPoint())
+                .isEqualTo(TaxIncludedCalculator.detachTax(AMOUNT));
+        assertThat(meterRegistry.counter("payment.reconciliation", "result", "completed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대사 기간을 벗어났거나 아직 진행 중일 수 있는 결제건은 조회하지 않는다.")
+    public void skipOutOfWindow() {
+        //given
+        UUID tooOld = savePaymentCreatedAt(LocalDateTime.now().minusDays(30));
+        UUID inProgress = savePaymentCreatedAt(LocalDateTime.now().minusMinutes(1));
+
+        //when
+        PaymentReconciliationReport report = paymentReconciliationService.reconcile();
+
+        //then
+        assertThat(report.getScanned()).isZero();
+        verify(paymentServiceConnector, never()).requestPaymentInfo(tooOld);
+        verify(paymentServiceConnector, never()).requestPaymentInfo(inProgress);
+    }
+
+    @Test
+    @DisplayName("결제모듈 조회는 정해진 동시 호출 수를 넘지 않는다.")
+    public void boundedConcurrency() {
+        //given
+        int paymentCount = 9;
+        for (int i = 0; i < paymentCount; i++) {
+            savePayment(PaymentStatus.PENDING);
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(paymentServiceConnector.requestPaymentInfo(Mockito.any(UUID.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            UUID merchantUid = invocation.getArgument(0);
+            return new PaymentInfo(merchantUid, PaymentStatus.PAID, AMOUNT, ITEM_NAME, "imp_" + merchantUid, MODULE);
+        });
+
+        //when
+        PaymentReconciliationReport report = paymentReconciliationService.reconcile();
+
+        //then
+        assertThat(report.getScanned()).isEqualTo(paymentCount);
+        assertThat(report.count(Result.COMPLETED)).isEqualTo(paymentCount);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(CONCURRENCY);
+        assertThat(memberRepository.findById(member.getId()).get().getPoint())
+                .isEqualTo(TaxIncludedCalculator.detachTax(AMOUNT) * paymentCount);
+    }
+
+    @Test
+    @DisplayName("결제모듈을 쓸 수 없으면 남은 결제건은 다음 실행으로 넘기고 멈춘다.")
+    public void abortWhenUnavailable() {
+        //given
+        for (int i = 0; i < CHUNK_SIZE * 3; i++) {
+            savePayment(PaymentStatus.PENDING);
+        }
+        when(paymentServiceConnector.requestPaymentInfo(Mockito.any(UUID.class)))
+                .thenThrow(new PaymentServiceUnavailableException());
+
+        //when
+        PaymentReconciliationReport report = paymentReconciliationService.reconcile();
+
+        //then
+        assertThat(report.isAborted()).isTrue();
+        assertThat(report.getScanned()).isEqualTo(CHUNK_SIZE);
+        verify(paymentServiceConnector, times(CHUNK_SIZE)).requestPaymentInfo(Mockito.any(UUID.class));
+    }
+
+    private UUID savePayment(PaymentStatus status) {
+        return savePayment(status, LocalDateTime.now().minusDays(1));
+    }
+
+    private UUID savePaymentCreatedAt(LocalDateTime createdAt) {
+        return savePayment(PaymentStatus.PENDING, createdAt);
+    }
+
+    private UUID savePayment(PaymentStatus status, LocalDateTime createdAt) {
+        UUID merchantUid = UUID.randomUUID();
+        Payment payment = new Payment(null, AMOUNT, ITEM_NAME, null, merchantUid, createdAt);
+        member.addPayment(payment);
+        payment.updateStatus(status);
+        paymentRepository.save(payment);
+        return merchantUid;
+    }
+
+    private void respond(UUID merchantUid, PaymentStatus status, long amount) {
+        when(paymentServiceConnector.requestPaymentInfo(merchantUid))
+                .thenReturn(new PaymentInfo(merchantUid, status, amount, ITEM_NAME, "imp_" + merchantUid, MODULE));
+    }
+
+    private PaymentStatus statusOf(UUID merchantUid) {
+        return paymentRepository.findStatusByMerchantUid(merchantUid).get();
+    }
+}
@@ -6,7 +6,10 @@ import com.example.tyfserver.auth.dto.LoginMember;
 import com.example.tyfserver.auth.dto.VerifiedRefunder;
 import com.example.tyfserver.auth.repository.CodeResendCoolTimeRepository;
 import com.example.tyfserver.auth.repository.VerificationCodeRepository;
+import com.example.tyfserver.auth.exception.VerificationFailedException;
 import com.example.tyfserver.auth.service.AuthenticationService;
+import com.example.tyfserver.common.config.RateLimitProperties;
+import com.example.tyfserver.common.util.AttemptLimiter;
 import com.example.tyfserver.common.util.SmtpMailConnector;
 import com.example.tyfserver.member.domain.Member;
 import com.example.tyfserver.member.domain.MemberTest;
@@ -15,14 +18,21 @@ import com.example.tyfserver.payment.domain.*;
 import com.example.tyfserver.payment.dto.*;
 import com.example.tyfserver.payment.exception.CannotRefundException;
 import com.example.tyfserver.payment.exception.IllegalPaymentInfoException;
+import com.example.tyfserver.payment.exception.PaymentAlreadyCancelledException;
+import com.example.tyfserver.payment.exception.RefundVerificationBlockedException;
 import com.example.tyfserver.payment.repository.PaymentRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import supports.SliceTest;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +40,8 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @SliceTest
@@ -64,6 +76,21 @@ class PaymentServiceTest {
     @Mock
     private SmtpMailConnector smtpMailConnector;
 
+    @Mock
+    private AttemptLimiter attemptLimiter;
+
+    @Mock
+    private RefundFailureRecorder refundFailureRecorder;
+
+    @Mock
+    private RateLimitProperties rateLimitProperties;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private PaymentService paymentService;
 
@@ -110,6 +137,9 @@ class PaymentServiceTest {
         when(paymentRepository.findByMerchantUid(Mockito.any(UUID.class)))
                 .thenReturn(Optional.of(payment));
 
+        when(paymentRepository.updateStatusIfPending(MERCHANT_UID, IMP_UID, PaymentStatus.PENDING, PaymentStatus.PAID))
+                .thenReturn(1);
+
         doNothing().when(smtpMailConnector).sendChargeComplete(Mockito.any(Payment.class));
 
         //when
@@ -119,6 +149,51 @@ class PaymentServiceTest {
         assertThat(paymentCompleteResponse.getPoint()).isEqualTo(AMOUNT);
     }
 
+    @DisplayName("다른 요청이 먼저 승인해 바뀐 행이 없으면 포인트를 적립하지 않는다")
+    @Test
+    void completePaymentAlreadyPaidByOtherRequest() {
+        //given
+        PaymentCompleteRequest request = new PaymentCompleteRequest(IMP_UID, MERCHANT_UID.toString());
+        when(paymentServiceConnector.requestPaymentInfo(Mockito.any(UUID.class)))
+                .thenReturn(
+                        new PaymentInfo(MERCHANT_UID, PaymentStatus.PAID, AMOUNT, ITEM_NAME, request.getImpUid(), MODULE)
+                );
+
+        Payment payment = new Payment(AMOUNT, ITEM_NAME, MERCHANT_UID);
+        payment.to(MemberTest.testMember());
+        when(paymentRepository.findByMerchantUid(Mockito.any(UUID.class)))
+                .thenReturn(Optional.of(payment));
+
+        when(paymentRepository.updateStatusIfPending(MERCHANT_UID, IMP_UID, PaymentStatus.PENDING, PaymentStatus.PAID))
+                .thenReturn(0);
+
+        //when
+        PaymentCompleteResponse paymentCompleteResponse = paymentService.completePayment(request);
+
+        //then
+        assertThat(paymentCompleteResponse.getPoint()).isEqualTo(AMOUNT);
+        verify(memberRepository, Mockito.never()).increasePoint(Mockito.any(), Mockito.anyLong());
+        verifyNoInteractions(smtpMailConnector);
+    }
+
+    @DisplayName("이미 승인된 결제건은 결제모듈에 다시 조회하지 않는다")
+    @Test
+    void completeAlreadyPaidPayment() {
+        //given
+        PaymentCompleteRequest request = new PaymentCompleteRequest(IMP_UID, MERCHANT_UID.toString());
+        Payment payment = new Payment(AMOUNT, ITEM_NAME, MERCHANT_UID);
+        payment.updateStatus(PaymentStatus.PAID);
+        when(paymentRepository.findByMerchantUid(Mockito.any(UUID.class)))
+                .thenReturn(Optional.of(payment));
+
+        //when
+        PaymentCompleteResponse paymentCompleteResponse = paymentService.completePayment(request);
+
+        //then
+        assertThat(paymentCompleteResponse.getPoint()).isEqualTo(AMOUNT);
+        Mockito.verifyNoInteractions(paymentServiceConnector, smtpMailConnector);
+    }
+
     @DisplayName("결제상태가 지불(PAID)이 아닌 결제정보가 전달되면 승인이 실패 한다")
     @Test
     void failCompletePaymentNotPaid() {
@@ -211,7 +286,7 @@ class PaymentServiceTest {
         payment.updateStatus(PaymentStatus.PAID);
 
         // when
-        when(paymentRepository.findByMerchantUid(Mockito.any(UUID.class)))
+        when(paymentRepository.findByMerchantUidWithRefundFailure(Mockito.any(UUID.class)))
                 .thenReturn(
                         Optional.of(payment));
 
@@ -246,7 +321,7 @@ class PaymentServiceTest {
         payment.updateStatus(PaymentStatus.CANCELLED);
 
         // when
-        when(paymentRepository.findByMerchantUid(Mockito.any(UUID.class)))
+        when(paymentRepository.findByMerchantUidWithRefundFailure(Mockito.any(UUID.class)))
                 .thenReturn(
                         Optional.of(payment));
 
@@ -280,6 +355,101 @@ class PaymentServiceTest {
         assertThat(response.getRefundAccessToken()).isEqualTo(refundAccessToken);
     }
 
+    @DisplayName("인증번호가 틀리면 남은 시도 횟수를 응답하고 실패 이력은 따로 기록한다")
+    @Test
+    void refundVerificationFailed() {
+        // given
+        RefundVerificationRequest request = new RefundVerificationRequest(MERCHANT_UID.toString(), "000000");
+
+        // when
+        when(paymentRepository.findByMerchantUidWithRefundFailure(Mockito.any(UUID.class)))
+                .thenReturn(
+                        Optional.of(new Payment(AMOUNT, ITEM_NAME, MERCHANT_UID)));
+
+        when(verificationCodeRepository.findById(Mockito.anyString()))
+                .thenReturn(
+                        Optional.of(new VerificationCode(MERCHANT_UID.toString(), "123456")));
+
+        when(attemptLimiter.attempt(Mockito.anyString(), Mockito.any()))
+                .thenReturn(9L);
+
+        // then
+        assertThatThrownBy(() -> paymentService.refundVerification(request))
+                .isExactlyInstanceOf(VerificationFailedException.class)
+                .extracting("remainTryCount").isEqualTo(9);
+        verify(refundFailureRecorder).record(MERCHANT_UID, 9);
+    }
+
+    @DisplayName("인증 시도 횟수를 모두 쓰면 더 이상 인증번호를 확인하지 않는다")
+    @Test
+    void refundVerificationBlocked() {
+        // given
+        RefundVerificationRequest request = new RefundVerificationRequest(MERCHANT_UID.toString(), "123456");
+
+        // when
+        when(paymentRepository.findByMerchantUidWithRefundFailure(Mockito.any(UUID.class)))
+                .thenReturn(
+                        Optional.of(new Payment(AMOUNT, ITEM_NAME, MERCHANT_UID)));
+
+        when(attemptLimiter.isBlocked(Mockito.anyString()))
+                .thenReturn(true);
+
+        // then
+        assertThatThrownBy(() -> paymentService.refundVerification(request))
+                .isExactlyInstanceOf(RefundVerificationBlockedException.class);
+        verifyNoInteractions(verificationCodeRepository);
+    }
+
+    @DisplayName("Redis 로 옮기기 전에 남은 시도 횟수가 줄어든 결제건은 쓴 횟수부터 이어서 센다")
+    @Test
+    void refundVerificationSeedsRefundFailure() {
+        // given
+        RefundVerificationRequest request = new RefundVerificationRequest(MERCHANT_UID.toString(), "000000");
+        Payment payment = new Payment(AMOUNT, ITEM_NAME, MERCHANT_UID);
+        payment.updateRefundFailure(new RefundFailure(7));
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy(10, Duration.ofDays(8), Duration.ofDays(8));
+
+        // when
+        when(paymentRepository.findByMerchantUidWithRefundFailure(Mockito.any(UUID.class)))
+                .thenReturn(
+                        Optional.of(payment));
+
+        when(rateLimitProperties.getRefundVerification())
+                .thenReturn(policy);
+
+        when(verificationCodeRepository.findById(Mockito.anyString()))
+                .thenReturn(
+                        Optional.of(new VerificationCode(MERCHANT_UID.toString(), "123456")));
+
+        when(attemptLimiter.attempt(Mockito.anyString(), Mockito.any()))
+                .thenReturn(6L);
+
+        // then
+        assertThatThrownBy(() -> paymentService.refundVerification(request))
+                .isExactlyInstanceOf(VerificationFailedException.class)
+                .extracting("remainTryCount").isEqualTo(6);
+        verify(attemptLimiter).seedIfAbsent("refundVerification:" + MERCHANT_UID, policy, 3L);
+    }
+
+    @DisplayName("Redis 로 옮기기 전에 실패 이력으로 차단된 결제건은 계속 인증할 수 없다")
+    @Test
+    void refundVerificationBlockedByRefundFailure() {
+        // given
+        RefundVerificationRequest request = new RefundVerificationRequest(MERCHANT_UID.toString(), "123456");
+        Payment payment = new Payment(AMOUNT, ITEM_NAME, MERCHANT_UID);
+        payment.updateRefundFailure(new RefundFailure(0));
+
+        // when
+        when(paymentRepository.findByMerchantUidWithRefundFailure(Mockito.any(UUID.class)))
+                .thenReturn(
+                        Optional.of(payment));
+
+        // then
+        assertThatThrownBy(() -> paymentService.refundVerification(request))
+                .isExactlyInstanceOf(RefundVerificationBlockedException.class);
+        verifyNoInteractions(verificationCodeRepository);
+    }
+
     @DisplayName("환불 엑세스 토큰이 유효하면 환불 대상 정보를 조회한다")
     @Test
     void refundInfo() {
@@ -319,9 +489,40 @@ class PaymentServiceTest {
 
         when(paymentServiceConnector.requestPaymentRefund(Mockito.any(UUID.class)))
                 .thenReturn(new PaymentInfo(UUID.fromString(merchantUid), PaymentStatus.CANCELLED, amount, ITEM_NAME, IMP_UID, MODULE));
+        when(paymentRepository.updateStatusIfPaid(Mockito.any(UUID.class), Mockito.anyString(),
+                Mockito.any(PaymentStatus.class), Mockito.any(PaymentStatus.class)))
+                .thenReturn(1);
+        when(memberRepository.reducePointIfEnough(Mockito.any(), Mockito.anyLong()))
+                .thenReturn(1);
 
         // then
         assertThatCode(() -> paymentService.refundPayment(request))
                 .doesNotThrowAnyException();
     }
+
+    @DisplayName("다른 요청이 먼저 환불했다면 포인트를 다시 차감하지 않는다")
+    @Test
+    void refundPaymentAlreadyCancelledByOtherRequest() {
+        // given
+        String merchantUid = UUID.randomUUID().toString();
+        VerifiedRefunder request = new VerifiedRefunder(merchantUid);
+        long amount = 10_000L;
+        Payment payment = new Payment(1L, amount, ITEM_NAME, IMP_UID, UUID.fromString(merchantUid));
+        Member member = MemberTest.testMemberWithAvailablePoint(amount);
+        payment.to(member);
+
+        when(paymentRepository.findByMerchantUid(Mockito.any(UUID.class)))
+                .thenReturn(Optional.of(payment));
+        when(paymentServiceConnector.requestPaymentRefund(Mockito.any(UUID.class)))
+                .thenReturn(new PaymentInfo(UUID.fromString(merchantUid), PaymentStatus.CANCELLED, amount, ITEM_NAME, IMP_UID, MODULE));
+        when(paymentRepository.updateStatusIfPaid(Mockito.any(UUID.class), Mockito.anyString(),
+                Mockito.any(PaymentStatus.class), Mockito.any(PaymentStatus.class)))
+                .thenReturn(0);
+
+        // when
+        // then
+        assertThatThrownBy(() -> paymentService.refundPayment(request))
+                .isExactlyInstanceOf(PaymentAlreadyCancelledException.class);
+        verify(memberRepository, Mockito.never()).reducePointIfEnough(Mockito.any(), Mockito.anyLong());
+    }
 }
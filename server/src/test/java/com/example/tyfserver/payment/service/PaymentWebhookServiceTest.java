@@ -0,0 +1,198 @@
+package com.example.tyfserver.payment.service;
+
+import com.example.tyfserver.DatabaseCleanup;
+import com.example.tyfserver.common.util.SmtpMailConnector;
+import com.example.tyfserver.member.domain.Member;
+import com.example.tyfserver.member.domain.MemberTest;
+import com.example.tyfserver.member.repository.MemberRepository;
+import com.example.tyfserver.payment.domain.Item;
+import com.example.tyfserver.payment.domain.Payment;
+import com.example.tyfserver.payment.domain.PaymentInfo;
+import com.example.tyfserver.payment.domain.PaymentServiceConnector;
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import com.example.tyfserver.payment.dto.PaymentCompleteRequest;
+import com.example.tyfserver.payment.dto.PaymentWebhookRequest;
+import com.example.tyfserver.payment.exception.PaymentWebhookBusyException;
+import com.example.tyfserver.payment.repository.PaymentRepository;
+import com.example.tyfserver.payment.util.TaxIncludedCalculator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PaymentWebhookServiceTest {
+
+    private static final long AMOUNT = Item.ITEM_1.getItemPrice();
+    private static final String ITEM_NAME = Item.ITEM_1.getItemName();
+    private static final String IMP_UID = "imp_uid";
+    private static final String MODULE = "테스트모듈";
+
+    @Autowired
+    private PaymentService paymentService;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @MockBean
+    private PaymentServiceConnector paymentServiceConnector;
+    @MockBean
+    private SmtpMailConnector smtpMailConnector;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentWebhookService paymentWebhookService;
+    private Member member;
+    private UUID merchantUid;
+    private PaymentWebhookRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        paymentWebhookService = new PaymentWebhookService(paymentService, paymentRepository, redisTemplate,
+                Runnable::run, meterRegistry);
+
+        member = memberRepository.save(MemberTest.testMember());
+        merchantUid = UUID.randomUUID();
+        Payment payment = new Payment(AMOUNT, ITEM_NAME, merchantUid);
+        member.addPayment(payment);
+        paymentRepository.save(payment);
+
+        request = new PaymentWebhookRequest(IMP_UID, merchantUid.toString(), "paid");
+        when(paymentServiceConnector.requestPaymentInfo(merchantUid))
+                .thenReturn(new PaymentInfo(merchantUid, PaymentStatus.PAID, AMOUNT, ITEM_NAME, IMP_UID, MODULE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.cleanUp();
+    }
+
+    @Test
+    @DisplayName("같은 결제건의 웹훅이 여러 번 와도 한 번만 처리된다.")
+    public void receiveDuplicatedWebhook() {
+        //when
+        paymentWebhookService.receive(request);
+        paymentWebhookService.receive(request);
+        paymentWebhookService.receive(request);
+
+        //then
+        verify(paymentServiceConnector, times(1)).requestPaymentInfo(merchantUid);
+        assertThat(paymentRepository.findStatusByMerchantUid(merchantUid)).contains(PaymentStatus.PAID);
+        assertThat(memberRepository.findById(member.getId()).get().getPoint())
+                .isEqualTo(TaxIncludedCalculator.detachTax(AMOUNT));
+        assertThat(meterRegistry.counter("payment.webhook", "result", "duplicate").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("중복 확인 키가 만료된 뒤 다시 온 웹훅은 결제모듈 조회 없이 넘어간다.")
+    public void replayAfterDeduplicationExpired() {
+        //given
+        paymentWebhookService.receive(request);
+        redisTemplate.delete(redisTemplate.keys("paymentWebhook:*"));
+
+        //when
+        paymentWebhookService.receive(request);
+
+        //then
+        verify(paymentServiceConnector, times(1)).requestPaymentInfo(merchantUid);
+        assertThat(meterRegistry.counter("payment.webhook", "result", "skipped").count()).isEqualTo(1);
+        assertThat(memberRepository.findById(member.getId()).get().getPoint())
+                .isEqualTo(TaxIncludedCalculator.detachTax(AMOUNT));
+    }
+
+    @Test
+    @DisplayName("웹훅 처리에 실패하면 재전송된 웹훅을 다시 처리할 수 있다.")
+    public void retryAfterFailure() {
+        //given
+        when(paymentServiceConnector.requestPaymentInfo(merchantUid))
+                .thenThrow(new IllegalStateException("timeout"))
+                .thenReturn(new PaymentInfo(merchantUid, PaymentStatus.PAID, AMOUNT, ITEM_NAME, IMP_UID, MODULE));
+        paymentWebhookService.receive(request);
+
+        //when
+        paymentWebhookService.receive(request);
+
+        //then
+        assertThat(meterRegistry.counter("payment.webhook", "result", "failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("payment.webhook", "result", "completed").count()).isEqualTo(1);
+        assertThat(paymentRepository.findStatusByMerchantUid(merchantUid)).contains(PaymentStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("작업 큐가 가득 차면 웹훅을 거절하고 재전송을 받을 수 있게 둔다.")
+    public void rejectWhenQueueIsFull() {
+        //given
+        PaymentWebhookService busyService = new PaymentWebhookService(paymentService, paymentRepository, redisTemplate,
+                command -> {
+                    throw new RejectedExecutionException();
+                }, meterRegistry);
+
+        //when //then
+        assertThatThrownBy(() -> busyService.receive(request))
+                .isInstanceOf(PaymentWebhookBusyException.class);
+        assertThat(redisTemplate.keys("paymentWebhook:*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결제 완료 요청과 웹훅이 동시에 들어와도 포인트는 한 번만 적립된다.")
+    public void completeConcurrently() throws InterruptedException {
+        //given
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            boolean webhook = i % 2 == 0;
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                    if (webhook) {
+                        paymentWebhookService.receive(request);
+                    } else {
+                        paymentService.completePayment(new PaymentCompleteRequest(IMP_UID, merchantUid.toString()));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        assertThat(memberRepository.findById(member.getId()).get().getPoint())
+                .isEqualTo(TaxIncludedCalculator.detachTax(AMOUNT));
+        verify(smtpMailConnector, times(1)).sendChargeComplete(Mockito.any(Payment.class));
+    }
+}
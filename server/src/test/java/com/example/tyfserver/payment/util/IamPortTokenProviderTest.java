@@ -0,0 +1,289 @@
+package com.example.tyfserver.payment.util;
+
+import com.example.tyfserver.common.util.ApiSender;
+import com.example.tyfserver.payment.domain.PaymentInfo;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IamPortTokenProviderTest {
+
+    private static final long TOKEN_TTL_SECONDS = 1800L;
+
+    private final AtomicInteger tokenRequestCount = new AtomicInteger();
+    private final Set<String> rejectedTokens = ConcurrentHashMap.newKeySet();
+
+    private HttpServer server;
+    private String apiUrl;
+    private ApiSender apiSender;
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private IamPortTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/users/getToken", this::issueToken);
+        server.createContext("/payments/find", this::findPayment);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        apiUrl = "http://localhost:" + server.getAddress().getPort();
+        clock = new MutableClock(Instant.parse("2021-08-01T00:00:00Z"));
+        apiSender = new ApiSender(new RestTemplate());
+        meterRegistry = new SimpleMeterRegistry();
+        tokenProvider = new IamPortTokenProvider(apiUrl, "apiKey", "apiSecret", apiSender, meterRegistry, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenProvider.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("동시에 토큰을 요청해도 아임포트에는 한 번만 발급을 요청한다.")
+    public void getTokenConcurrently() throws Exception {
+        //given
+        int threadCount = 32;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<String>> tokens = IntStream.range(0, threadCount)
+                .mapToObj(i -> executorService.submit(() -> {
+                    start.await();
+                    return tokenProvider.getToken();
+                }))
+                .collect(Collectors.toList());
+        start.countDown();
+
+        Set<String> issuedTokens = ConcurrentHashMap.newKeySet();
+        for (Future<String> token : tokens) {
+            issuedTokens.add(token.get(5, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(tokenRequestCount.get()).isEqualTo(1);
+        assertThat(issuedTokens).containsExactly("token-1");
+        assertThat(tokenProvider.getToken()).isEqualTo("token-1");
+        assertThat(tokenRequestCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("iamport.token.refresh", "result", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신이 끝나는 순간과 겹쳐 동시에 토큰을 요청해도 모든 요청이 토큰을 받는다.")
+    public void getTokenWhileRefreshCompletes() throws Exception {
+        //given
+        int threadCount = 8;
+        int repeat = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<Integer>> results = IntStream.range(0, threadCount)
+                .mapToObj(i -> executorService.submit(() -> {
+                    start.await();
+                    int received = 0;
+                    for (int j = 0; j < repeat; j++) {
+                        String token = tokenProvider.getToken();
+                        tokenProvider.invalidate(token);
+                        received++;
+                    }
+                    return received;
+                }))
+                .collect(Collectors.toList());
+        start.countDown();
+
+        int received = 0;
+        for (Future<Integer> result : results) {
+            received += result.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(received).isEqualTo(threadCount * repeat);
+    }
+
+    @Test
+    @DisplayName("만료가 가까워지면 기존 토큰을 돌려주면서 백그라운드에서 미리 갱신한다.")
+    public void refreshAheadOfExpiry() throws InterruptedException {
+        //given
+        assertThat(tokenProvider.getToken()).isEqualTo("token-1");
+        clock.plus(Duration.ofSeconds(TOKEN_TTL_SECONDS).minusMinutes(4));
+
+        //when
+        String tokenNearExpiry = tokenProvider.getToken();
+
+        //then
+        assertThat(tokenNearExpiry).isEqualTo("token-1");
+        assertThat(awaitToken("token-2")).isTrue();
+        assertThat(tokenRequestCount.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("iamport.token", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 쓰지 않고 새 토큰을 받아온다.")
+    public void getTokenAfterExpiry() {
+        //given
+        assertThat(tokenProvider.getToken()).isEqualTo("token-1");
+
+        //when
+        clock.plus(Duration.ofSeconds(TOKEN_TTL_SECONDS));
+
+        //then
+        assertThat(tokenProvider.getToken()).isEqualTo("token-2");
+        assertThat(meterRegistry.counter("iamport.token", "result", "miss").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("아임포트가 토큰을 거절하면 새 토큰을 받아 한 번 더 요청한다.")
+    public void retryWithNewTokenOnUnauthorized() {
+        //given
+        IamPortPaymentServiceConnector connector = new IamPortPaymentServiceConnector(apiSender, tokenProvider);
+        ReflectionTestUtils.setField(connector, "apiUrl", apiUrl);
+        UUID merchantUid = UUID.randomUUID();
+
+        assertThat(tokenProvider.getToken()).isEqualTo("token-1");
+        rejectedTokens.add("token-1");
+
+        //when
+        PaymentInfo paymentInfo = connector.requestPaymentInfo(merchantUid);
+
+        //then
+        assertThat(paymentInfo.getMerchantUid()).isEqualTo(merchantUid);
+        assertThat(tokenRequestCount.get()).isEqualTo(2);
+        assertThat(tokenProvider.getToken()).isEqualTo("token-2");
+        assertThat(meterRegistry.counter("iamport.token.invalidated").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰을 무효화해도 현재 토큰은 유지된다.")
+    public void invalidateStaleToken() {
+        //given
+        assertThat(tokenProvider.getToken()).isEqualTo("token-1");
+
+        //when
+        tokenProvider.invalidate("token-0");
+
+        //then
+        assertThat(tokenProvider.getToken()).isEqualTo("token-1");
+        assertThat(tokenRequestCount.get()).isEqualTo(1);
+    }
+
+    private boolean awaitToken(String expected) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            if (expected.equals(tokenProvider.getToken())) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private void issueToken(HttpExchange exchange) throws IOException {
+        int count = tokenRequestCount.incrementAndGet();
+        sleep(100);
+
+        long now = clock.instant().getEpochSecond();
+        JSONObject response = new JSONObject()
+                .put("access_token", "token-" + count)
+                .put("now", now)
+                .put("expired_at", now + TOKEN_TTL_SECONDS);
+        respond(exchange, 200, new JSONObject().put("code", 0).put("response", response).toString());
+    }
+
+    private void findPayment(HttpExchange exchange) throws IOException {
+        String accessToken = exchange.getRequestHeaders().getFirst("Authorization");
+        if (rejectedTokens.contains(accessToken)) {
+            respond(exchange, 401, new JSONObject().put("code", -1).put("message", "Unauthorized").toString());
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        String merchantUid = path.substring(path.lastIndexOf('/') + 1);
+        JSONObject response = new JSONObject()
+                .put("status", "paid")
+                .put("merchant_uid", merchantUid)
+                .put("amount", "10000")
+                .put("name", "creatorPageName")
+                .put("imp_uid", "imp_123");
+        respond(exchange, 200, new JSONObject().put("code", 0).put("response", response).toString());
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plus(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
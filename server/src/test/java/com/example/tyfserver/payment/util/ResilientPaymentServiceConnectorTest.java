@@ -0,0 +1,233 @@
+package com.example.tyfserver.payment.util;
+
+import com.example.tyfserver.common.config.HttpClientProperties;
+import com.example.tyfserver.common.util.ApiSender;
+import com.example.tyfserver.member.exception.AccountInvalidException;
+import com.example.tyfserver.payment.exception.PaymentServiceUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilientPaymentServiceConnectorTest {
+
+    private static final int MINIMUM_CALLS = 4;
+
+    private final AtomicInteger paymentRequestCount = new AtomicInteger();
+    private volatile long latencyMillis = 0L;
+    private volatile int paymentStatusCode = 200;
+
+    private HttpServer server;
+    private IamPortTokenProvider tokenProvider;
+    private ApiSender apiSender;
+    private SimpleMeterRegistry meterRegistry;
+    private ResilientPaymentServiceConnector connector;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/users/getToken", this::issueToken);
+        server.createContext("/payments/find", this::findPayment);
+        server.createContext("/vbanks/holder", exchange -> respond(exchange, 404, "{\"code\":-1}"));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        String apiUrl = "http://localhost:" + server.getAddress().getPort();
+        meterRegistry = new SimpleMeterRegistry();
+        apiSender = ApiSender.pooled("iamport", new HttpClientProperties.Connector(20, 20,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMillis(300)), meterRegistry);
+        tokenProvider = new IamPortTokenProvider(apiUrl, "apiKey", "apiSecret", apiSender, meterRegistry,
+                Clock.systemUTC());
+
+        IamPortPaymentServiceConnector delegate = new IamPortPaymentServiceConnector(apiSender, tokenProvider);
+        ReflectionTestUtils.setField(delegate, "apiUrl", apiUrl);
+
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.from(
+                ResilientPaymentServiceConnector.circuitBreakerConfig())
+                .slidingWindowSize(MINIMUM_CALLS)
+                .minimumNumberOfCalls(MINIMUM_CALLS)
+                .waitDurationInOpenState(Duration.ofMillis(200))
+                .permittedNumberOfCallsInHalfOpenState(1)
+                .build();
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(2)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+        connector = new ResilientPaymentServiceConnector(delegate, circuitBreakerConfig, bulkheadConfig, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        tokenProvider.shutdown();
+        apiSender.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("결제모듈이 5xx 를 계속 응답하면 서킷이 열리고 이후 요청은 결제모듈을 호출하지 않고 바로 실패한다.")
+    public void openOnServerErrors() {
+        //given
+        paymentStatusCode = 500;
+        failRepeatedly(MINIMUM_CALLS);
+
+        //when //then
+        assertThat(connector.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> connector.requestPaymentInfo(UUID.randomUUID()))
+                .isInstanceOf(PaymentServiceUnavailableException.class);
+        assertThat(paymentRequestCount.get()).isEqualTo(MINIMUM_CALLS);
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.state")
+                .tags("name", "paymentServiceConnector", "state", "open").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결제모듈 응답이 read timeout 을 넘기면 실패로 기록되어 서킷이 열린다.")
+    public void openOnTimeouts() {
+        //given
+        latencyMillis = 1000L;
+
+        //when
+        failRepeatedly(MINIMUM_CALLS);
+
+        //then
+        assertThat(connector.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("잘못된 계좌 같은 업무 오류는 실패율에 포함되지 않는다.")
+    public void businessErrorsDoNotOpen() {
+        //when
+        for (int i = 0; i < MINIMUM_CALLS * 2; i++) {
+            assertThatThrownBy(() -> connector.requestHolderNameOfAccount("081", "1234"))
+                    .isInstanceOf(AccountInvalidException.class);
+        }
+
+        //then
+        assertThat(connector.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("열린 서킷은 대기 시간이 지나고 결제모듈이 회복되면 다시 닫힌다.")
+    public void closeAfterRecovery() throws InterruptedException {
+        //given
+        paymentStatusCode = 500;
+        failRepeatedly(MINIMUM_CALLS);
+        paymentStatusCode = 200;
+
+        //when
+        Thread.sleep(300);
+        connector.requestPaymentInfo(UUID.randomUUID());
+
+        //then
+        assertThat(connector.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수가 벌크헤드 한도를 넘으면 초과한 요청은 기다리지 않고 실패한다.")
+    public void bulkheadRejectsExcessCalls() throws Exception {
+        //given
+        latencyMillis = 200L;
+        int threadCount = 6;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        tokenProvider.getToken();
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> connector.requestPaymentInfo(UUID.randomUUID())));
+        }
+
+        int rejected = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(PaymentServiceUnavailableException.class);
+                rejected++;
+            }
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(rejected).isPositive();
+        assertThat(paymentRequestCount.get()).isLessThanOrEqualTo(threadCount - rejected);
+        assertThat(connector.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void failRepeatedly(int count) {
+        for (int i = 0; i < count; i++) {
+            assertThatThrownBy(() -> connector.requestPaymentInfo(UUID.randomUUID()))
+                    .isNotInstanceOf(PaymentServiceUnavailableException.class);
+        }
+    }
+
+    private void issueToken(HttpExchange exchange) throws IOException {
+        long now = System.currentTimeMillis() / 1000;
+        JSONObject response = new JSONObject()
+                .put("access_token", "token")
+                .put("now", now)
+                .put("expired_at", now + 1800);
+        respond(exchange, 200, new JSONObject().put("code", 0).put("response", response).toString());
+    }
+
+    private void findPayment(HttpExchange exchange) throws IOException {
+        paymentRequestCount.incrementAndGet();
+        sleep(latencyMillis);
+        if (paymentStatusCode != 200) {
+            respond(exchange, paymentStatusCode, "{\"code\":-1}");
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        JSONObject response = new JSONObject()
+                .put("status", "paid")
+                .put("merchant_uid", path.substring(path.lastIndexOf('/') + 1))
+                .put("amount", "10000")
+                .put("name", "creatorPageName")
+                .put("imp_uid", "imp_123");
+        respond(exchange, 200, new JSONObject().put("code", 0).put("response", response).toString());
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
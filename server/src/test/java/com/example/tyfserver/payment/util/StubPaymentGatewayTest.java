@@ -0,0 +1,133 @@
+package com.example.tyfserver.payment.util;
+
+import com.example.tyfserver.common.config.HttpClientProperties;
+import com.example.tyfserver.common.util.ApiSender;
+import com.example.tyfserver.member.exception.AccountInvalidException;
+import com.example.tyfserver.payment.config.StubPaymentGatewayProperties;
+import com.example.tyfserver.payment.config.StubPaymentGatewayProperties.Endpoint;
+import com.example.tyfserver.payment.domain.Item;
+import com.example.tyfserver.payment.domain.PaymentInfo;
+import com.example.tyfserver.payment.domain.PaymentStatus;
+import com.example.tyfserver.payment.dto.PaymentPreparedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import supports.SliceTest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SliceTest
+class StubPaymentGatewayTest {
+
+    private static final long AMOUNT = Item.ITEM_1.getItemPrice();
+    private static final String ITEM_NAME = Item.ITEM_1.getItemName();
+    private static final Endpoint NO_DELAY = new Endpoint(Duration.ZERO, Duration.ZERO, 0.0);
+
+    private StubPaymentGateway stubPaymentGateway;
+    private ApiSender apiSender;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        stubPaymentGateway.stop();
+        apiSender.close();
+    }
+
+    @Test
+    @DisplayName("결제 조회와 취소는 주문 정보의 금액과 상품명으로 응답한다.")
+    public void findAndCancel() throws IOException {
+        //given
+        UUID merchantUid = UUID.randomUUID();
+        MockPaymentServiceConnector connector = start(NO_DELAY, 0.0);
+        stubPaymentGateway.prepare(new PaymentPreparedEvent(merchantUid, AMOUNT, ITEM_NAME));
+
+        //when
+        PaymentInfo paid = connector.requestPaymentInfo(merchantUid);
+        PaymentInfo cancelled = connector.requestPaymentRefund(merchantUid);
+
+        //then
+        assertThat(paid.getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(paid.getMerchantUid()).isEqualTo(merchantUid);
+        assertThat(paid.getAmount()).isEqualTo(AMOUNT);
+        assertThat(paid.getItemName()).isEqualTo(ITEM_NAME);
+        assertThat(cancelled.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("준비되지 않은 결제를 조회하면 404 로 응답한다.")
+    public void findNotPrepared() throws IOException {
+        //given
+        MockPaymentServiceConnector connector = start(NO_DELAY, 0.0);
+
+        //when //then
+        assertThatThrownBy(() -> connector.requestPaymentInfo(UUID.randomUUID()))
+                .isInstanceOf(HttpClientErrorException.NotFound.class);
+    }
+
+    @Test
+    @DisplayName("예금주 조회는 설정한 예금주로 응답하고, 잘못된 계좌 비율만큼 계좌 오류를 낸다.")
+    public void holder() throws IOException {
+        //given
+        MockPaymentServiceConnector valid = start(NO_DELAY, 0.0);
+
+        //when //then
+        assertThat(valid.requestHolderNameOfAccount("081", "1234").getResponse().getBank_holder())
+                .isEqualTo("예금주");
+
+        tearDown();
+        MockPaymentServiceConnector invalid = start(NO_DELAY, 1.0);
+        assertThatThrownBy(() -> invalid.requestHolderNameOfAccount("081", "1234"))
+                .isInstanceOf(AccountInvalidException.class);
+    }
+
+    @Test
+    @DisplayName("설정한 오류 비율만큼 5xx 로 응답한다.")
+    public void errorRate() throws IOException {
+        //given
+        MockPaymentServiceConnector connector = start(new Endpoint(Duration.ZERO, Duration.ZERO, 1.0), 0.0);
+
+        //when //then
+        assertThatThrownBy(() -> connector.requestPaymentInfo(UUID.randomUUID()))
+                .isInstanceOf(HttpServerErrorException.class);
+    }
+
+    @Test
+    @DisplayName("설정한 지연 분포만큼 늦게 응답한다.")
+    public void latency() throws IOException {
+        //given
+        UUID merchantUid = UUID.randomUUID();
+        MockPaymentServiceConnector connector = start(
+                new Endpoint(Duration.ofMillis(200), Duration.ofMillis(200), 0.0), 0.0);
+        stubPaymentGateway.prepare(new PaymentPreparedEvent(merchantUid, AMOUNT, ITEM_NAME));
+
+        //when
+        long start = System.nanoTime();
+        connector.requestPaymentInfo(merchantUid);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        //then
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(200);
+    }
+
+    private MockPaymentServiceConnector start(Endpoint find, double invalidAccountRate) throws IOException {
+        StubPaymentGatewayProperties properties = new StubPaymentGatewayProperties(0, find, NO_DELAY, NO_DELAY,
+                "예금주", invalidAccountRate);
+        stubPaymentGateway = new StubPaymentGateway(properties, new ObjectMapper());
+        stubPaymentGateway.start();
+
+        apiSender = ApiSender.pooled("tyf-pay", new HttpClientProperties.Connector(10, 10,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(2)), new SimpleMeterRegistry());
+        MockPaymentServiceConnector connector = new MockPaymentServiceConnector(apiSender);
+        ReflectionTestUtils.setField(connector, "TYF_PAY_API_URL", "http://localhost:" + stubPaymentGateway.getPort());
+        return connector;
+    }
+}
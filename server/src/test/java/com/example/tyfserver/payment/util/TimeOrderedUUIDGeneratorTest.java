@@ -0,0 +1,55 @@
+package com.example.tyfserver.payment.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedUUIDGeneratorTest {
+
+    @Test
+    @DisplayName("RFC 9562 의 버전 7, variant 2 형식으로 만든다.")
+    public void versionAndVariant() {
+        //when
+        UUID uuid = TimeOrderedUUIDGenerator.generate();
+
+        //then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("앞 48비트에 밀리초 타임스탬프가 들어간다.")
+    public void timestampPrefix() {
+        //given
+        long epochMillis = System.currentTimeMillis();
+
+        //when
+        UUID uuid = new TimeOrderedUUIDGenerator().next(epochMillis);
+
+        //then
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(epochMillis);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초 안에서 만들어도 중복 없이 항상 커지는 순서를 지킨다.")
+    public void monotonicWithinSameMillis() {
+        //given
+        long epochMillis = System.currentTimeMillis();
+        TimeOrderedUUIDGenerator generator = new TimeOrderedUUIDGenerator();
+        Set<UUID> generated = new HashSet<>();
+        UUID previous = generator.next(epochMillis);
+
+        //when //then
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.next(epochMillis);
+            assertThat(next.getMostSignificantBits()).isGreaterThan(previous.getMostSignificantBits());
+            assertThat(generated.add(next)).isTrue();
+            previous = next;
+        }
+    }
+}
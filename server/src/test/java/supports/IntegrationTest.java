@@ -2,6 +2,7 @@ package supports;
 
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.lang.annotation.ElementType;
@@ -14,5 +15,7 @@ import java.lang.annotation.Target;
 @ActiveProfiles("test")
 @Transactional
 @SpringBootTest
+@TestExecutionListeners(value = RedisCleanupListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
 public @interface IntegrationTest {
 }
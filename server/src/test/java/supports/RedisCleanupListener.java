@@ -0,0 +1,21 @@
+package supports;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+/**
+ * 롤백되는 테스트라도 Redis 에 남은 캐시나 랭킹은 지워지지 않으므로 테스트마다 비운다.
+ */
+public class RedisCleanupListener extends AbstractTestExecutionListener {
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        RedisConnectionFactory connectionFactory = testContext.getApplicationContext()
+                .getBean(RedisConnectionFactory.class);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.flushDb();
+        }
+    }
+}